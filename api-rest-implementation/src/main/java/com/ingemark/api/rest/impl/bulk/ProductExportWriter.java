@@ -0,0 +1,92 @@
+package com.ingemark.api.rest.impl.bulk;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.ingemark.api.rest.impl.dto.ProductResponse;
+import com.ingemark.api.rest.impl.mapper.ProductApiMapper;
+import com.ingemark.application.service.ProductService;
+import com.ingemark.domain.model.Product;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+@Component
+public class ProductExportWriter {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String CSV_HEADER = "id,code,name,priceInEur,priceInUsd,available";
+
+    private final ProductService productService;
+    private final ProductApiMapper productApiMapper;
+    private final ObjectWriter ndjsonWriter;
+
+    public ProductExportWriter(ProductService productService, ProductApiMapper productApiMapper, ObjectMapper objectMapper) {
+        this.productService = productService;
+        this.productApiMapper = productApiMapper;
+        this.ndjsonWriter = objectMapper.writerFor(ProductResponse.class).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    public void write(ProductFileFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+
+        if (format == ProductFileFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        try {
+            productService.exportProducts(product -> writeRow(format, writer, product));
+        } catch (UncheckedIOException exception) {
+            throw exception.getCause();
+        }
+
+        writer.flush();
+    }
+
+    private void writeRow(ProductFileFormat format, Writer writer, Product product) {
+        ProductResponse productResponse = productApiMapper.mapToProductApiResponse(product);
+
+        try {
+            if (format == ProductFileFormat.CSV) {
+                writeCsvRow(writer, productResponse);
+            } else {
+                ndjsonWriter.writeValue(writer, productResponse);
+            }
+            writer.write('\n');
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private void writeCsvRow(Writer writer, ProductResponse productResponse) throws IOException {
+        writer.write(String.valueOf(productResponse.getId()));
+        writer.write(',');
+        writer.write(escapeCsv(productResponse.getCode()));
+        writer.write(',');
+        writer.write(escapeCsv(productResponse.getName()));
+        writer.write(',');
+        writer.write(productResponse.getPriceInEur() == null ? "" : productResponse.getPriceInEur().toPlainString());
+        writer.write(',');
+        writer.write(productResponse.getPriceInUsd() == null ? "" : productResponse.getPriceInUsd().toPlainString());
+        writer.write(',');
+        writer.write(String.valueOf(productResponse.isAvailable()));
+    }
+
+    private String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,41 @@
+package com.ingemark.api.rest.impl.bulk;
+
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+public enum ProductFileFormat {
+    NDJSON("ndjson", MediaType.APPLICATION_NDJSON),
+    CSV("csv", new MediaType("text", "csv", StandardCharsets.UTF_8));
+
+    private final String value;
+    private final MediaType mediaType;
+
+    ProductFileFormat(String value, MediaType mediaType) {
+        this.value = value;
+        this.mediaType = mediaType;
+    }
+
+    public static ProductFileFormat fromValue(String value) {
+        return Arrays.stream(values())
+                .filter(format -> format.value.equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported file format '" + value + "', supported formats are ndjson and csv"));
+    }
+
+    public static ProductFileFormat fromMediaType(MediaType contentType) {
+        return Arrays.stream(values())
+                .filter(format -> format.mediaType.isCompatibleWith(contentType))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported content type '" + contentType + "', supported types are application/x-ndjson and text/csv"));
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+}
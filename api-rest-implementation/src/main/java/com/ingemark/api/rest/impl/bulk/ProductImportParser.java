@@ -0,0 +1,34 @@
+package com.ingemark.api.rest.impl.bulk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.ingemark.api.rest.impl.dto.ProductRequest;
+import com.ingemark.api.rest.impl.mapper.ProductApiMapper;
+import jakarta.validation.Validator;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+@Component
+public class ProductImportParser {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ObjectReader productRequestReader;
+    private final Validator validator;
+    private final ProductApiMapper productApiMapper;
+
+    public ProductImportParser(ObjectMapper objectMapper, Validator validator, ProductApiMapper productApiMapper) {
+        this.productRequestReader = objectMapper.readerFor(ProductRequest.class);
+        this.validator = validator;
+        this.productApiMapper = productApiMapper;
+    }
+
+    public ProductImportReader parse(ProductFileFormat format, InputStream inputStream) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+
+        return new ProductImportReader(format, reader, productRequestReader, validator, productApiMapper);
+    }
+}
@@ -0,0 +1,240 @@
+package com.ingemark.api.rest.impl.bulk;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.ingemark.api.rest.impl.dto.ProductRequest;
+import com.ingemark.api.rest.impl.mapper.ProductApiMapper;
+import com.ingemark.application.importing.ProductImportRow;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+public class ProductImportReader implements Iterator<ProductImportRow> {
+    private static final List<String> CSV_COLUMNS = List.of("code", "name", "priceInEur", "available");
+    private static final int MAX_RECORD_LENGTH = 64 * 1024;
+
+    private final ProductFileFormat format;
+    private final BufferedReader reader;
+    private final ObjectReader productRequestReader;
+    private final Validator validator;
+    private final ProductApiMapper productApiMapper;
+
+    private Map<String, Integer> csvColumnIndexes;
+    private String nextLine;
+    private long lineNumber;
+    private long recordLineNumber;
+
+    ProductImportReader(ProductFileFormat format, BufferedReader reader, ObjectReader productRequestReader,
+                        Validator validator, ProductApiMapper productApiMapper) {
+        this.format = format;
+        this.reader = reader;
+        this.productRequestReader = productRequestReader;
+        this.validator = validator;
+        this.productApiMapper = productApiMapper;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextLine == null) {
+            nextLine = readNextDataLine();
+        }
+
+        return nextLine != null;
+    }
+
+    @Override
+    public ProductImportRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        String line = nextLine;
+        nextLine = null;
+
+        return toImportRow(line);
+    }
+
+    private String readNextDataLine() {
+        try {
+            String line;
+            while ((line = format == ProductFileFormat.CSV ? reader.readLine() : readCappedLine()) != null) {
+                lineNumber++;
+
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                recordLineNumber = lineNumber;
+                if (format == ProductFileFormat.CSV) {
+                    line = joinQuotedLineBreaks(line);
+                }
+
+                if (format == ProductFileFormat.CSV && csvColumnIndexes == null) {
+                    csvColumnIndexes = readCsvHeader(line);
+                    continue;
+                }
+
+                return line;
+            }
+            return null;
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    // An NDJSON line is read up to one character past the cap and the rest is skipped, so a huge line cannot exhaust memory
+    private String readCappedLine() throws IOException {
+        StringBuilder line = new StringBuilder();
+        int character;
+        while ((character = reader.read()) != -1 && character != '\n') {
+            if (line.length() <= MAX_RECORD_LENGTH) {
+                line.append((char) character);
+            }
+        }
+
+        if (character == -1 && line.isEmpty()) {
+            return null;
+        }
+        if (!line.isEmpty() && line.charAt(line.length() - 1) == '\r') {
+            line.setLength(line.length() - 1);
+        }
+
+        return line.toString();
+    }
+
+    // A quoted CSV value may span lines, they are joined until its quote is closed, the file ends or the record grows too long
+    private String joinQuotedLineBreaks(String line) throws IOException {
+        int quotes = countQuotes(line);
+        if (quotes % 2 == 0) {
+            return line;
+        }
+
+        StringBuilder record = new StringBuilder(line);
+        String continuation;
+        while (quotes % 2 != 0 && record.length() <= MAX_RECORD_LENGTH && (continuation = reader.readLine()) != null) {
+            lineNumber++;
+            record.append('\n').append(continuation);
+            quotes += countQuotes(continuation);
+        }
+
+        return record.toString();
+    }
+
+    private static int countQuotes(String line) {
+        return (int) line.chars().filter(character -> character == '"').count();
+    }
+
+    private ProductImportRow toImportRow(String line) {
+        if (format == ProductFileFormat.NDJSON && line.length() > MAX_RECORD_LENGTH) {
+            return ProductImportRow.invalid(recordLineNumber, null, List.of("Line is longer than " + MAX_RECORD_LENGTH + " characters"));
+        }
+
+        ProductRequest productRequest;
+
+        try {
+            productRequest = format == ProductFileFormat.CSV ? parseCsvLine(line) : productRequestReader.readValue(line);
+        } catch (JsonProcessingException exception) {
+            return ProductImportRow.invalid(recordLineNumber, null, List.of("Malformed JSON: " + exception.getOriginalMessage()));
+        } catch (IllegalArgumentException exception) {
+            return ProductImportRow.invalid(recordLineNumber, null, List.of(exception.getMessage()));
+        }
+
+        Set<ConstraintViolation<ProductRequest>> violations = validator.validate(productRequest);
+        if (!violations.isEmpty()) {
+            return ProductImportRow.invalid(recordLineNumber, productRequest.getCode(), violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .toList());
+        }
+
+        return ProductImportRow.valid(recordLineNumber, productApiMapper.mapToProductCreateCommand(productRequest));
+    }
+
+    private Map<String, Integer> readCsvHeader(String line) {
+        List<String> header = splitCsvLine(line);
+        Map<String, Integer> columnIndexes = new HashMap<>();
+
+        for (String column : CSV_COLUMNS) {
+            int index = header.indexOf(column);
+            if (index < 0) {
+                throw new IllegalArgumentException("CSV header should contain the columns " + String.join(",", CSV_COLUMNS));
+            }
+            columnIndexes.put(column, index);
+        }
+
+        return columnIndexes;
+    }
+
+    private ProductRequest parseCsvLine(String line) {
+        if (countQuotes(line) % 2 != 0) {
+            throw new IllegalArgumentException("CSV record has an unclosed quoted value");
+        }
+
+        List<String> values = splitCsvLine(line);
+
+        if (values.size() < csvColumnIndexes.size()) {
+            throw new IllegalArgumentException("Expected " + CSV_COLUMNS.size() + " columns but found " + values.size());
+        }
+
+        String priceInEur = csvValue(values, "priceInEur");
+        String available = csvValue(values, "available");
+
+        try {
+            return new ProductRequest(
+                    csvValue(values, "code"),
+                    csvValue(values, "name"),
+                    priceInEur == null ? null : new BigDecimal(priceInEur),
+                    Boolean.parseBoolean(available));
+        } catch (NumberFormatException exception) {
+            throw new IllegalArgumentException("Price in EUR attribute should be a number");
+        }
+    }
+
+    private String csvValue(List<String> values, String column) {
+        String value = values.get(csvColumnIndexes.get(column));
+
+        return value.isEmpty() ? null : value;
+    }
+
+    private List<String> splitCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char character = line.charAt(i);
+
+            if (quoted) {
+                if (character == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else if (character == '"') {
+                    quoted = false;
+                } else {
+                    value.append(character);
+                }
+            } else if (character == '"') {
+                quoted = true;
+            } else if (character == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(character);
+            }
+        }
+        values.add(value.toString());
+
+        return values;
+    }
+}
@@ -1,12 +1,36 @@
 package com.ingemark.api.rest.impl.controller;
 
 import com.ingemark.application.command.ProductCreateCommand;
+import com.ingemark.api.rest.impl.dto.ProductBatchItemResponse;
+import com.ingemark.api.rest.impl.dto.ProductBatchRequest;
+import com.ingemark.api.rest.impl.dto.ProductBatchResponse;
+import com.ingemark.api.rest.impl.dto.ProductCodeLookupRequest;
+import com.ingemark.api.rest.impl.dto.ProductIdLookupRequest;
+import com.ingemark.api.rest.impl.dto.ProductImportErrorResponse;
+import com.ingemark.api.rest.impl.dto.ProductImportResponse;
+import com.ingemark.api.rest.impl.dto.ProductLookupItemResponse;
+import com.ingemark.api.rest.impl.dto.ProductLookupResponse;
 import com.ingemark.api.rest.impl.dto.ProductResponse;
+import com.ingemark.api.rest.impl.bulk.ProductFileFormat;
+import com.ingemark.api.rest.impl.bulk.ProductExportWriter;
+import com.ingemark.api.rest.impl.bulk.ProductImportParser;
+import com.ingemark.api.rest.impl.bulk.ProductImportReader;
 import com.ingemark.api.rest.impl.mapper.ProductApiMapper;
 import com.ingemark.domain.model.Product;
+import com.ingemark.domain.model.ProductVersion;
+import com.ingemark.domain.model.ProductView;
 import com.ingemark.domain.pagination.PaginatedResult;
 import com.ingemark.domain.pagination.PaginationRequest;
+import com.ingemark.domain.pagination.ProductFilter;
+import com.ingemark.domain.pagination.ProductSearchRequest;
 import com.ingemark.api.rest.impl.dto.ProductRequest;
+import com.ingemark.application.exchange.PriceConversion;
+import com.ingemark.application.importing.ProductImportReport;
+import com.ingemark.application.importing.ProductImportService;
+import com.ingemark.application.request.SupportedCurrency;
+import com.ingemark.application.result.ProductCreateResult;
+import com.ingemark.application.result.ProductLookupResult;
+import com.ingemark.application.service.ProductQueryService;
 import com.ingemark.application.service.ProductService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -16,13 +40,23 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
+import java.math.BigDecimal;
 import java.net.URI;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.IntFunction;
 
 @RestController
 @RequestMapping("/api/v1/products")
@@ -31,11 +65,21 @@ public class ProductController {
     private static final Logger log = LoggerFactory.getLogger(ProductController.class);
 
     private final ProductService productService;
+    private final ProductQueryService productQueryService;
     private final ProductApiMapper productApiMapper;
+    private final ProductExportWriter productExportWriter;
+    private final ProductImportService productImportService;
+    private final ProductImportParser productImportParser;
 
-    public ProductController(ProductService productService, ProductApiMapper productApiMapper) {
+    public ProductController(ProductService productService, ProductQueryService productQueryService, ProductApiMapper productApiMapper,
+                             ProductExportWriter productExportWriter, ProductImportService productImportService,
+                             ProductImportParser productImportParser) {
         this.productService = productService;
+        this.productQueryService = productQueryService;
         this.productApiMapper = productApiMapper;
+        this.productExportWriter = productExportWriter;
+        this.productImportService = productImportService;
+        this.productImportParser = productImportParser;
     }
 
     @PostMapping
@@ -70,70 +114,351 @@ public class ProductController {
         return ResponseEntity.created(location).body(productResponse);
     }
 
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Create a batch of products",
+            description = "Only admins can create products. Each item is reported as CREATED or CONFLICT",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Products to be created (at most 1000)",
+                    required = true,
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ProductBatchRequest.class)
+                    )
+            ),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Batch processed, see per item status"),
+                    @ApiResponse(responseCode = "400", description = "Invalid input - bad request"),
+                    @ApiResponse(responseCode = "401", description = "UnAuthorized"),
+                    @ApiResponse(responseCode = "403", description = "Forbidden"),
+                    @ApiResponse(responseCode = "503", description = "Service not available")
+            })
+    public ResponseEntity<ProductBatchResponse> createProducts(@Validated @RequestBody ProductBatchRequest productBatchRequest) {
+        log.info("Received request to create batch of products: {}", productBatchRequest);
+
+        List<ProductCreateCommand> productCreateCommands = productApiMapper.mapToProductCreateCommands(productBatchRequest.getProducts());
+        List<ProductCreateResult> createResults = productService.createNewProducts(productCreateCommands);
+
+        List<ProductBatchItemResponse> items = new ArrayList<>(createResults.size());
+        int createdCount = 0;
+
+        for (int i = 0; i < createResults.size(); i++) {
+            ProductCreateResult createResult = createResults.get(i);
+            ProductResponse productResponse = null;
+
+            if (createResult.isCreated()) {
+                productResponse = productApiMapper.mapToProductApiResponse(createResult.product());
+                createdCount++;
+            }
+
+            items.add(new ProductBatchItemResponse(i, createResult.code(), createResult.status().name(), productResponse, createResult.message()));
+        }
+
+        return ResponseEntity.ok(new ProductBatchResponse(items, createdCount, items.size() - createdCount));
+    }
+
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Import products from a file",
+            description = "Only admins can import products. The body is NDJSON (one product per line) or CSV with a "
+                    + "code,name,priceInEur,available header. Rows are committed in chunks and reported per line",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Import finished, see report for rejected rows"),
+                    @ApiResponse(responseCode = "400", description = "Invalid file - bad request"),
+                    @ApiResponse(responseCode = "401", description = "UnAuthorized"),
+                    @ApiResponse(responseCode = "403", description = "Forbidden"),
+                    @ApiResponse(responseCode = "415", description = "Unsupported media type"),
+                    @ApiResponse(responseCode = "503", description = "Service not available")
+            })
+    public ResponseEntity<ProductImportResponse> importProducts(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                                InputStream inputStream) {
+        log.info("Received request to import products as {}", contentType);
+
+        ProductFileFormat format = ProductFileFormat.fromMediaType(MediaType.parseMediaType(contentType));
+        ProductImportReader importReader = productImportParser.parse(format, inputStream);
+        ProductImportReport importReport = productImportService.importProducts(importReader);
+
+        List<ProductImportErrorResponse> errors = importReport.getErrors()
+                .stream()
+                .map(error -> new ProductImportErrorResponse(error.lineNumber(), error.code(), error.message()))
+                .toList();
+
+        return ResponseEntity.ok(new ProductImportResponse(importReport.getProcessedRows(), importReport.getImportedRows(),
+                importReport.getRejectedRows(), importReport.getCommittedChunks(), errors, importReport.isErrorsTruncated()));
+    }
+
     @GetMapping("/by-id/{id}")
     @Operation(summary = "Get product by ID", description = "Fetches a product using its ID",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Product response successfully fetched"),
+                    @ApiResponse(responseCode = "304", description = "Not modified since the ETag or date sent in If-None-Match/If-Modified-Since"),
                     @ApiResponse(responseCode = "401", description = "UnAuthorized"),
                     @ApiResponse(responseCode = "404", description = "Product with the given id not found"),
+                    @ApiResponse(responseCode = "503", description = "Exchange rate for the requested currency not available"),
             })
     public ResponseEntity<ProductResponse> getProductById(
             @Parameter(description = "Product ID", required = true)
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            @Parameter(description = "Also return each price converted from EUR into this currency (EUR, USD or GBP)")
+            @RequestParam(required = false) String currency,
+            WebRequest webRequest) {
         log.info("Fetching product by ID: {}", id);
 
-        Product fetchedDomainProduct = productService.getProductById(id);
-        ProductResponse productApiResponse = productApiMapper.mapToProductApiResponse(fetchedDomainProduct);
+        PriceConversion conversion = resolvePriceConversion(currency);
+        if (isConditional(webRequest)
+                && isNotModified(webRequest, productQueryService.getProductVersionById(id), conversion)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
 
-        return ResponseEntity.ok(productApiResponse);
+        ProductView fetchedProduct = productQueryService.getProductById(id);
+        return conditionalResponse(fetchedProduct, conversion);
     }
 
     @GetMapping("/by-code/{code}")
     @Operation(summary = "Get product by code", description = "Fetches a product using its unique code",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Product response successfully fetched"),
+                    @ApiResponse(responseCode = "304", description = "Not modified since the ETag or date sent in If-None-Match/If-Modified-Since"),
                     @ApiResponse(responseCode = "401", description = "UnAuthorized"),
                     @ApiResponse(responseCode = "404", description = "Product with the given code not found"),
+                    @ApiResponse(responseCode = "503", description = "Exchange rate for the requested currency not available"),
             })
     public ResponseEntity<ProductResponse> getProductByCode(
             @Parameter(description = "Product code", required = true)
-            @PathVariable String code) {
+            @PathVariable String code,
+            @Parameter(description = "Also return each price converted from EUR into this currency (EUR, USD or GBP)")
+            @RequestParam(required = false) String currency,
+            WebRequest webRequest) {
         log.info("Fetching product by code: {}", code);
 
-        Product fetchedDomainProduct = productService.getProductByCode(code);
-        ProductResponse productApiResponse = productApiMapper.mapToProductApiResponse(fetchedDomainProduct);
+        PriceConversion conversion = resolvePriceConversion(currency);
+        if (isConditional(webRequest)
+                && isNotModified(webRequest, productQueryService.getProductVersionByCode(code), conversion)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
+        ProductView fetchedProduct = productQueryService.getProductByCode(code);
+        return conditionalResponse(fetchedProduct, conversion);
+    }
+
+    @PostMapping("/lookup/by-ids")
+    @Operation(summary = "Get many products by ID",
+            description = "Resolves up to 500 ids with one query. Items follow the request order and unknown ids are reported as MISSING",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Product ids to look up",
+                    required = true,
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ProductIdLookupRequest.class)
+                    )
+            ),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Lookup processed, see per item status"),
+                    @ApiResponse(responseCode = "400", description = "Invalid input - bad request"),
+                    @ApiResponse(responseCode = "401", description = "UnAuthorized"),
+            })
+    public ResponseEntity<ProductLookupResponse> lookupProductsByIds(@Validated @RequestBody ProductIdLookupRequest lookupRequest) {
+        log.info("Looking up products by ID: {}", lookupRequest);
+
+        List<Long> ids = lookupRequest.getIds();
+        List<ProductLookupResult> lookupResults = productQueryService.lookupByIds(ids);
+
+        return ResponseEntity.ok(buildLookupResponse(lookupResults, ids::get, index -> null));
+    }
+
+    @PostMapping("/lookup/by-codes")
+    @Operation(summary = "Get many products by code",
+            description = "Resolves up to 500 codes with one query. Items follow the request order and unknown codes are reported as MISSING",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Product codes to look up",
+                    required = true,
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ProductCodeLookupRequest.class)
+                    )
+            ),
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Lookup processed, see per item status"),
+                    @ApiResponse(responseCode = "400", description = "Invalid input - bad request"),
+                    @ApiResponse(responseCode = "401", description = "UnAuthorized"),
+            })
+    public ResponseEntity<ProductLookupResponse> lookupProductsByCodes(@Validated @RequestBody ProductCodeLookupRequest lookupRequest) {
+        log.info("Looking up products by code: {}", lookupRequest);
+
+        List<String> codes = lookupRequest.getCodes();
+        List<ProductLookupResult> lookupResults = productQueryService.lookupByCodes(codes);
 
-        return ResponseEntity.ok(productApiResponse);
+        return ResponseEntity.ok(buildLookupResponse(lookupResults, index -> null, codes::get));
     }
 
     @GetMapping
-    @Operation(summary = "List all products", description = "Returns a paginated list of products",
+    @Operation(summary = "List all products", description = "Returns a paginated list of products, optionally filtered by availability and price range",
             responses = {
                     @ApiResponse(responseCode = "200", description = "Product response successfully fetched"),
+                    @ApiResponse(responseCode = "304", description = "Not modified since the ETag or date sent in If-None-Match/If-Modified-Since"),
+                    @ApiResponse(responseCode = "400", description = "Invalid paging, sorting, filter or currency values"),
                     @ApiResponse(responseCode = "401", description = "UnAuthorized"),
+                    @ApiResponse(responseCode = "503", description = "Exchange rate for the requested currency not available"),
             })
     public ResponseEntity<PaginatedResult<ProductResponse>> listProducts(
             @Parameter(description = "Page number (starting from 0)")
             @RequestParam(defaultValue = "0") int page,
-            @Parameter(description = "Number of items per page")
+            @Parameter(description = "Number of items per page (1 - " + PaginationRequest.MAX_PAGE_SIZE + ")")
             @RequestParam(defaultValue = "10") int size,
-            @Parameter(description = "Sort by field")
+            @Parameter(description = "Sort by field: id, code, name, priceInEur or priceInUsd")
             @RequestParam(defaultValue = "id") String sortBy,
             @Parameter(description = "Sort direction: ASC or DESC")
-            @RequestParam(defaultValue = "ASC") String sortDir) {
+            @RequestParam(defaultValue = "ASC") String sortDir,
+            @Parameter(description = "Cursor from the previous response (nextCursor). Pass an empty value to start cursor paging; page is then ignored")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Whether to return totalElements/totalPages. With false no count is done and only hasNext is reported")
+            @RequestParam(defaultValue = "true") boolean includeTotal,
+            @Parameter(description = "Only products with the given availability")
+            @RequestParam(required = false) Boolean available,
+            @Parameter(description = "Minimum price in EUR (inclusive)")
+            @RequestParam(required = false) BigDecimal minPriceEur,
+            @Parameter(description = "Maximum price in EUR (inclusive)")
+            @RequestParam(required = false) BigDecimal maxPriceEur,
+            @Parameter(description = "Minimum price in USD (inclusive)")
+            @RequestParam(required = false) BigDecimal minPriceUsd,
+            @Parameter(description = "Maximum price in USD (inclusive)")
+            @RequestParam(required = false) BigDecimal maxPriceUsd,
+            @Parameter(description = "Also return each price converted from EUR into this currency (EUR, USD or GBP)")
+            @RequestParam(required = false) String currency,
+            WebRequest webRequest) {
 
-        log.info("Listing all products - page: {}, size: {}, sortBy: {}, sortDir: {}", page, size, sortBy, sortDir);
+        ProductFilter filter = new ProductFilter(available, minPriceEur, maxPriceEur, minPriceUsd, maxPriceUsd);
+        log.info("Listing all products - page: {}, size: {}, sortBy: {}, sortDir: {}, cursor: {}, includeTotal: {}, filter: {}, currency: {}", page, size, sortBy, sortDir, cursor, includeTotal, filter, currency);
 
-        PaginationRequest pagination = new PaginationRequest(page, size, sortBy, sortDir);
-        PaginatedResult<Product> fetchedProducts = productService.getAllProducts(pagination);
+        PaginationRequest pagination = new PaginationRequest(page, size, sortBy, sortDir, cursor, includeTotal, filter);
+        PriceConversion conversion = resolvePriceConversion(currency);
+        PaginatedResult<ProductView> fetchedProducts = productQueryService.getAllProducts(pagination);
 
-        List<ProductResponse> productsApiResponse = fetchedProducts.getItems()
-                .stream()
-                .map(productApiMapper::mapToProductApiResponse)
-                .toList();
+        String eTag = ProductETags.withConversion(ProductETags.of(fetchedProducts), conversion);
+        Instant lastModified = conversion == null ? ProductETags.lastModified(fetchedProducts) : null;
+        if (isNotModified(webRequest, eTag, lastModified)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+
+        List<ProductResponse> productsApiResponse =
+                productApiMapper.mapViewsToProductApiResponses(fetchedProducts.getItems(), conversion);
 
         log.debug("Fetched {} products", productsApiResponse.size());
 
-        return ResponseEntity.ok(new PaginatedResult<>(productsApiResponse, fetchedProducts.getTotalElements(), fetchedProducts.getTotalPages()));
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(eTag);
+        if (lastModified != null) {
+            response.lastModified(lastModified);
+        }
+
+        return response.body(fetchedProducts.withItems(productsApiResponse));
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Search products", description = "Finds products whose name contains the query or whose code starts with it, "
+            + "most relevant first. Only the first " + ProductSearchRequest.MAX_RESULTS + " matches can be paged through",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Matching products successfully fetched"),
+                    @ApiResponse(responseCode = "400", description = "Query too short or too long, or page beyond the result limit"),
+                    @ApiResponse(responseCode = "401", description = "UnAuthorized"),
+                    @ApiResponse(responseCode = "503", description = "Exchange rate for the requested currency not available"),
+            })
+    public ResponseEntity<PaginatedResult<ProductResponse>> searchProducts(
+            @Parameter(description = "Name fragment or code prefix (" + ProductSearchRequest.MIN_QUERY_LENGTH + " - "
+                    + ProductSearchRequest.MAX_QUERY_LENGTH + " characters)", required = true)
+            @RequestParam(required = false) String q,
+            @Parameter(description = "Page number (starting from 0)")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Number of items per page (1 - " + PaginationRequest.MAX_PAGE_SIZE + ")")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Also return each price converted from EUR into this currency (EUR, USD or GBP)")
+            @RequestParam(required = false) String currency) {
+        log.info("Searching products - q: {}, page: {}, size: {}, currency: {}", q, page, size, currency);
+
+        ProductSearchRequest searchRequest = new ProductSearchRequest(q, page, size);
+        PriceConversion conversion = resolvePriceConversion(currency);
+        PaginatedResult<ProductView> foundProducts = productQueryService.searchProducts(searchRequest);
+
+        List<ProductResponse> productsApiResponse =
+                productApiMapper.mapViewsToProductApiResponses(foundProducts.getItems(), conversion);
+
+        return ResponseEntity.ok(foundProducts.withItems(productsApiResponse));
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Export all products", description = "Streams the whole catalog as NDJSON or CSV without paging",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Products streamed"),
+                    @ApiResponse(responseCode = "400", description = "Unsupported export format"),
+                    @ApiResponse(responseCode = "401", description = "UnAuthorized"),
+            })
+    public ResponseEntity<StreamingResponseBody> exportProducts(
+            @Parameter(description = "Export format: ndjson or csv")
+            @RequestParam(defaultValue = "ndjson") String format) {
+        log.info("Exporting all products as {}", format);
+
+        ProductFileFormat exportFormat = ProductFileFormat.fromValue(format);
+        StreamingResponseBody responseBody = outputStream -> productExportWriter.write(exportFormat, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"products." + exportFormat.getValue() + "\"")
+                .body(responseBody);
+    }
+
+    private ResponseEntity<ProductResponse> conditionalResponse(ProductView product, PriceConversion conversion) {
+        ProductResponse productApiResponse = productApiMapper.mapViewToProductApiResponse(product, conversion);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(ProductETags.withConversion(ProductETags.of(product.toVersion()), conversion));
+        if (conversion == null) {
+            response.lastModified(product.updatedAt());
+        }
+
+        return response.body(productApiResponse);
+    }
+
+    // The rate is resolved once per request, before any rows are read
+    private PriceConversion resolvePriceConversion(String currency) {
+        return currency == null ? null : productQueryService.getPriceConversion(SupportedCurrency.fromCode(currency));
+    }
+
+    // The version is only looked up ahead of the product when the client can revalidate, otherwise the loaded view
+    // provides the ETag and Last-Modified
+    private static boolean isConditional(WebRequest webRequest) {
+        return webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null || webRequest.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
+
+    private static boolean isNotModified(WebRequest webRequest, ProductVersion version, PriceConversion conversion) {
+        return isNotModified(webRequest, ProductETags.withConversion(ProductETags.of(version), conversion),
+                conversion == null ? version.updatedAt() : null);
+    }
+
+    // A converted response depends on the rate as well, so it is only validated by its ETag
+    private static boolean isNotModified(WebRequest webRequest, String eTag, Instant lastModified) {
+        return lastModified == null
+                ? webRequest.checkNotModified(eTag)
+                : webRequest.checkNotModified(eTag, lastModified.toEpochMilli());
+    }
+
+    private ProductLookupResponse buildLookupResponse(List<ProductLookupResult> lookupResults, IntFunction<Long> requestedId,
+                                                      IntFunction<String> requestedCode) {
+        List<ProductLookupItemResponse> items = new ArrayList<>(lookupResults.size());
+        int foundCount = 0;
+
+        for (int i = 0; i < lookupResults.size(); i++) {
+            ProductLookupResult lookupResult = lookupResults.get(i);
+
+            if (lookupResult.isFound()) {
+                ProductView product = lookupResult.product();
+                items.add(new ProductLookupItemResponse(i, product.id(), product.code(), lookupResult.status().name(),
+                        productApiMapper.mapViewToProductApiResponse(product)));
+                foundCount++;
+            } else {
+                items.add(new ProductLookupItemResponse(i, requestedId.apply(i), requestedCode.apply(i),
+                        lookupResult.status().name(), null));
+            }
+        }
+
+        return new ProductLookupResponse(items, foundCount, items.size() - foundCount);
     }
-}
\ No newline at end of file
+}
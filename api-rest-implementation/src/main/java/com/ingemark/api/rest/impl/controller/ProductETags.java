@@ -0,0 +1,49 @@
+package com.ingemark.api.rest.impl.controller;
+
+import com.ingemark.application.exchange.PriceConversion;
+import com.ingemark.domain.model.ProductVersion;
+import com.ingemark.domain.model.ProductView;
+import com.ingemark.domain.pagination.PaginatedResult;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+public final class ProductETags {
+
+    private ProductETags() {
+    }
+
+    public static String of(ProductVersion version) {
+        return "\"" + version.id() + "-" + version.version() + "\"";
+    }
+
+    // A page changes when any item's version, the page composition or the paging metadata changes
+    public static String of(PaginatedResult<ProductView> page) {
+        StringBuilder state = new StringBuilder(page.getItems().size() * 16);
+        for (ProductView view : page.getItems()) {
+            state.append(view.id()).append(':').append(view.version()).append(',');
+        }
+        state.append(page.getTotalElements()).append('|').append(page.isHasNext()).append('|').append(page.getNextCursor());
+
+        return "\"" + DigestUtils.md5DigestAsHex(state.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    // Converted prices change with the rate even when no product does
+    public static String withConversion(String eTag, PriceConversion conversion) {
+        if (conversion == null) {
+            return eTag;
+        }
+
+        return eTag.substring(0, eTag.length() - 1) + "-" + conversion.currency().getCode() + "-"
+                + conversion.rate().stripTrailingZeros().toPlainString() + "\"";
+    }
+
+    public static Instant lastModified(PaginatedResult<ProductView> page) {
+        return page.getItems().stream()
+                .map(ProductView::updatedAt)
+                .filter(updatedAt -> updatedAt != null)
+                .max(Instant::compareTo)
+                .orElse(null);
+    }
+}
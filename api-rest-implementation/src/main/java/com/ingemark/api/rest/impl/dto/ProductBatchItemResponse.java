@@ -0,0 +1,57 @@
+package com.ingemark.api.rest.impl.dto;
+
+public class ProductBatchItemResponse {
+    private int index;
+    private String code;
+    private String status;
+    private ProductResponse product;
+    private String message;
+
+    public ProductBatchItemResponse(int index, String code, String status, ProductResponse product, String message) {
+        this.index = index;
+        this.code = code;
+        this.status = status;
+        this.product = product;
+        this.message = message;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public ProductResponse getProduct() {
+        return product;
+    }
+
+    public void setProduct(ProductResponse product) {
+        this.product = product;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,34 @@
+package com.ingemark.api.rest.impl.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class ProductBatchRequest {
+
+    @NotEmpty(message = "Products attribute should not be empty")
+    @Size(max = 1000, message = "Batch should contain at most 1000 products")
+    private List<@Valid ProductRequest> products;
+
+    public ProductBatchRequest(@JsonProperty("products") List<ProductRequest> products) {
+        this.products = products;
+    }
+
+    public List<ProductRequest> getProducts() {
+        return products;
+    }
+
+    public void setProducts(List<ProductRequest> products) {
+        this.products = products;
+    }
+
+    @Override
+    public String toString() {
+        return "ProductBatchRequest{" +
+                "products=" + (products == null ? 0 : products.size()) +
+                '}';
+    }
+}
@@ -0,0 +1,39 @@
+package com.ingemark.api.rest.impl.dto;
+
+import java.util.List;
+
+public class ProductBatchResponse {
+    private List<ProductBatchItemResponse> items;
+    private int createdCount;
+    private int conflictCount;
+
+    public ProductBatchResponse(List<ProductBatchItemResponse> items, int createdCount, int conflictCount) {
+        this.items = items;
+        this.createdCount = createdCount;
+        this.conflictCount = conflictCount;
+    }
+
+    public List<ProductBatchItemResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<ProductBatchItemResponse> items) {
+        this.items = items;
+    }
+
+    public int getCreatedCount() {
+        return createdCount;
+    }
+
+    public void setCreatedCount(int createdCount) {
+        this.createdCount = createdCount;
+    }
+
+    public int getConflictCount() {
+        return conflictCount;
+    }
+
+    public void setConflictCount(int conflictCount) {
+        this.conflictCount = conflictCount;
+    }
+}
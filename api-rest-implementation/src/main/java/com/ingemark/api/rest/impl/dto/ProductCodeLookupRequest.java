@@ -0,0 +1,34 @@
+package com.ingemark.api.rest.impl.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class ProductCodeLookupRequest {
+
+    @NotEmpty(message = "Codes attribute should not be empty")
+    @Size(max = 500, message = "Lookup should contain at most 500 codes")
+    private List<@NotBlank(message = "Codes should not contain empty values") String> codes;
+
+    public ProductCodeLookupRequest(@JsonProperty("codes") List<String> codes) {
+        this.codes = codes;
+    }
+
+    public List<String> getCodes() {
+        return codes;
+    }
+
+    public void setCodes(List<String> codes) {
+        this.codes = codes;
+    }
+
+    @Override
+    public String toString() {
+        return "ProductCodeLookupRequest{" +
+                "codes=" + (codes == null ? 0 : codes.size()) +
+                '}';
+    }
+}
@@ -0,0 +1,34 @@
+package com.ingemark.api.rest.impl.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class ProductIdLookupRequest {
+
+    @NotEmpty(message = "Ids attribute should not be empty")
+    @Size(max = 500, message = "Lookup should contain at most 500 ids")
+    private List<@NotNull(message = "Ids should not contain empty values") Long> ids;
+
+    public ProductIdLookupRequest(@JsonProperty("ids") List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    @Override
+    public String toString() {
+        return "ProductIdLookupRequest{" +
+                "ids=" + (ids == null ? 0 : ids.size()) +
+                '}';
+    }
+}
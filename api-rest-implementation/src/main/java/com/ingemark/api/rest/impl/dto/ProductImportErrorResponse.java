@@ -0,0 +1,37 @@
+package com.ingemark.api.rest.impl.dto;
+
+public class ProductImportErrorResponse {
+    private long line;
+    private String code;
+    private String message;
+
+    public ProductImportErrorResponse(long line, String code, String message) {
+        this.line = line;
+        this.code = code;
+        this.message = message;
+    }
+
+    public long getLine() {
+        return line;
+    }
+
+    public void setLine(long line) {
+        this.line = line;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,70 @@
+package com.ingemark.api.rest.impl.dto;
+
+import java.util.List;
+
+public class ProductImportResponse {
+    private long processedRows;
+    private long importedRows;
+    private long rejectedRows;
+    private int committedChunks;
+    private List<ProductImportErrorResponse> errors;
+    private boolean errorsTruncated;
+
+    public ProductImportResponse(long processedRows, long importedRows, long rejectedRows, int committedChunks,
+                                 List<ProductImportErrorResponse> errors, boolean errorsTruncated) {
+        this.processedRows = processedRows;
+        this.importedRows = importedRows;
+        this.rejectedRows = rejectedRows;
+        this.committedChunks = committedChunks;
+        this.errors = errors;
+        this.errorsTruncated = errorsTruncated;
+    }
+
+    public long getProcessedRows() {
+        return processedRows;
+    }
+
+    public void setProcessedRows(long processedRows) {
+        this.processedRows = processedRows;
+    }
+
+    public long getImportedRows() {
+        return importedRows;
+    }
+
+    public void setImportedRows(long importedRows) {
+        this.importedRows = importedRows;
+    }
+
+    public long getRejectedRows() {
+        return rejectedRows;
+    }
+
+    public void setRejectedRows(long rejectedRows) {
+        this.rejectedRows = rejectedRows;
+    }
+
+    public int getCommittedChunks() {
+        return committedChunks;
+    }
+
+    public void setCommittedChunks(int committedChunks) {
+        this.committedChunks = committedChunks;
+    }
+
+    public List<ProductImportErrorResponse> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<ProductImportErrorResponse> errors) {
+        this.errors = errors;
+    }
+
+    public boolean isErrorsTruncated() {
+        return errorsTruncated;
+    }
+
+    public void setErrorsTruncated(boolean errorsTruncated) {
+        this.errorsTruncated = errorsTruncated;
+    }
+}
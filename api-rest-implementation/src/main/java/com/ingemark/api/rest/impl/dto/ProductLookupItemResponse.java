@@ -0,0 +1,57 @@
+package com.ingemark.api.rest.impl.dto;
+
+public class ProductLookupItemResponse {
+    private int index;
+    private Long id;
+    private String code;
+    private String status;
+    private ProductResponse product;
+
+    public ProductLookupItemResponse(int index, Long id, String code, String status, ProductResponse product) {
+        this.index = index;
+        this.id = id;
+        this.code = code;
+        this.status = status;
+        this.product = product;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public ProductResponse getProduct() {
+        return product;
+    }
+
+    public void setProduct(ProductResponse product) {
+        this.product = product;
+    }
+}
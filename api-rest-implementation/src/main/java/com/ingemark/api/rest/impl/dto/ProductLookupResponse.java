@@ -0,0 +1,39 @@
+package com.ingemark.api.rest.impl.dto;
+
+import java.util.List;
+
+public class ProductLookupResponse {
+    private List<ProductLookupItemResponse> items;
+    private int foundCount;
+    private int missingCount;
+
+    public ProductLookupResponse(List<ProductLookupItemResponse> items, int foundCount, int missingCount) {
+        this.items = items;
+        this.foundCount = foundCount;
+        this.missingCount = missingCount;
+    }
+
+    public List<ProductLookupItemResponse> getItems() {
+        return items;
+    }
+
+    public void setItems(List<ProductLookupItemResponse> items) {
+        this.items = items;
+    }
+
+    public int getFoundCount() {
+        return foundCount;
+    }
+
+    public void setFoundCount(int foundCount) {
+        this.foundCount = foundCount;
+    }
+
+    public int getMissingCount() {
+        return missingCount;
+    }
+
+    public void setMissingCount(int missingCount) {
+        this.missingCount = missingCount;
+    }
+}
@@ -3,18 +3,21 @@ package com.ingemark.api.rest.impl.dto;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 
 import java.math.BigDecimal;
 
 public class ProductRequest {
 
+    @NotNull(message = "Code attribute should not be empty")
     @Size(min = 10, max = 10, message = "Code attribute should be 10 characters long")
     private String code;
 
     @NotBlank(message = "Name attribute should not be empty")
     private String name;
 
+    @NotNull(message = "Price in EUR attribute should not be empty")
     @Min(value = 0, message = "Price in EUR attribute should be greater than or equal to 0")
     private BigDecimal priceInEur;
 
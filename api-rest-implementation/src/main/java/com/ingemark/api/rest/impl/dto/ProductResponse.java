@@ -1,5 +1,7 @@
 package com.ingemark.api.rest.impl.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.math.BigDecimal;
 
 public class ProductResponse {
@@ -9,6 +11,10 @@ public class ProductResponse {
     private BigDecimal priceInEur;
     private BigDecimal priceInUsd;
     private boolean available;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String currency;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private BigDecimal price;
 
     public ProductResponse(Long id, String code, String name, BigDecimal priceInEur, BigDecimal priceInUsd, boolean available) {
         this.id = id;
@@ -66,4 +72,20 @@ public class ProductResponse {
     public void setAvailable(boolean available) {
         this.available = available;
     }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
 }
@@ -1,14 +1,43 @@
 package com.ingemark.api.rest.impl.mapper;
 
 import com.ingemark.application.command.ProductCreateCommand;
+import com.ingemark.application.exchange.PriceConversion;
 import com.ingemark.api.rest.impl.dto.ProductRequest;
 import com.ingemark.api.rest.impl.dto.ProductResponse;
 import com.ingemark.domain.model.Product;
+import com.ingemark.domain.model.ProductView;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
 
 @Mapper(componentModel = "spring")
 public interface ProductApiMapper {
     ProductCreateCommand mapToProductCreateCommand(ProductRequest productRequest);
 
+    List<ProductCreateCommand> mapToProductCreateCommands(List<ProductRequest> productRequests);
+
+    @Mapping(target = "currency", ignore = true)
+    @Mapping(target = "price", ignore = true)
     ProductResponse mapToProductApiResponse(Product product);
+
+    @Mapping(target = "currency", ignore = true)
+    @Mapping(target = "price", ignore = true)
+    ProductResponse mapViewToProductApiResponse(ProductView productView);
+
+    // Every item of a response is converted with the same rate, resolved once by the caller
+    default List<ProductResponse> mapViewsToProductApiResponses(List<ProductView> productViews, PriceConversion conversion) {
+        return productViews.stream()
+                .map(productView -> mapViewToProductApiResponse(productView, conversion))
+                .toList();
+    }
+
+    default ProductResponse mapViewToProductApiResponse(ProductView productView, PriceConversion conversion) {
+        ProductResponse productResponse = mapViewToProductApiResponse(productView);
+        if (conversion != null) {
+            productResponse.setCurrency(conversion.currency().getCode());
+            productResponse.setPrice(conversion.apply(productView.priceInEur()));
+        }
+        return productResponse;
+    }
 }
@@ -1,31 +1,66 @@
 package com.ingemark.api.rest.impl.controler;
 
 import com.ingemark.api.rest.impl.controller.ProductController;
+import com.ingemark.api.rest.impl.dto.ProductRequest;
 import com.ingemark.api.rest.impl.dto.ProductResponse;
+import com.ingemark.api.rest.impl.bulk.ProductExportWriter;
+import com.ingemark.api.rest.impl.bulk.ProductImportParser;
 import com.ingemark.api.rest.impl.mapper.ProductApiMapper;
+import com.ingemark.application.command.ProductCreateCommand;
 import com.ingemark.application.exception.DuplicateProductCodeException;
 import com.ingemark.application.exception.ProductNotFoundException;
+import com.ingemark.application.exchange.PriceConversion;
+import com.ingemark.application.importing.ProductImportReport;
+import com.ingemark.application.importing.ProductImportRow;
+import com.ingemark.application.importing.ProductImportService;
 import com.ingemark.application.repository.ProductRepository;
+import com.ingemark.application.request.SupportedCurrency;
+import com.ingemark.application.result.ProductCreateResult;
+import com.ingemark.application.result.ProductLookupResult;
+import com.ingemark.application.service.ProductQueryService;
 import com.ingemark.application.service.ProductService;
 import com.ingemark.domain.model.Product;
+import com.ingemark.domain.model.ProductView;
 import com.ingemark.domain.pagination.PaginatedResult;
+import com.ingemark.domain.pagination.ProductFilter;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import static com.ingemark.api.rest.impl.util.TestProductDataFactory.*;
+import static org.hamcrest.Matchers.endsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.argThat;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -33,6 +68,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @WebMvcTest(controllers = ProductController.class)
 @AutoConfigureMockMvc(addFilters = false)
+@Import({ProductExportWriter.class, ProductImportParser.class})
 class ProductControllerTest {
 
     @Autowired
@@ -41,13 +77,19 @@ class ProductControllerTest {
     @MockitoBean
     private ProductService service;
 
-
     @MockitoBean
+    private ProductQueryService queryService;
+
+
+    @MockitoBean(answers = Answers.CALLS_REAL_METHODS)
     ProductApiMapper productApiMapper;
 
     @MockitoBean
     private ProductRepository repo;
 
+    @MockitoBean
+    private ProductImportService productImportService;
+
     @Test
     void createProduct_productIsCreated_returns201Created() throws Exception {
         //given
@@ -90,6 +132,46 @@ class ProductControllerTest {
                 .andExpect(jsonPath("$.error").value(CONFLICT));
     }
 
+    @Test
+    void createProducts_batchWithConflict_returnsPerItemStatus() throws Exception {
+        //given
+        String reqBody = getBatchRequestMockBody();
+
+        Product p = createDomainProduct();
+        when(service.createNewProducts(any())).thenReturn(List.of(
+                ProductCreateResult.created(p),
+                ProductCreateResult.conflict(TEST_PRODUCT_CODE, "Product with the code " + TEST_PRODUCT_CODE + " is duplicated in the batch")));
+
+        ProductResponse response = createProductResponse();
+        when(productApiMapper.mapToProductApiResponse(p)).thenReturn(response);
+
+        //when/then
+        mvc.perform(post("/api/v1/products/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(reqBody))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.createdCount").value(1))
+                .andExpect(jsonPath("$.conflictCount").value(1))
+                .andExpect(jsonPath("$.items[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.items[0].product.id").value(TEST_PRODUCT_ID))
+                .andExpect(jsonPath("$.items[1].index").value(1))
+                .andExpect(jsonPath("$.items[1].status").value("CONFLICT"))
+                .andExpect(jsonPath("$.items[1].code").value(TEST_PRODUCT_CODE));
+    }
+
+    @Test
+    void createProducts_batchContainsInvalidProduct_returns400BadRequest() throws Exception {
+        //given
+        String reqBody = getBatchRequestMockBodyWithInvalidCode();
+
+        //when/then
+        mvc.perform(post("/api/v1/products/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(reqBody))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message[0]").value(INVALID_CODE));
+    }
+
     @ParameterizedTest
     @MethodSource("invalidProductProvider")
     void createProduct_invalidInput_returns400BadRequest() throws Exception {
@@ -109,21 +191,25 @@ class ProductControllerTest {
     @Test
     void getProductById_validProductIdIsAdded_productFoundAndReturned() throws Exception {
         //given
-        Product p = createDomainProduct();
+        ProductView p = createProductView();
         ProductResponse response = createProductResponse();
 
-        when(productApiMapper.mapToProductApiResponse(p)).thenReturn(response);
-        when(service.getProductById(TEST_PRODUCT_ID)).thenReturn(p);
+        when(productApiMapper.mapViewToProductApiResponse(p)).thenReturn(response);
+        when(queryService.getProductById(TEST_PRODUCT_ID)).thenReturn(p);
 
         //when/then
         mvc.perform(get("/api/v1/products/by-id/" + TEST_PRODUCT_ID))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + TEST_PRODUCT_ID + "-" + TEST_PRODUCT_VERSION + "\""))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
                 .andExpect(jsonPath("$.id").value(TEST_PRODUCT_ID))
                 .andExpect(jsonPath("$.code").value(TEST_PRODUCT_CODE))
                 .andExpect(jsonPath("$.name").value(TEST_PRODUCT_NAME))
                 .andExpect(jsonPath("$.priceInEur").value(TEST_PRODUCT_PRICE_EUR))
                 .andExpect(jsonPath("$.priceInUsd").value(TEST_PRODUCT_PRICE_USD))
                 .andExpect(jsonPath("$.available").value(TEST_PRODUCT_AVAILABLE));
+
+        verify(queryService, never()).getProductVersionById(any());
     }
 
     @Test
@@ -131,7 +217,7 @@ class ProductControllerTest {
         //given
         Long id = 2L;
 
-        when(service.getProductById(id)).thenThrow(ProductNotFoundException.class);
+        when(queryService.getProductById(id)).thenThrow(ProductNotFoundException.class);
 
         //when/then
         mvc.perform(get("/api/v1/products/by-id/" + id))
@@ -140,14 +226,44 @@ class ProductControllerTest {
                 .andExpect(jsonPath("$.error").value(NOT_FOUND));
     }
 
+    @Test
+    void getProductById_ifNoneMatchesCurrentVersion_returns304WithoutLoadingProduct() throws Exception {
+        //given
+        when(queryService.getProductVersionById(TEST_PRODUCT_ID)).thenReturn(createProductVersion());
+
+        //when/then
+        mvc.perform(get("/api/v1/products/by-id/" + TEST_PRODUCT_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + TEST_PRODUCT_ID + "-" + TEST_PRODUCT_VERSION + "\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(queryService, never()).getProductById(any());
+        verify(productApiMapper, never()).mapViewToProductApiResponse(any());
+    }
+
+    @Test
+    void getProductById_ifNoneMatchesOlderVersion_returns200WithCurrentETag() throws Exception {
+        //given
+        ProductView p = createProductView();
+        when(queryService.getProductVersionById(TEST_PRODUCT_ID)).thenReturn(createProductVersion());
+        when(queryService.getProductById(TEST_PRODUCT_ID)).thenReturn(p);
+        when(productApiMapper.mapViewToProductApiResponse(p)).thenReturn(createProductResponse());
+
+        //when/then
+        mvc.perform(get("/api/v1/products/by-id/" + TEST_PRODUCT_ID)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + TEST_PRODUCT_ID + "-0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + TEST_PRODUCT_ID + "-" + TEST_PRODUCT_VERSION + "\""));
+    }
+
     @Test
     void getProductByCode_validProductCodeIsGiven_productIsFound() throws Exception {
         //given
-        Product p = createDomainProduct();
+        ProductView p = createProductView();
         ProductResponse response = createProductResponse();
 
-        when(productApiMapper.mapToProductApiResponse(p)).thenReturn(response);
-        when(service.getProductByCode(TEST_PRODUCT_CODE)).thenReturn(p);
+        when(productApiMapper.mapViewToProductApiResponse(p)).thenReturn(response);
+        when(queryService.getProductByCode(TEST_PRODUCT_CODE)).thenReturn(p);
 
         //when/then
         mvc.perform(get("/api/v1/products/by-code/" + TEST_PRODUCT_CODE))
@@ -165,7 +281,7 @@ class ProductControllerTest {
         //given
         String testCode = "1234567891";
 
-        when(service.getProductByCode(testCode)).thenThrow(ProductNotFoundException.class);
+        when(queryService.getProductByCode(testCode)).thenThrow(ProductNotFoundException.class);
 
         //when/then
         mvc.perform(get("/api/v1/products/by-code/" + testCode))
@@ -177,15 +293,15 @@ class ProductControllerTest {
     @Test
     void listProducts_validRequest_returnsPaginatedProductList() throws Exception {
         // given
-        Product product = createDomainProduct();
+        ProductView product = createProductView();
         ProductResponse response = createProductResponse();
 
-        List<Product> domainProducts = List.of(product);
+        List<ProductView> domainProducts = List.of(product);
 
-        PaginatedResult<Product> domainResult = new PaginatedResult<>(domainProducts, 1L, 1);
-        when(service.getAllProducts(any())).thenReturn(domainResult);
+        PaginatedResult<ProductView> domainResult = new PaginatedResult<>(domainProducts, 1L, 1);
+        when(queryService.getAllProducts(any())).thenReturn(domainResult);
 
-        when(productApiMapper.mapToProductApiResponse(product)).thenReturn(response);
+        when(productApiMapper.mapViewToProductApiResponse(product)).thenReturn(response);
 
         // When/Then
         mvc.perform(get("/api/v1/products")
@@ -205,6 +321,438 @@ class ProductControllerTest {
                 .andExpect(jsonPath("$.items[0].available").value(TEST_PRODUCT_AVAILABLE));
     }
 
+    @Test
+    void listProducts_cursorRequested_returnsNextCursor() throws Exception {
+        // given
+        ProductView product = createProductView();
+        ProductResponse response = createProductResponse();
+
+        PaginatedResult<ProductView> domainResult = new PaginatedResult<>(List.of(product), 2L, 2, true, "bmV4dA");
+        when(queryService.getAllProducts(any())).thenReturn(domainResult);
+
+        when(productApiMapper.mapViewToProductApiResponse(product)).thenReturn(response);
+
+        // When/Then
+        mvc.perform(get("/api/v1/products")
+                        .param("size", "1")
+                        .param("cursor", "")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor").value("bmV4dA"))
+                .andExpect(jsonPath("$.items[0].id").value(TEST_PRODUCT_ID));
+    }
+
+    @Test
+    void listProducts_ifNoneMatchesPageETag_returns304WithoutMappingItems() throws Exception {
+        //given
+        PaginatedResult<ProductView> domainResult = new PaginatedResult<>(List.of(createProductView()), 1L, 1);
+        when(queryService.getAllProducts(any())).thenReturn(domainResult);
+
+        String eTag = mvc.perform(get("/api/v1/products"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        clearInvocations(productApiMapper);
+
+        //when/then
+        mvc.perform(get("/api/v1/products")
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        verify(productApiMapper, never()).mapViewToProductApiResponse(any());
+    }
+
+    @Test
+    void lookupProductsByCodes_oneCodeMissing_itemsFollowRequestOrderWithMissingMarker() throws Exception {
+        //given
+        ProductView product = createProductView();
+        when(queryService.lookupByCodes(List.of("MISSING001", TEST_PRODUCT_CODE)))
+                .thenReturn(List.of(ProductLookupResult.missing(), ProductLookupResult.found(product)));
+        when(productApiMapper.mapViewToProductApiResponse(product)).thenReturn(createProductResponse());
+
+        //when/then
+        mvc.perform(post("/api/v1/products/lookup/by-codes")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"codes\": [\"MISSING001\", \"" + TEST_PRODUCT_CODE + "\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.foundCount").value(1))
+                .andExpect(jsonPath("$.missingCount").value(1))
+                .andExpect(jsonPath("$.items[0].code").value("MISSING001"))
+                .andExpect(jsonPath("$.items[0].status").value("MISSING"))
+                .andExpect(jsonPath("$.items[0].product").doesNotExist())
+                .andExpect(jsonPath("$.items[1].id").value(TEST_PRODUCT_ID))
+                .andExpect(jsonPath("$.items[1].status").value("FOUND"))
+                .andExpect(jsonPath("$.items[1].product.name").value(TEST_PRODUCT_NAME));
+    }
+
+    @Test
+    void lookupProductsByIds_emptyIds_returns400BadRequest() throws Exception {
+        //when/then
+        mvc.perform(post("/api/v1/products/lookup/by-ids")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": []}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value(BAD_REQUEST));
+    }
+
+    @Test
+    void listProducts_pageSizeAboveLimit_returns400BadRequest() throws Exception {
+        //when/then
+        mvc.perform(get("/api/v1/products")
+                        .param("size", "500000"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value(BAD_REQUEST));
+    }
+
+    @Test
+    void searchProducts_validQuery_returnsMatchingProductsWithoutTotal() throws Exception {
+        //given
+        ProductView product = createProductView();
+        when(queryService.searchProducts(any())).thenReturn(PaginatedResult.withUnknownTotal(List.of(product), true, null));
+        when(productApiMapper.mapViewToProductApiResponse(product)).thenReturn(createProductResponse());
+
+        //when/then
+        mvc.perform(get("/api/v1/products/search")
+                        .param("q", "Test")
+                        .param("size", "1")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].code").value(TEST_PRODUCT_CODE))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+
+    @Test
+    void searchProducts_queryTooShort_returns400BadRequest() throws Exception {
+        //when/then
+        mvc.perform(get("/api/v1/products/search")
+                        .param("q", "ab"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value(BAD_REQUEST));
+
+        verifyNoInteractions(queryService);
+    }
+
+    @Test
+    void searchProducts_queryMissing_returns400BadRequest() throws Exception {
+        //when/then
+        mvc.perform(get("/api/v1/products/search"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value(BAD_REQUEST));
+
+        verifyNoInteractions(queryService);
+    }
+
+    @Test
+    void searchProducts_pageBeyondResultLimit_returns400BadRequest() throws Exception {
+        //when/then
+        mvc.perform(get("/api/v1/products/search")
+                        .param("q", "coffee")
+                        .param("page", "50")
+                        .param("size", "100"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value(BAD_REQUEST));
+    }
+
+    @Test
+    void listProducts_sortByUnindexedField_returns400BadRequest() throws Exception {
+        //when/then
+        mvc.perform(get("/api/v1/products")
+                        .param("sortBy", "available"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value(BAD_REQUEST));
+
+        verifyNoInteractions(queryService);
+    }
+
+    @Test
+    void listProducts_filterParamsGiven_filterIsPassedToQueryService() throws Exception {
+        //given
+        ProductView product = createProductView();
+        when(queryService.getAllProducts(any())).thenReturn(new PaginatedResult<>(List.of(product), 1L, 1));
+        when(productApiMapper.mapViewToProductApiResponse(product)).thenReturn(createProductResponse());
+
+        //when
+        mvc.perform(get("/api/v1/products")
+                        .param("available", "true")
+                        .param("minPriceEur", "10")
+                        .param("maxPriceEur", "20.50")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(TEST_PRODUCT_ID));
+
+        //then
+        verify(queryService).getAllProducts(argThat(pagination -> pagination.getFilter().equals(
+                new ProductFilter(true, new BigDecimal("10"), new BigDecimal("20.50"), null, null))));
+    }
+
+    @Test
+    void listProducts_minPriceAboveMaxPrice_returns400BadRequest() throws Exception {
+        //when/then
+        mvc.perform(get("/api/v1/products")
+                        .param("minPriceEur", "50")
+                        .param("maxPriceEur", "10"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value(BAD_REQUEST));
+
+        verifyNoInteractions(queryService);
+    }
+
+    @Test
+    void listProducts_malformedFilterValue_returns400BadRequest() throws Exception {
+        //when/then
+        mvc.perform(get("/api/v1/products")
+                        .param("available", "maybe")
+                        .param("minPriceEur", "ten"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value(BAD_REQUEST));
+
+        verifyNoInteractions(queryService);
+    }
+
+    @Test
+    void listProducts_currencyRequested_pageIsConvertedWithOneRateLookup() throws Exception {
+        //given
+        ProductView product = createProductView();
+        when(queryService.getPriceConversion(SupportedCurrency.GBP))
+                .thenReturn(new PriceConversion(SupportedCurrency.GBP, new BigDecimal("0.85")));
+        when(queryService.getAllProducts(any())).thenReturn(new PaginatedResult<>(List.of(product, product), 2L, 1));
+        when(productApiMapper.mapViewToProductApiResponse(product))
+                .thenReturn(createProductResponse(), createProductResponse());
+
+        //when
+        mvc.perform(get("/api/v1/products")
+                        .param("currency", "gbp")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, endsWith("-GBP-0.85\"")))
+                .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED))
+                .andExpect(jsonPath("$.items[0].currency").value("GBP"))
+                .andExpect(jsonPath("$.items[0].price").value(new BigDecimal("85.01")))
+                .andExpect(jsonPath("$.items[1].price").value(new BigDecimal("85.01")))
+                .andExpect(jsonPath("$.items[0].priceInEur").value(TEST_PRODUCT_PRICE_EUR));
+
+        //then
+        verify(queryService).getPriceConversion(SupportedCurrency.GBP);
+    }
+
+    @Test
+    void listProducts_withoutCurrency_convertedPriceIsOmitted() throws Exception {
+        //given
+        ProductView product = createProductView();
+        when(queryService.getAllProducts(any())).thenReturn(new PaginatedResult<>(List.of(product), 1L, 1));
+        when(productApiMapper.mapViewToProductApiResponse(product)).thenReturn(createProductResponse());
+
+        //when
+        mvc.perform(get("/api/v1/products")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].price").doesNotExist())
+                .andExpect(jsonPath("$.items[0].currency").doesNotExist());
+
+        //then
+        verify(queryService, never()).getPriceConversion(any());
+    }
+
+    @Test
+    void getProductById_unsupportedCurrency_returns400BadRequest() throws Exception {
+        //when/then
+        mvc.perform(get("/api/v1/products/by-id/{id}", TEST_PRODUCT_ID)
+                        .param("currency", "JPY"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value(BAD_REQUEST));
+
+        verifyNoInteractions(queryService);
+    }
+
+    @Test
+    void exportProducts_ndjsonRequested_streamsOneJsonObjectPerLine() throws Exception {
+        //given
+        Product product = createDomainProduct();
+        mockExportedProducts(product);
+        when(productApiMapper.mapToProductApiResponse(product)).thenReturn(createProductResponse());
+
+        //when
+        MvcResult mvcResult = mvc.perform(get("/api/v1/products/export").param("format", "ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        //then
+        mvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(startsWith("{\"id\":" + TEST_PRODUCT_ID + ",\"code\":\"" + TEST_PRODUCT_CODE + "\"")))
+                .andExpect(content().string(endsWith("}\n")));
+    }
+
+    @Test
+    void exportProducts_csvRequested_streamsHeaderAndRows() throws Exception {
+        //given
+        Product product = createDomainProduct();
+        mockExportedProducts(product);
+        when(productApiMapper.mapToProductApiResponse(product)).thenReturn(createProductResponse());
+
+        //when
+        MvcResult mvcResult = mvc.perform(get("/api/v1/products/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        //then
+        mvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().string("""
+                        id,code,name,priceInEur,priceInUsd,available
+                        1,PROD123456,Test Product,100.01,110.01,true
+                        """));
+    }
+
+    @Test
+    void exportProducts_unknownFormat_returns400BadRequest() throws Exception {
+        //when/then
+        mvc.perform(get("/api/v1/products/export").param("format", "xml"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void importProducts_csvUploaded_rowsAreParsedAndReportIsReturned() throws Exception {
+        //given
+        String csv = """
+                code,name,priceInEur,available
+                PROD123456,Test Product,100.01,true
+                PROD,Test Product,100.01,true
+                """;
+
+        ProductCreateCommand command = new ProductCreateCommand(TEST_PRODUCT_CODE, TEST_PRODUCT_NAME, TEST_PRODUCT_PRICE_EUR, true);
+        when(productApiMapper.mapToProductCreateCommand(any())).thenReturn(command);
+
+        List<ProductImportRow> importedRows = new ArrayList<>();
+        doAnswer(invocation -> {
+            Iterator<ProductImportRow> rows = invocation.getArgument(0);
+            rows.forEachRemaining(importedRows::add);
+            return new ProductImportReport(10);
+        }).when(productImportService).importProducts(any());
+
+        //when/then
+        mvc.perform(post("/api/v1/products/import")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.errorsTruncated").value(false));
+
+        assertEquals(2, importedRows.size());
+        assertTrue(importedRows.get(0).isValid());
+        assertEquals(2, importedRows.get(0).lineNumber());
+        assertFalse(importedRows.get(1).isValid());
+        assertEquals(3, importedRows.get(1).lineNumber());
+        assertEquals(List.of(INVALID_CODE), importedRows.get(1).errors());
+    }
+
+    @Test
+    void importProducts_csvValueWithLineBreak_recordIsParsedAcrossLines() throws Exception {
+        //given
+        String csv = """
+                code,name,priceInEur,available
+                PROD123456,"Test
+                Product",100.01,true
+                PROD123457,"Unclosed,100.01,true
+                """;
+
+        ArgumentCaptor<ProductRequest> productRequestCaptor = ArgumentCaptor.forClass(ProductRequest.class);
+        when(productApiMapper.mapToProductCreateCommand(productRequestCaptor.capture()))
+                .thenReturn(new ProductCreateCommand(TEST_PRODUCT_CODE, TEST_PRODUCT_NAME, TEST_PRODUCT_PRICE_EUR, true));
+
+        List<ProductImportRow> importedRows = new ArrayList<>();
+        doAnswer(invocation -> {
+            Iterator<ProductImportRow> rows = invocation.getArgument(0);
+            rows.forEachRemaining(importedRows::add);
+            return new ProductImportReport(10);
+        }).when(productImportService).importProducts(any());
+
+        //when/then
+        mvc.perform(post("/api/v1/products/import")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk());
+
+        assertEquals(2, importedRows.size());
+        assertTrue(importedRows.get(0).isValid());
+        assertEquals(2, importedRows.get(0).lineNumber());
+        assertEquals("Test\nProduct", productRequestCaptor.getValue().getName());
+        assertFalse(importedRows.get(1).isValid());
+        assertEquals(4, importedRows.get(1).lineNumber());
+    }
+
+    @Test
+    void importProducts_malformedNdjsonLine_rowIsRejected() throws Exception {
+        //given
+        List<ProductImportRow> importedRows = new ArrayList<>();
+        doAnswer(invocation -> {
+            Iterator<ProductImportRow> rows = invocation.getArgument(0);
+            rows.forEachRemaining(importedRows::add);
+            return new ProductImportReport(10);
+        }).when(productImportService).importProducts(any());
+
+        //when/then
+        mvc.perform(post("/api/v1/products/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"code\": \n"))
+                .andExpect(status().isOk());
+
+        assertEquals(1, importedRows.size());
+        assertFalse(importedRows.get(0).isValid());
+    }
+
+    @Test
+    void importProducts_ndjsonLineTooLong_rowIsRejectedAndNextLineIsRead() throws Exception {
+        //given
+        String ndjson = "{\"name\": \"" + "x".repeat(70 * 1024) + "\"}\n{\"code\": \n";
+
+        List<ProductImportRow> importedRows = new ArrayList<>();
+        doAnswer(invocation -> {
+            Iterator<ProductImportRow> rows = invocation.getArgument(0);
+            rows.forEachRemaining(importedRows::add);
+            return new ProductImportReport(10);
+        }).when(productImportService).importProducts(any());
+
+        //when/then
+        mvc.perform(post("/api/v1/products/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(ndjson))
+                .andExpect(status().isOk());
+
+        assertEquals(2, importedRows.size());
+        assertFalse(importedRows.get(0).isValid());
+        assertEquals(1, importedRows.get(0).lineNumber());
+        assertEquals(List.of("Line is longer than 65536 characters"), importedRows.get(0).errors());
+        assertFalse(importedRows.get(1).isValid());
+        assertEquals(2, importedRows.get(1).lineNumber());
+    }
+
+    @Test
+    void importProducts_csvHeaderMissingColumns_returns400BadRequest() throws Exception {
+        //given
+        doAnswer(invocation -> {
+            Iterator<ProductImportRow> rows = invocation.getArgument(0);
+            rows.hasNext();
+            return new ProductImportReport(10);
+        }).when(productImportService).importProducts(any());
+
+        //when/then
+        mvc.perform(post("/api/v1/products/import")
+                        .contentType("text/csv")
+                        .content("code,name\nPROD123456,Test Product\n"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private void mockExportedProducts(Product... products) {
+        doAnswer(invocation -> {
+            Consumer<Product> consumer = invocation.getArgument(0);
+            for (Product product : products) {
+                consumer.accept(product);
+            }
+            return null;
+        }).when(service).exportProducts(any());
+    }
+
     static Stream<InvalidProductInput> invalidProductProvider() {
         return Stream.of(
                 new InvalidProductInput(getRequestMockBodyWithInvalidCode(), INVALID_CODE),
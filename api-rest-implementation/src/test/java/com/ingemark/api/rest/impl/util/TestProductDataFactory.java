@@ -2,8 +2,11 @@ package com.ingemark.api.rest.impl.util;
 
 import com.ingemark.api.rest.impl.dto.ProductResponse;
 import com.ingemark.domain.model.Product;
+import com.ingemark.domain.model.ProductVersion;
+import com.ingemark.domain.model.ProductView;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 
 public final class TestProductDataFactory {
 
@@ -16,6 +19,8 @@ public final class TestProductDataFactory {
     public static final BigDecimal TEST_PRODUCT_PRICE_USD = new BigDecimal("110.01");
     public static final BigDecimal TEST_INVALID_PRODUCT_PRICE_EUR = new BigDecimal("-5");
     public static final boolean TEST_PRODUCT_AVAILABLE = true;
+    public static final long TEST_PRODUCT_VERSION = 2L;
+    public static final Instant TEST_PRODUCT_UPDATED_AT = Instant.parse("2025-06-01T10:00:00Z");
     public static final String NOT_FOUND = "Not Found";
     public static final String BAD_REQUEST = "Bad Request";
     public static final String CONFLICT = "Conflict";
@@ -37,6 +42,23 @@ public final class TestProductDataFactory {
         );
     }
 
+    public static ProductView createProductView() {
+        return new ProductView(
+                TEST_PRODUCT_ID,
+                TEST_PRODUCT_CODE,
+                TEST_PRODUCT_NAME,
+                TEST_PRODUCT_PRICE_EUR,
+                TEST_PRODUCT_PRICE_USD,
+                TEST_PRODUCT_AVAILABLE,
+                TEST_PRODUCT_VERSION,
+                TEST_PRODUCT_UPDATED_AT
+        );
+    }
+
+    public static ProductVersion createProductVersion() {
+        return new ProductVersion(TEST_PRODUCT_ID, TEST_PRODUCT_VERSION, TEST_PRODUCT_UPDATED_AT);
+    }
+
     public static ProductResponse createProductResponse() {
         return new ProductResponse(
                 TEST_PRODUCT_ID,
@@ -64,6 +86,22 @@ public final class TestProductDataFactory {
         );
     }
 
+    public static String getBatchRequestMockBody() {
+        return """
+            {
+              "products": [%s, %s]
+            }
+            """.formatted(getRequestMockBody(), getRequestMockBody());
+    }
+
+    public static String getBatchRequestMockBodyWithInvalidCode() {
+        return """
+            {
+              "products": [%s]
+            }
+            """.formatted(getRequestMockBodyWithInvalidCode());
+    }
+
     public static String getRequestMockBodyWithInvalidCode() {
         return """
             {
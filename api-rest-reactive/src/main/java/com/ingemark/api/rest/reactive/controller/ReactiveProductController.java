@@ -0,0 +1,154 @@
+package com.ingemark.api.rest.reactive.controller;
+
+import com.ingemark.api.rest.impl.controller.ProductETags;
+import com.ingemark.api.rest.impl.dto.ProductRequest;
+import com.ingemark.api.rest.impl.dto.ProductResponse;
+import com.ingemark.api.rest.impl.mapper.ProductApiMapper;
+import com.ingemark.application.reactive.ReactiveProductService;
+import com.ingemark.domain.model.ProductView;
+import com.ingemark.domain.pagination.PaginatedResult;
+import com.ingemark.domain.pagination.PaginationRequest;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/products")
+@Tag(name = "Products v1", description = "API for managing products")
+public class ReactiveProductController {
+    private static final Logger log = LoggerFactory.getLogger(ReactiveProductController.class);
+
+    private final ReactiveProductService productService;
+    private final ProductApiMapper productApiMapper;
+
+    public ReactiveProductController(ReactiveProductService productService, ProductApiMapper productApiMapper) {
+        this.productService = productService;
+        this.productApiMapper = productApiMapper;
+    }
+
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Create a new product",
+            description = "Only admins can create products",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Product data to be created",
+                    required = true,
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ProductRequest.class)
+                    )
+            ),
+            responses = {
+                    @ApiResponse(responseCode = "201", description = "Product successfully created"),
+                    @ApiResponse(responseCode = "400", description = "Invalid input - bad request"),
+                    @ApiResponse(responseCode = "401", description = "UnAuthorized"),
+                    @ApiResponse(responseCode = "403", description = "Forbidden"),
+                    @ApiResponse(responseCode = "409", description = "Conflict - existing product code"),
+                    @ApiResponse(responseCode = "503", description = "Service not available")
+            })
+    public Mono<ResponseEntity<ProductResponse>> createProduct(@Validated @RequestBody ProductRequest productRequest) {
+        log.info("Received request to create product: {}", productRequest);
+
+        return productService.createNewProduct(productApiMapper.mapToProductCreateCommand(productRequest))
+                .map(productApiMapper::mapToProductApiResponse)
+                .map(productResponse -> ResponseEntity
+                        .created(URI.create("/products/" + productResponse.getId()))
+                        .body(productResponse));
+    }
+
+    @GetMapping("/by-id/{id}")
+    @Operation(summary = "Get product by ID", description = "Fetches a product using its ID",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Product response successfully fetched"),
+                    @ApiResponse(responseCode = "304", description = "Not modified since the ETag or date sent in If-None-Match/If-Modified-Since"),
+                    @ApiResponse(responseCode = "401", description = "UnAuthorized"),
+                    @ApiResponse(responseCode = "404", description = "Product with the given id not found"),
+            })
+    public Mono<ResponseEntity<ProductResponse>> getProductById(
+            @Parameter(description = "Product ID", required = true)
+            @PathVariable Long id) {
+        log.info("Fetching product by ID: {}", id);
+
+        return productService.getProductById(id)
+                .map(this::conditionalResponse);
+    }
+
+    @GetMapping("/by-code/{code}")
+    @Operation(summary = "Get product by code", description = "Fetches a product using its unique code",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Product response successfully fetched"),
+                    @ApiResponse(responseCode = "304", description = "Not modified since the ETag or date sent in If-None-Match/If-Modified-Since"),
+                    @ApiResponse(responseCode = "401", description = "UnAuthorized"),
+                    @ApiResponse(responseCode = "404", description = "Product with the given code not found"),
+            })
+    public Mono<ResponseEntity<ProductResponse>> getProductByCode(
+            @Parameter(description = "Product code", required = true)
+            @PathVariable String code) {
+        log.info("Fetching product by code: {}", code);
+
+        return productService.getProductByCode(code)
+                .map(this::conditionalResponse);
+    }
+
+    @GetMapping
+    @Operation(summary = "List all products", description = "Returns a paginated list of products. Only offset paging is supported",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Product response successfully fetched"),
+                    @ApiResponse(responseCode = "304", description = "Not modified since the ETag or date sent in If-None-Match/If-Modified-Since"),
+                    @ApiResponse(responseCode = "400", description = "Invalid paging or sorting values"),
+                    @ApiResponse(responseCode = "401", description = "UnAuthorized"),
+            })
+    public Mono<ResponseEntity<PaginatedResult<ProductResponse>>> listProducts(
+            @Parameter(description = "Page number (starting from 0)")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Number of items per page (1 - " + PaginationRequest.MAX_PAGE_SIZE + ")")
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Sort by field: id, code, name, priceInEur or priceInUsd")
+            @RequestParam(defaultValue = "id") String sortBy,
+            @Parameter(description = "Sort direction: ASC or DESC")
+            @RequestParam(defaultValue = "ASC") String sortDir,
+            @Parameter(description = "Whether to return totalElements/totalPages. With false no count is done and only hasNext is reported")
+            @RequestParam(defaultValue = "true") boolean includeTotal) {
+
+        log.info("Listing all products - page: {}, size: {}, sortBy: {}, sortDir: {}, includeTotal: {}", page, size, sortBy, sortDir, includeTotal);
+
+        return Mono.fromSupplier(() -> new PaginationRequest(page, size, sortBy, sortDir, null, includeTotal))
+                .flatMap(productService::getAllProducts)
+                .map(fetchedProducts -> {
+                    List<ProductResponse> productsApiResponse = fetchedProducts.getItems()
+                            .stream()
+                            .map(productApiMapper::mapViewToProductApiResponse)
+                            .toList();
+
+                    ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(ProductETags.of(fetchedProducts));
+                    Instant lastModified = ProductETags.lastModified(fetchedProducts);
+                    if (lastModified != null) {
+                        response.lastModified(lastModified);
+                    }
+
+                    return response.body(fetchedProducts.withItems(productsApiResponse));
+                });
+    }
+
+    // WebFlux compares these headers with If-None-Match/If-Modified-Since and answers 304 itself
+    private ResponseEntity<ProductResponse> conditionalResponse(ProductView product) {
+        return ResponseEntity.ok()
+                .eTag(ProductETags.of(product.toVersion()))
+                .lastModified(product.updatedAt())
+                .body(productApiMapper.mapViewToProductApiResponse(product));
+    }
+}
@@ -0,0 +1,42 @@
+package com.ingemark.api.rest.reactive.exception;
+
+import com.ingemark.api.rest.impl.exception.BaseExceptionHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.util.List;
+import java.util.Objects;
+
+@RestControllerAdvice
+public class ReactiveExceptionHandler extends BaseExceptionHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactiveExceptionHandler.class);
+
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<Object> handleValidationError(WebExchangeBindException exception) {
+        log.error("Bad request related error occurred", exception);
+
+        List<String> errors = exception.getBindingResult()
+                .getFieldErrors()
+                .stream()
+                .map(DefaultMessageSourceResolvable::getDefaultMessage)
+                .toList();
+
+        return buildResponse(HttpStatus.BAD_REQUEST, errors);
+    }
+
+    // Type mismatches and missing parameters, the MVC counterpart of MethodArgumentTypeMismatchException
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<Object> handleInputError(ServerWebInputException exception) {
+        log.error("Bad request related error occurred", exception);
+
+        return buildResponse(HttpStatus.BAD_REQUEST, List.of(Objects.requireNonNullElse(exception.getReason(), "Bad request")));
+    }
+}
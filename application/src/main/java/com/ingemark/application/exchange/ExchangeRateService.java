@@ -5,8 +5,18 @@ import com.ingemark.application.request.SupportedCurrency;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 public interface ExchangeRateService {
     BigDecimal getExchangeRate(SupportedCurrency currency);
+
+    default Map<SupportedCurrency, BigDecimal> getExchangeRates(Set<SupportedCurrency> currencies) {
+        Map<SupportedCurrency, BigDecimal> rates = new EnumMap<>(SupportedCurrency.class);
+        currencies.forEach(currency -> rates.put(currency, getExchangeRate(currency)));
+
+        return rates;
+    }
 }
@@ -0,0 +1,17 @@
+package com.ingemark.application.exchange;
+
+import com.ingemark.application.request.SupportedCurrency;
+
+import java.math.BigDecimal;
+
+// One rate snapshot per request, so every item of a page is converted with the same rate
+public record PriceConversion(SupportedCurrency currency, BigDecimal rate) {
+
+    public static PriceConversion identity() {
+        return new PriceConversion(SupportedCurrency.EUR, BigDecimal.ONE);
+    }
+
+    public BigDecimal apply(BigDecimal priceInEur) {
+        return priceInEur == null ? null : PriceConverter.convert(priceInEur, rate);
+    }
+}
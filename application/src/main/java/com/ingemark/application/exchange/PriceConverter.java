@@ -0,0 +1,14 @@
+package com.ingemark.application.exchange;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+public final class PriceConverter {
+
+    private PriceConverter() {
+    }
+
+    public static BigDecimal convert(BigDecimal price, BigDecimal exchangeRate) {
+        return price.multiply(exchangeRate).setScale(2, RoundingMode.HALF_UP);
+    }
+}
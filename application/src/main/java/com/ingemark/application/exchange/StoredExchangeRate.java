@@ -0,0 +1,10 @@
+package com.ingemark.application.exchange;
+
+import com.ingemark.application.request.SupportedCurrency;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+public record StoredExchangeRate(SupportedCurrency currency, LocalDate rateDate, BigDecimal rate, Instant fetchedAt) {
+}
@@ -0,0 +1,4 @@
+package com.ingemark.application.importing;
+
+public record ProductImportError(long lineNumber, String code, String message) {
+}
@@ -0,0 +1,65 @@
+package com.ingemark.application.importing;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ProductImportReport {
+    private final int maxReportedErrors;
+    private final List<ProductImportError> errors = new ArrayList<>();
+
+    private long processedRows;
+    private long importedRows;
+    private long rejectedRows;
+    private int committedChunks;
+    private boolean errorsTruncated;
+
+    public ProductImportReport(int maxReportedErrors) {
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    void rowProcessed() {
+        processedRows++;
+    }
+
+    void rowImported() {
+        importedRows++;
+    }
+
+    void rowRejected(long lineNumber, String code, String message) {
+        rejectedRows++;
+
+        if (errors.size() < maxReportedErrors) {
+            errors.add(new ProductImportError(lineNumber, code, message));
+        } else {
+            errorsTruncated = true;
+        }
+    }
+
+    void chunkCommitted() {
+        committedChunks++;
+    }
+
+    public long getProcessedRows() {
+        return processedRows;
+    }
+
+    public long getImportedRows() {
+        return importedRows;
+    }
+
+    public long getRejectedRows() {
+        return rejectedRows;
+    }
+
+    public int getCommittedChunks() {
+        return committedChunks;
+    }
+
+    public List<ProductImportError> getErrors() {
+        return errors;
+    }
+
+    public boolean isErrorsTruncated() {
+        return errorsTruncated;
+    }
+}
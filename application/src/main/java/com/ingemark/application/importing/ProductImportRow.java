@@ -0,0 +1,20 @@
+package com.ingemark.application.importing;
+
+import com.ingemark.application.command.ProductCreateCommand;
+
+import java.util.List;
+
+public record ProductImportRow(long lineNumber, String code, ProductCreateCommand command, List<String> errors) {
+
+    public static ProductImportRow valid(long lineNumber, ProductCreateCommand command) {
+        return new ProductImportRow(lineNumber, command.code(), command, List.of());
+    }
+
+    public static ProductImportRow invalid(long lineNumber, String code, List<String> errors) {
+        return new ProductImportRow(lineNumber, code, null, errors);
+    }
+
+    public boolean isValid() {
+        return errors.isEmpty();
+    }
+}
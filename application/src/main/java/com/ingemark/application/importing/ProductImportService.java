@@ -0,0 +1,77 @@
+package com.ingemark.application.importing;
+
+import com.ingemark.application.result.ProductCreateResult;
+import com.ingemark.application.service.ProductService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+@Service
+public class ProductImportService {
+    private static final Logger logger = LoggerFactory.getLogger(ProductImportService.class);
+
+    private final ProductService productService;
+    private final ProductImportProperties properties;
+
+    public ProductImportService(ProductService productService, ProductImportProperties properties) {
+        this.productService = productService;
+        this.properties = properties;
+    }
+
+    public ProductImportReport importProducts(final Iterator<ProductImportRow> rows) {
+        logger.info("Starting product import with batch size {}", properties.getBatchSize());
+
+        ProductImportReport report = new ProductImportReport(properties.getMaxReportedErrors());
+        List<ProductImportRow> chunk = new ArrayList<>(properties.getBatchSize());
+
+        // Rows are pulled only after the previous chunk is committed, so a fast producer is throttled by the database
+        while (rows.hasNext()) {
+            ProductImportRow row = rows.next();
+            report.rowProcessed();
+
+            if (!row.isValid()) {
+                report.rowRejected(row.lineNumber(), row.code(), String.join("; ", row.errors()));
+                continue;
+            }
+
+            chunk.add(row);
+            if (chunk.size() == properties.getBatchSize()) {
+                importChunk(chunk, report);
+                chunk.clear();
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, report);
+        }
+
+        logger.info("Product import finished: {} rows processed, {} imported, {} rejected",
+                report.getProcessedRows(), report.getImportedRows(), report.getRejectedRows());
+
+        return report;
+    }
+
+    private void importChunk(List<ProductImportRow> chunk, ProductImportReport report) {
+        List<ProductCreateResult> results = productService.importProducts(chunk.stream()
+                .map(ProductImportRow::command)
+                .toList());
+
+        for (int i = 0; i < results.size(); i++) {
+            ProductCreateResult result = results.get(i);
+
+            if (result.isCreated()) {
+                report.rowImported();
+            } else {
+                report.rowRejected(chunk.get(i).lineNumber(), result.code(), result.message());
+            }
+        }
+
+        report.chunkCommitted();
+        logger.info("Product import progress: chunk {} committed, {} rows processed, {} imported, {} rejected",
+                report.getCommittedChunks(), report.getProcessedRows(), report.getImportedRows(), report.getRejectedRows());
+    }
+}
@@ -0,0 +1,10 @@
+package com.ingemark.application.reactive;
+
+import com.ingemark.application.request.SupportedCurrency;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+
+public interface ReactiveExchangeRateService {
+    Mono<BigDecimal> getExchangeRate(SupportedCurrency currency);
+}
@@ -0,0 +1,19 @@
+package com.ingemark.application.reactive;
+
+import com.ingemark.domain.model.Product;
+import com.ingemark.domain.model.ProductView;
+import com.ingemark.domain.pagination.PaginatedResult;
+import com.ingemark.domain.pagination.PaginationRequest;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveProductRepository {
+    Mono<Product> save(Product product);
+
+    Mono<ProductView> findViewById(Long id);
+
+    Mono<ProductView> findViewByCode(String code);
+
+    Mono<PaginatedResult<ProductView>> findAllViews(PaginationRequest paginationRequest);
+
+    Mono<Boolean> isCodeAlreadyExists(String code);
+}
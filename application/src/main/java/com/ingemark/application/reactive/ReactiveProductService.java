@@ -0,0 +1,87 @@
+package com.ingemark.application.reactive;
+
+import com.ingemark.application.command.ProductCreateCommand;
+import com.ingemark.application.exception.DuplicateProductCodeException;
+import com.ingemark.application.exception.ProductNotFoundException;
+import com.ingemark.application.exchange.PriceConverter;
+import com.ingemark.application.exchange.mapper.ProductDtoMapper;
+import com.ingemark.application.request.SupportedCurrency;
+import com.ingemark.domain.model.Product;
+import com.ingemark.domain.model.ProductView;
+import com.ingemark.domain.pagination.PaginatedResult;
+import com.ingemark.domain.pagination.PaginationRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveProductService {
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveProductService.class);
+
+    private final ReactiveProductRepository productRepository;
+    private final ReactiveExchangeRateService exchangeRateService;
+    private final ProductDtoMapper productMapper;
+    private final TransactionalOperator transactionalOperator;
+
+    public ReactiveProductService(ReactiveProductRepository productRepository, ReactiveExchangeRateService exchangeRateService,
+                                  ProductDtoMapper productMapper, TransactionalOperator transactionalOperator) {
+        this.productRepository = productRepository;
+        this.exchangeRateService = exchangeRateService;
+        this.productMapper = productMapper;
+        this.transactionalOperator = transactionalOperator;
+    }
+
+    public Mono<ProductView> getProductById(final Long id) {
+        logger.debug("Fetching product by ID: {}", id);
+
+        return productRepository
+                .findViewById(id)
+                .switchIfEmpty(Mono.error(() -> new ProductNotFoundException("Product with given id " + id + " not found")));
+    }
+
+    public Mono<ProductView> getProductByCode(final String code) {
+        logger.debug("Fetching product by code: {}", code);
+
+        return productRepository
+                .findViewByCode(code)
+                .switchIfEmpty(Mono.error(() -> new ProductNotFoundException(
+                        "Product with the given code '" + code + "' not found")));
+    }
+
+    public Mono<PaginatedResult<ProductView>> getAllProducts(final PaginationRequest paginationRequest) {
+        return productRepository.findAllViews(paginationRequest);
+    }
+
+    public Mono<Product> createNewProduct(final ProductCreateCommand productCreateCommand) {
+        logger.info("Creating new product with code: {}", productCreateCommand.code());
+
+        Product product = productMapper.mapToProduct(productCreateCommand);
+
+        // The rate is resolved before the transaction starts, so no connection is held while waiting on HNB
+        return checkCodeIsAvailable(productCreateCommand.code())
+                .then(Mono.defer(() -> exchangeRateService.getExchangeRate(SupportedCurrency.USD)))
+                .flatMap(usdExchangeRate -> {
+                    product.setPriceInUsd(PriceConverter.convert(product.getPriceInEur(), usdExchangeRate));
+
+                    return checkCodeIsAvailable(productCreateCommand.code())
+                            .then(productRepository.save(product))
+                            .as(transactionalOperator::transactional);
+                })
+                .doOnNext(savedProduct -> logger.info("Product created successfully with ID: {}", savedProduct.getId()));
+    }
+
+    private Mono<Void> checkCodeIsAvailable(String code) {
+        return productRepository.isCodeAlreadyExists(code)
+                .flatMap(codeExists -> {
+                    if (codeExists) {
+                        logger.warn("Product creation failed: duplicate code '{}'", code);
+                        return Mono.error(new DuplicateProductCodeException("Product with the code " + code + " already exists"));
+                    }
+                    return Mono.empty();
+                });
+    }
+}
@@ -0,0 +1,17 @@
+package com.ingemark.application.repository;
+
+import com.ingemark.application.exchange.StoredExchangeRate;
+import com.ingemark.application.request.SupportedCurrency;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+public interface ExchangeRateHistoryRepository {
+    void save(StoredExchangeRate exchangeRate);
+
+    Optional<StoredExchangeRate> findLatest(SupportedCurrency currency);
+
+    int compactOlderThan(LocalDate cutoff);
+
+    int deleteOlderThan(LocalDate cutoff);
+}
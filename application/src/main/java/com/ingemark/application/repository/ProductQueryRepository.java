@@ -0,0 +1,29 @@
+package com.ingemark.application.repository;
+
+import com.ingemark.domain.model.ProductVersion;
+import com.ingemark.domain.model.ProductView;
+import com.ingemark.domain.pagination.PaginatedResult;
+import com.ingemark.domain.pagination.PaginationRequest;
+import com.ingemark.domain.pagination.ProductSearchRequest;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ProductQueryRepository {
+    Optional<ProductView> findViewById(Long id);
+
+    Optional<ProductView> findViewByCode(String code);
+
+    List<ProductView> findViewsByIds(Collection<Long> ids);
+
+    List<ProductView> findViewsByCodes(Collection<String> codes);
+
+    Optional<ProductVersion> findVersionById(Long id);
+
+    Optional<ProductVersion> findVersionByCode(String code);
+
+    PaginatedResult<ProductView> findAllViews(PaginationRequest paginationRequest);
+
+    PaginatedResult<ProductView> searchViews(ProductSearchRequest searchRequest);
+}
@@ -1,21 +1,26 @@
 package com.ingemark.application.repository;
 
 import com.ingemark.domain.model.Product;
-import com.ingemark.domain.pagination.PaginatedResult;
-import com.ingemark.domain.pagination.PaginationRequest;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 @Repository
 public interface ProductRepository {
     Product save(Product product);
 
-    Optional<Product> findById(Long id);
+    Optional<Product> insertIfCodeAbsent(Product product);
 
-    Optional<Product> findByCode(String code);
+    // Throws DuplicateProductCodeException when a code was inserted concurrently, nothing of the chunk is kept then
+    void bulkInsert(List<Product> products);
 
-    PaginatedResult<Product> findAllProducts(PaginationRequest paginationRequest);
+    void forEachProduct(Consumer<Product> consumer);
 
     boolean isCodeAlreadyExists(String code);
+
+    Set<String> findExistingCodes(Collection<String> codes);
 }
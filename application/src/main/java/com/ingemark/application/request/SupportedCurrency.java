@@ -1,6 +1,8 @@
 package com.ingemark.application.request;
 
+import java.util.Arrays;
 import java.util.Currency;
+import java.util.stream.Collectors;
 
 public enum SupportedCurrency {
     EUR("Euro", "EUR"),
@@ -15,6 +17,14 @@ public enum SupportedCurrency {
         this.code = code;
     }
 
+    public static SupportedCurrency fromCode(String code) {
+        return Arrays.stream(values())
+                .filter(currency -> currency.code.equalsIgnoreCase(code))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported currency '" + code + "', supported currencies are: "
+                        + Arrays.stream(values()).map(SupportedCurrency::getCode).collect(Collectors.joining(", "))));
+    }
+
     public String getDisplayName() {
         return displayName;
     }
@@ -0,0 +1,23 @@
+package com.ingemark.application.result;
+
+import com.ingemark.domain.model.Product;
+
+public record ProductCreateResult(String code, Status status, Product product, String message) {
+
+    public enum Status {
+        CREATED,
+        CONFLICT
+    }
+
+    public static ProductCreateResult created(Product product) {
+        return new ProductCreateResult(product.getCode(), Status.CREATED, product, null);
+    }
+
+    public static ProductCreateResult conflict(String code, String message) {
+        return new ProductCreateResult(code, Status.CONFLICT, null, message);
+    }
+
+    public boolean isCreated() {
+        return status == Status.CREATED;
+    }
+}
@@ -0,0 +1,23 @@
+package com.ingemark.application.result;
+
+import com.ingemark.domain.model.ProductView;
+
+public record ProductLookupResult(Status status, ProductView product) {
+
+    public enum Status {
+        FOUND,
+        MISSING
+    }
+
+    public static ProductLookupResult found(ProductView product) {
+        return new ProductLookupResult(Status.FOUND, product);
+    }
+
+    public static ProductLookupResult missing() {
+        return new ProductLookupResult(Status.MISSING, null);
+    }
+
+    public boolean isFound() {
+        return status == Status.FOUND;
+    }
+}
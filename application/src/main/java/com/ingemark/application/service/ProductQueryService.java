@@ -0,0 +1,115 @@
+package com.ingemark.application.service;
+
+import com.ingemark.application.exception.ProductNotFoundException;
+import com.ingemark.application.exchange.ExchangeRateService;
+import com.ingemark.application.exchange.PriceConversion;
+import com.ingemark.application.repository.ProductQueryRepository;
+import com.ingemark.application.request.SupportedCurrency;
+import com.ingemark.application.result.ProductLookupResult;
+import com.ingemark.domain.model.ProductVersion;
+import com.ingemark.domain.model.ProductView;
+import com.ingemark.domain.pagination.PaginatedResult;
+import com.ingemark.domain.pagination.PaginationRequest;
+import com.ingemark.domain.pagination.ProductSearchRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class ProductQueryService {
+    private static final Logger logger = LoggerFactory.getLogger(ProductQueryService.class);
+
+    private final ProductQueryRepository productQueryRepository;
+    private final ExchangeRateService exchangeRateService;
+
+    public ProductQueryService(ProductQueryRepository productQueryRepository, ExchangeRateService exchangeRateService) {
+        this.productQueryRepository = productQueryRepository;
+        this.exchangeRateService = exchangeRateService;
+    }
+
+    public ProductView getProductById(final Long id) {
+        logger.debug("Fetching product view by ID: {}", id);
+
+        return productQueryRepository
+                .findViewById(id)
+                .orElseThrow(() -> new ProductNotFoundException("Product with given id " + id +  " not found"));
+    }
+
+    public ProductView getProductByCode(final String code) {
+        logger.debug("Fetching product view by code: {}", code);
+
+        return productQueryRepository
+                .findViewByCode(code)
+                .orElseThrow(() -> new ProductNotFoundException(
+                        "Product with the given code '" + code + "' not found"));
+    }
+
+    public List<ProductLookupResult> lookupByIds(final List<Long> ids) {
+        logger.debug("Looking up {} products by ID", ids.size());
+
+        Map<Long, ProductView> productsById = productQueryRepository.findViewsByIds(new LinkedHashSet<>(ids))
+                .stream()
+                .collect(Collectors.toMap(ProductView::id, Function.identity()));
+
+        return toResults(ids, productsById);
+    }
+
+    public List<ProductLookupResult> lookupByCodes(final List<String> codes) {
+        logger.debug("Looking up {} products by code", codes.size());
+
+        Map<String, ProductView> productsByCode = productQueryRepository.findViewsByCodes(new LinkedHashSet<>(codes))
+                .stream()
+                .collect(Collectors.toMap(ProductView::code, Function.identity()));
+
+        return toResults(codes, productsByCode);
+    }
+
+    public ProductVersion getProductVersionById(final Long id) {
+        return productQueryRepository
+                .findVersionById(id)
+                .orElseThrow(() -> new ProductNotFoundException("Product with given id " + id +  " not found"));
+    }
+
+    public ProductVersion getProductVersionByCode(final String code) {
+        return productQueryRepository
+                .findVersionByCode(code)
+                .orElseThrow(() -> new ProductNotFoundException(
+                        "Product with the given code '" + code + "' not found"));
+    }
+
+    public PaginatedResult<ProductView> getAllProducts(final PaginationRequest paginationRequest) {
+        return productQueryRepository.findAllViews(paginationRequest);
+    }
+
+    public PaginatedResult<ProductView> searchProducts(final ProductSearchRequest searchRequest) {
+        logger.debug("Searching products for '{}', page {}", searchRequest.getQuery(), searchRequest.getPage());
+
+        return productQueryRepository.searchViews(searchRequest);
+    }
+
+    // Prices are stored in EUR, so EUR needs no rate lookup
+    public PriceConversion getPriceConversion(final SupportedCurrency currency) {
+        if (currency == SupportedCurrency.EUR) {
+            return PriceConversion.identity();
+        }
+
+        logger.debug("Resolving exchange rate for {}", currency.getCode());
+        return new PriceConversion(currency, exchangeRateService.getExchangeRate(currency));
+    }
+
+    // Results follow the request order, repeated keys included
+    private static <K> List<ProductLookupResult> toResults(List<K> keys, Map<K, ProductView> productsByKey) {
+        return keys.stream()
+                .map(key -> {
+                    ProductView product = productsByKey.get(key);
+                    return product != null ? ProductLookupResult.found(product) : ProductLookupResult.missing();
+                })
+                .toList();
+    }
+}
@@ -2,21 +2,27 @@ package com.ingemark.application.service;
 
 import com.ingemark.application.command.ProductCreateCommand;
 import com.ingemark.application.exception.DuplicateProductCodeException;
-import com.ingemark.application.exception.ProductNotFoundException;
 import com.ingemark.application.exchange.ExchangeRateService;
+import com.ingemark.application.exchange.PriceConverter;
 import com.ingemark.application.exchange.mapper.ProductDtoMapper;
 import com.ingemark.domain.model.Product;
-import com.ingemark.domain.pagination.PaginatedResult;
-import com.ingemark.domain.pagination.PaginationRequest;
 import com.ingemark.application.repository.ProductRepository;
 import com.ingemark.application.request.SupportedCurrency;
-import jakarta.transaction.Transactional;
+import com.ingemark.application.result.ProductCreateResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class ProductService {
@@ -25,58 +31,144 @@ public class ProductService {
     private final ProductRepository productRepository;
     private final ExchangeRateService exchangeRateService;
     private final ProductDtoMapper productMapper;
+    private final TransactionOperations transactionOperations;
 
-    public ProductService(ProductRepository productRepository, ExchangeRateService exchangeRateService, ProductDtoMapper productMapper) {
+    public ProductService(ProductRepository productRepository, ExchangeRateService exchangeRateService, ProductDtoMapper productMapper,
+                          TransactionOperations transactionOperations) {
         this.productRepository = productRepository;
         this.exchangeRateService = exchangeRateService;
         this.productMapper = productMapper;
+        this.transactionOperations = transactionOperations;
     }
 
-    public Product getProductById(final Long id) {
-        logger.debug("Fetching product by ID: {}", id);
+    public void exportProducts(final Consumer<Product> consumer) {
+        logger.info("Exporting all products");
 
-        return productRepository
-                .findById(id)
-                .orElseThrow(() -> new ProductNotFoundException("Product with given id " + id +  " not found"));
+        productRepository.forEachProduct(consumer);
     }
 
-    public Product getProductByCode(final String code) {
-        logger.debug("Fetching product by code: {}", code);
-
-        return productRepository
-                .findByCode(code)
-                .orElseThrow(() -> new ProductNotFoundException(
-                        "Product with the given code '" + code + "' not found"));
-    }
-
-    public PaginatedResult<Product> getAllProducts(final PaginationRequest paginationRequest) {
-       return productRepository.findAllProducts(paginationRequest);
-    }
-
-    @Transactional
     public Product createNewProduct(final ProductCreateCommand productCreateCommand) {
         logger.info("Creating new product with code: {}", productCreateCommand.code());
 
-        boolean productCodeExists = productRepository.isCodeAlreadyExists(productCreateCommand.code());
-
-        if(productCodeExists) {
-            logger.warn("Product creation failed: duplicate code '{}'", productCreateCommand.code());
-            throw new DuplicateProductCodeException("Product with the code " + productCreateCommand.code() + " already exists");
+        // A cheap indexed lookup first, so a duplicate is still answered with a conflict while the exchange rate is unavailable
+        if (productRepository.isCodeAlreadyExists(productCreateCommand.code())) {
+            throw duplicateProductCode(productCreateCommand.code());
         }
 
         Product product = productMapper.mapToProduct(productCreateCommand);
         product.setPriceInUsd(convertEurToUsd(product.getPriceInEur()));
 
-        Product savedProduct = productRepository.save(product);
+        // One insert guarded by the unique index on code, concurrent creates with the same code cannot both pass
+        Product savedProduct = productRepository.insertIfCodeAbsent(product)
+                .orElseThrow(() -> duplicateProductCode(productCreateCommand.code()));
         logger.info("Product created successfully with ID: {}", savedProduct.getId());
 
         return savedProduct;
     }
 
+    public List<ProductCreateResult> createNewProducts(final List<ProductCreateCommand> productCreateCommands) {
+        logger.info("Creating batch of {} products", productCreateCommands.size());
+
+        return createProducts(productCreateCommands, this::insertEachIfCodeAbsent);
+    }
+
+    public List<ProductCreateResult> importProducts(final List<ProductCreateCommand> productCreateCommands) {
+        logger.debug("Importing chunk of {} products", productCreateCommands.size());
+
+        try {
+            return createProducts(productCreateCommands, products -> {
+                productRepository.bulkInsert(products);
+                return products.stream().map(Optional::of).toList();
+            });
+        } catch (DuplicateProductCodeException exception) {
+            // A code was inserted concurrently after the existence check, the rolled back chunk is retried row by row
+            logger.warn("Import chunk conflicted with a concurrent insert, retrying it row by row");
+
+            return createProducts(productCreateCommands, this::insertEachIfCodeAbsent);
+        }
+    }
+
+    // Each row is inserted guarded by the unique index, a row that loses a race with a concurrent writer is reported as a conflict
+    private List<Optional<Product>> insertEachIfCodeAbsent(List<Product> products) {
+        return products.stream()
+                .map(productRepository::insertIfCodeAbsent)
+                .toList();
+    }
+
+    private DuplicateProductCodeException duplicateProductCode(String code) {
+        logger.warn("Product creation failed: duplicate code '{}'", code);
+        return new DuplicateProductCodeException("Product with the code " + code + " already exists");
+    }
+
+    private List<ProductCreateResult> createProducts(List<ProductCreateCommand> productCreateCommands,
+                                                     Function<List<Product>, List<Optional<Product>>> productWriter) {
+        Set<String> requestedCodes = productCreateCommands.stream()
+                .map(ProductCreateCommand::code)
+                .collect(Collectors.toSet());
+
+        if (productRepository.findExistingCodes(requestedCodes).containsAll(requestedCodes)) {
+            logger.info("Created 0 products, {} conflicts", productCreateCommands.size());
+
+            return productCreateCommands.stream()
+                    .map(command -> ProductCreateResult.conflict(command.code(), "Product with the code " + command.code() + " already exists"))
+                    .toList();
+        }
+
+        BigDecimal usdExchangeRate = exchangeRateService.getExchangeRate(SupportedCurrency.USD);
+
+        return transactionOperations.execute(status ->
+                writeProducts(productCreateCommands, requestedCodes, usdExchangeRate, productWriter));
+    }
+
+    private List<ProductCreateResult> writeProducts(List<ProductCreateCommand> productCreateCommands, Set<String> requestedCodes,
+                                                    BigDecimal usdExchangeRate,
+                                                    Function<List<Product>, List<Optional<Product>>> productWriter) {
+        Set<String> existingCodes = productRepository.findExistingCodes(requestedCodes);
+
+        List<ProductCreateResult> results = new ArrayList<>(productCreateCommands.size());
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        List<Product> acceptedProducts = new ArrayList<>();
+        Set<String> acceptedCodes = new HashSet<>();
+
+        for (ProductCreateCommand productCreateCommand : productCreateCommands) {
+            String code = productCreateCommand.code();
+
+            if (existingCodes.contains(code)) {
+                results.add(ProductCreateResult.conflict(code, "Product with the code " + code + " already exists"));
+            } else if (!acceptedCodes.add(code)) {
+                results.add(ProductCreateResult.conflict(code, "Product with the code " + code + " is duplicated in the batch"));
+            } else {
+                acceptedIndexes.add(results.size());
+                acceptedProducts.add(productMapper.mapToProduct(productCreateCommand));
+                results.add(null);
+            }
+        }
+
+        if (!acceptedProducts.isEmpty()) {
+            acceptedProducts.forEach(product -> product.setPriceInUsd(convertEurToUsd(product.getPriceInEur(), usdExchangeRate)));
+
+            List<Optional<Product>> savedProducts = productWriter.apply(acceptedProducts);
+            for (int i = 0; i < savedProducts.size(); i++) {
+                String code = acceptedProducts.get(i).getCode();
+                results.set(acceptedIndexes.get(i), savedProducts.get(i)
+                        .map(ProductCreateResult::created)
+                        .orElseGet(() -> ProductCreateResult.conflict(code, "Product with the code " + code + " already exists")));
+            }
+        }
+
+        long createdCount = results.stream().filter(ProductCreateResult::isCreated).count();
+        logger.info("Created {} products, {} conflicts", createdCount, results.size() - createdCount);
+
+        return results;
+    }
+
     private BigDecimal convertEurToUsd(BigDecimal priceInEur) {
         BigDecimal usdExchangeRate = exchangeRateService.getExchangeRate(SupportedCurrency.USD);
 
-        return priceInEur.multiply(usdExchangeRate).setScale(2, RoundingMode.HALF_UP);
+        return convertEurToUsd(priceInEur, usdExchangeRate);
+    }
 
+    private BigDecimal convertEurToUsd(BigDecimal priceInEur, BigDecimal usdExchangeRate) {
+        return PriceConverter.convert(priceInEur, usdExchangeRate);
     }
 }
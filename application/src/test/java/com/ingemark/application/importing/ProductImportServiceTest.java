@@ -0,0 +1,85 @@
+package com.ingemark.application.importing;
+
+import com.ingemark.application.command.ProductCreateCommand;
+import com.ingemark.application.result.ProductCreateResult;
+import com.ingemark.application.service.ProductService;
+import com.ingemark.domain.model.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ProductImportServiceTest {
+
+    @Mock
+    private ProductService productService;
+
+    private ProductImportService service;
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.openMocks(this);
+
+        ProductImportProperties properties = new ProductImportProperties();
+        properties.setBatchSize(2);
+        service = new ProductImportService(productService, properties);
+    }
+
+    @Test
+    void importProducts_rowsSpanSeveralChunks_eachChunkIsImportedSeparately() {
+        //given
+        List<ProductImportRow> rows = List.of(
+                ProductImportRow.valid(1, createCommand("PROD000001")),
+                ProductImportRow.valid(2, createCommand("PROD000002")),
+                ProductImportRow.invalid(3, "PROD", List.of("Code attribute should be 10 characters long")),
+                ProductImportRow.valid(4, createCommand("PROD000003")));
+
+        when(productService.importProducts(anyList())).thenAnswer(invocation -> {
+            List<ProductCreateCommand> commands = invocation.getArgument(0);
+            return commands.stream()
+                    .map(command -> command.code().equals("PROD000002")
+                            ? ProductCreateResult.conflict(command.code(), "Product with the code PROD000002 already exists")
+                            : ProductCreateResult.created(createProduct(command)))
+                    .toList();
+        });
+
+        //when
+        ProductImportReport report = service.importProducts(rows.iterator());
+
+        //then
+        verify(productService, times(2)).importProducts(anyList());
+        assertEquals(4, report.getProcessedRows());
+        assertEquals(2, report.getImportedRows());
+        assertEquals(2, report.getRejectedRows());
+        assertEquals(2, report.getCommittedChunks());
+        assertEquals(List.of(2L, 3L), report.getErrors().stream().map(ProductImportError::lineNumber).toList());
+    }
+
+    @Test
+    void importProducts_onlyInvalidRows_nothingIsImported() {
+        //given
+        List<ProductImportRow> rows = List.of(ProductImportRow.invalid(1, null, List.of("Malformed JSON")));
+
+        //when
+        ProductImportReport report = service.importProducts(rows.iterator());
+
+        //then
+        verifyNoInteractions(productService);
+        assertEquals(1, report.getRejectedRows());
+        assertEquals(0, report.getCommittedChunks());
+    }
+
+    private ProductCreateCommand createCommand(String code) {
+        return new ProductCreateCommand(code, "Test Product", BigDecimal.TEN, true);
+    }
+
+    private Product createProduct(ProductCreateCommand command) {
+        return new Product(1L, command.code(), command.name(), command.priceInEur(), BigDecimal.valueOf(11.00), command.available());
+    }
+}
@@ -0,0 +1,89 @@
+package com.ingemark.application.reactive;
+
+import com.ingemark.application.command.ProductCreateCommand;
+import com.ingemark.application.exception.DuplicateProductCodeException;
+import com.ingemark.application.exception.ProductNotFoundException;
+import com.ingemark.application.exchange.mapper.ProductDtoMapper;
+import com.ingemark.application.request.SupportedCurrency;
+import com.ingemark.domain.model.Product;
+import com.ingemark.domain.model.ProductView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.*;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReactiveProductServiceTest {
+
+    @InjectMocks
+    private ReactiveProductService service;
+
+    @Mock
+    private ReactiveProductRepository repository;
+
+    @Mock
+    private ReactiveExchangeRateService exchangeRateService;
+
+    @Mock
+    private ProductDtoMapper mapper;
+
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.openMocks(this);
+        when(transactionalOperator.transactional(ArgumentMatchers.<Mono<Object>>any()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void createNewProduct_inputDataIsValid_productIsCreatedWithUsdPrice() {
+        //given
+        var productCreateCommand = new ProductCreateCommand("CODE000001", "Test", BigDecimal.TEN, true);
+        when(mapper.mapToProduct(productCreateCommand)).thenReturn(new Product(null, "CODE000001", "Test", BigDecimal.TEN, null, true));
+        when(repository.isCodeAlreadyExists("CODE000001")).thenReturn(Mono.just(false));
+        when(exchangeRateService.getExchangeRate(SupportedCurrency.USD)).thenReturn(Mono.just(BigDecimal.valueOf(1.1)));
+        when(repository.save(any())).thenAnswer(invocation -> {
+            Product product = invocation.getArgument(0);
+            product.setId(1L);
+            return Mono.just(product);
+        });
+
+        //when
+        Product result = service.createNewProduct(productCreateCommand).block();
+
+        //then
+        assertNotNull(result);
+        assertEquals(1L, result.getId());
+        assertEquals(new BigDecimal("11.00"), result.getPriceInUsd());
+    }
+
+    @Test
+    void createNewProduct_codeThatAlreadyExistIsUsed_rateIsNotFetched() {
+        //given
+        var productCreateCommand = new ProductCreateCommand("CODE000001", "Test", BigDecimal.TEN, true);
+        when(mapper.mapToProduct(productCreateCommand)).thenReturn(new Product(null, "CODE000001", "Test", BigDecimal.TEN, null, true));
+        when(repository.isCodeAlreadyExists("CODE000001")).thenReturn(Mono.just(true));
+
+        //when/then
+        Mono<Product> result = service.createNewProduct(productCreateCommand);
+        assertThrows(DuplicateProductCodeException.class, result::block);
+        verifyNoInteractions(exchangeRateService);
+    }
+
+    @Test
+    void getProductById_productWithIdDoNotExists_ProductNotFoundExceptionIsSignalled() {
+        //given
+        when(repository.findViewById(1L)).thenReturn(Mono.empty());
+
+        //when/then
+        Mono<ProductView> result = service.getProductById(1L);
+        assertThrows(ProductNotFoundException.class, result::block);
+    }
+}
@@ -0,0 +1,145 @@
+package com.ingemark.application.service;
+
+import com.ingemark.application.exception.ProductNotFoundException;
+import com.ingemark.application.exchange.ExchangeRateService;
+import com.ingemark.application.exchange.PriceConversion;
+import com.ingemark.application.repository.ProductQueryRepository;
+import com.ingemark.application.request.SupportedCurrency;
+import com.ingemark.application.result.ProductLookupResult;
+import com.ingemark.domain.model.ProductView;
+import com.ingemark.domain.pagination.PaginatedResult;
+import com.ingemark.domain.pagination.PaginationRequest;
+import com.ingemark.domain.pagination.ProductSearchRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ProductQueryServiceTest {
+
+    @InjectMocks
+    private ProductQueryService service;
+
+    @Mock
+    private ProductQueryRepository repository;
+
+    @Mock
+    private ExchangeRateService exchangeRateService;
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void getPriceConversion_foreignCurrency_rateIsLookedUpOnceAndAppliedToEurPrices() {
+        //given
+        when(exchangeRateService.getExchangeRate(SupportedCurrency.GBP)).thenReturn(new BigDecimal("0.8436"));
+
+        //when
+        PriceConversion conversion = service.getPriceConversion(SupportedCurrency.GBP);
+
+        //then
+        assertEquals(new BigDecimal("8.44"), conversion.apply(BigDecimal.TEN));
+        assertEquals(new BigDecimal("84.36"), conversion.apply(new BigDecimal("100")));
+        verify(exchangeRateService, times(1)).getExchangeRate(SupportedCurrency.GBP);
+    }
+
+    @Test
+    void getPriceConversion_eur_noRateIsLookedUp() {
+        //when
+        PriceConversion conversion = service.getPriceConversion(SupportedCurrency.EUR);
+
+        //then
+        assertEquals(new BigDecimal("19.99"), conversion.apply(new BigDecimal("19.99")));
+        verifyNoInteractions(exchangeRateService);
+    }
+
+    @Test
+    void getProductById_productWithIdExists_viewIsReturned() {
+        //given
+        ProductView view = createProductView();
+        when(repository.findViewById(42L)).thenReturn(Optional.of(view));
+
+        //when
+        ProductView result = service.getProductById(42L);
+
+        //then
+        assertSame(view, result);
+    }
+
+    @Test
+    void getProductByCode_productWithCodeDoNotExists_ProductNotFoundExceptionIsThrown() {
+        //given
+        when(repository.findViewByCode("CODE123456")).thenReturn(Optional.empty());
+
+        //when/then
+        assertThrows(ProductNotFoundException.class, () -> service.getProductByCode("CODE123456"));
+    }
+
+    @Test
+    void getAllProducts_pageRequested_repositoryPageIsReturned() {
+        //given
+        PaginationRequest pr = new PaginationRequest(1, 5, "code", "ASC");
+        PaginatedResult<ProductView> pg = new PaginatedResult<>(List.of(createProductView()), 50, 10);
+        when(repository.findAllViews(pr)).thenReturn(pg);
+
+        //when/then
+        assertSame(pg, service.getAllProducts(pr));
+    }
+
+    @Test
+    void searchProducts_queryHasSurroundingWhitespace_repositoryIsQueriedWithTrimmedQuery() {
+        //given
+        PaginatedResult<ProductView> pg = PaginatedResult.withUnknownTotal(List.of(createProductView()), false, null);
+        when(repository.searchViews(any())).thenReturn(pg);
+
+        //when
+        PaginatedResult<ProductView> result = service.searchProducts(new ProductSearchRequest("  coffee ", 0, 20));
+
+        //then
+        assertSame(pg, result);
+        verify(repository).searchViews(argThat(request -> request.getQuery().equals("coffee")));
+    }
+
+    @Test
+    void lookupByIds_someIdsMissingAndRepeated_resultsFollowRequestOrder() {
+        //given
+        ProductView view = createProductView();
+        when(repository.findViewsByIds(any())).thenReturn(List.of(view));
+
+        //when
+        List<ProductLookupResult> results = service.lookupByIds(List.of(7L, 42L, 42L));
+
+        //then
+        assertEquals(3, results.size());
+        assertEquals(ProductLookupResult.Status.MISSING, results.get(0).status());
+        assertSame(view, results.get(1).product());
+        assertSame(view, results.get(2).product());
+        verify(repository, times(1)).findViewsByIds(Set.of(7L, 42L));
+    }
+
+    @Test
+    void productView_priceInEurHasMoreDecimals_priceIsRoundedToCents() {
+        //when
+        ProductView view = new ProductView(1L, "CODE123456", "Test", new BigDecimal("15.225"), null, true, 0L, null);
+
+        //then
+        assertEquals(new BigDecimal("15.23"), view.priceInEur());
+    }
+
+    private ProductView createProductView() {
+        return new ProductView(42L, "CODE123456", "Test Product", BigDecimal.valueOf(15.22), BigDecimal.valueOf(17.22), true, 0L,
+                Instant.parse("2025-06-01T10:00:00Z"));
+    }
+}
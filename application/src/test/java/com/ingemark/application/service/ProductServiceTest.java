@@ -2,21 +2,22 @@ package com.ingemark.application.service;
 
 import com.ingemark.application.command.ProductCreateCommand;
 import com.ingemark.application.exception.DuplicateProductCodeException;
-import com.ingemark.application.exception.ProductNotFoundException;
+import com.ingemark.application.exception.ExchangeRateUnavailableException;
 import com.ingemark.application.exchange.ExchangeRateService;
 import com.ingemark.application.exchange.mapper.ProductDtoMapper;
 import com.ingemark.domain.model.Product;
-import com.ingemark.domain.pagination.PaginatedResult;
-import com.ingemark.domain.pagination.PaginationRequest;
 import com.ingemark.application.repository.ProductRepository;
 import com.ingemark.application.request.SupportedCurrency;
+import com.ingemark.application.result.ProductCreateResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.math.BigDecimal;
 import java.util.Optional;
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -35,6 +36,9 @@ class ProductServiceTest {
     @Spy
     private ProductDtoMapper mapper;
 
+    @Spy
+    private TransactionOperations transactionOperations = TransactionOperations.withoutTransaction();
+
     @BeforeEach
     void setup() {
         MockitoAnnotations.openMocks(this);
@@ -44,14 +48,13 @@ class ProductServiceTest {
     void createNewProduct_inputDataIsValid_productIsCreatedSuccessfully() {
         //given
         var productCreateCommand = createTestProductCommand();
-        when(repository.isCodeAlreadyExists(productCreateCommand.code())).thenReturn(false);
         when(exchangeRateService.getExchangeRate(SupportedCurrency.USD)).thenReturn(BigDecimal.valueOf(1.1));
 
         Product domainProduct = createDomainProduct(productCreateCommand);
         when(mapper.mapToProduct(productCreateCommand)).thenReturn(domainProduct);
 
         Product savedProduct = new Product(1L, productCreateCommand.code(), productCreateCommand.name(), productCreateCommand.priceInEur(), BigDecimal.valueOf(11.00), productCreateCommand.available());
-        when(repository.save(any())).thenReturn(savedProduct);
+        when(repository.insertIfCodeAbsent(any())).thenReturn(Optional.of(savedProduct));
 
         //when
         Product result = service.createNewProduct(productCreateCommand);
@@ -61,74 +64,139 @@ class ProductServiceTest {
         assertEquals(BigDecimal.valueOf(11.00), result.getPriceInUsd());
     }
 
+    @Test
+    void createNewProduct_inputDataIsValid_exchangeRateIsResolvedBeforeSingleInsert() {
+        //given
+        var productCreateCommand = createTestProductCommand();
+        when(exchangeRateService.getExchangeRate(SupportedCurrency.USD)).thenReturn(BigDecimal.valueOf(1.1));
+        when(mapper.mapToProduct(productCreateCommand)).thenReturn(createDomainProduct(productCreateCommand));
+        when(repository.insertIfCodeAbsent(any())).thenAnswer(invocation -> Optional.of(invocation.getArgument(0)));
+
+        //when
+        service.createNewProduct(productCreateCommand);
+
+        //then
+        InOrder inOrder = inOrder(exchangeRateService, repository);
+        inOrder.verify(exchangeRateService).getExchangeRate(SupportedCurrency.USD);
+        inOrder.verify(repository).insertIfCodeAbsent(any());
+        verify(repository, never()).save(any());
+    }
+
     @Test
     void createNewProduct_codeThatAlreadyExistIsUsed_DuplicateProductCodeExceptionIsThrown() {
+        //given
+        var productCreateCommand = createTestProductCommand();
+        when(exchangeRateService.getExchangeRate(SupportedCurrency.USD)).thenReturn(BigDecimal.valueOf(1.1));
+        when(mapper.mapToProduct(productCreateCommand)).thenReturn(createDomainProduct(productCreateCommand));
+        when(repository.insertIfCodeAbsent(any())).thenReturn(Optional.empty());
+
+        //when/then
+        assertThrows(DuplicateProductCodeException.class, () -> service.createNewProduct(productCreateCommand));
+    }
+
+    @Test
+    void createNewProduct_existingCodeWhileRatesAreUnavailable_DuplicateProductCodeExceptionIsThrown() {
         //given
         var productCreateCommand = createTestProductCommand();
         when(repository.isCodeAlreadyExists(productCreateCommand.code())).thenReturn(true);
+        when(exchangeRateService.getExchangeRate(SupportedCurrency.USD))
+                .thenThrow(new ExchangeRateUnavailableException("Exchange rate is unavailable"));
 
         //when/then
         assertThrows(DuplicateProductCodeException.class, () -> service.createNewProduct(productCreateCommand));
+        verifyNoInteractions(exchangeRateService);
+        verify(repository, never()).insertIfCodeAbsent(any());
     }
 
     @Test
-    void getProductByCode_productWithCodeExists_productIsReturned() {
-        // given
-        Product product = createFullDomainProduct();
-
-        when(repository.findByCode("CODE123456")).thenReturn(Optional.of(product));
-
-        // when
-        Product result = service.getProductByCode("CODE123456");
-
-        // then
-        assertNotNull(result);
-        assertEquals(42L, result.getId());
-        assertEquals("CODE123456", result.getCode());
-        assertEquals("Test Product", result.getName());
-        assertEquals(BigDecimal.valueOf(15.22), result.getPriceInEur());
-        assertEquals(BigDecimal.valueOf(17.22), result.getPriceInUsd());
-        assertTrue(result.isAvailable());
+    void createNewProducts_batchWithExistingAndDuplicatedCodes_onlyNewProductsAreSavedWithOneRateLookup() {
+        //given
+        var newCommand = new ProductCreateCommand("CODE000001", "New", BigDecimal.TEN, true);
+        var existingCommand = new ProductCreateCommand("CODE000002", "Existing", BigDecimal.ONE, true);
+        var duplicatedCommand = new ProductCreateCommand("CODE000001", "Duplicated", BigDecimal.ONE, false);
+
+        when(repository.findExistingCodes(Set.of("CODE000001", "CODE000002"))).thenReturn(Set.of("CODE000002"));
+        when(exchangeRateService.getExchangeRate(SupportedCurrency.USD)).thenReturn(BigDecimal.valueOf(1.1));
+        when(mapper.mapToProduct(newCommand)).thenReturn(createDomainProduct(newCommand));
+
+        Product savedProduct = new Product(1L, "CODE000001", "New", BigDecimal.TEN, BigDecimal.valueOf(11.00), true);
+        when(repository.insertIfCodeAbsent(any())).thenReturn(Optional.of(savedProduct));
+
+        //when
+        List<ProductCreateResult> results = service.createNewProducts(List.of(newCommand, existingCommand, duplicatedCommand));
+
+        //then
+        assertEquals(3, results.size());
+        assertEquals(ProductCreateResult.Status.CREATED, results.get(0).status());
+        assertSame(savedProduct, results.get(0).product());
+        assertEquals(ProductCreateResult.Status.CONFLICT, results.get(1).status());
+        assertEquals(ProductCreateResult.Status.CONFLICT, results.get(2).status());
+        verify(exchangeRateService, times(1)).getExchangeRate(SupportedCurrency.USD);
+        verify(repository, never()).isCodeAlreadyExists(any());
     }
 
     @Test
-    void getProductById_productWithIdExists_productIsReturned() {
-        // given
-        Product product = createFullDomainProduct();
-
-        when(repository.findById(42L)).thenReturn(Optional.of(product));
-
-        // when
-        Product result = service.getProductById(42L);
-
-        // then
-        assertNotNull(result);
-        assertEquals(42L, result.getId());
-        assertEquals("CODE123456", result.getCode());
-        assertEquals("Test Product", result.getName());
-        assertEquals(BigDecimal.valueOf(15.22), result.getPriceInEur());
-        assertEquals(BigDecimal.valueOf(17.22), result.getPriceInUsd());
-        assertTrue(result.isAvailable());
+    void createNewProducts_allCodesAlreadyExist_nothingIsSavedAndRateIsNotFetched() {
+        //given
+        var productCreateCommand = createTestProductCommand();
+        when(repository.findExistingCodes(Set.of(productCreateCommand.code()))).thenReturn(Set.of(productCreateCommand.code()));
+
+        //when
+        List<ProductCreateResult> results = service.createNewProducts(List.of(productCreateCommand));
+
+        //then
+        assertEquals(ProductCreateResult.Status.CONFLICT, results.get(0).status());
+        verify(repository, never()).insertIfCodeAbsent(any());
+        verifyNoInteractions(exchangeRateService);
+        verifyNoInteractions(transactionOperations);
     }
 
     @Test
-    void getProductById_productWithIdDoNotExists_ProductNotFoundExceptionExceptionIsThrown() {
+    void createNewProducts_codeInsertedConcurrently_rowIsReportedAsConflict() {
         //given
-        when(repository.findById(42L)).thenReturn(Optional.empty());
+        var newCommand = new ProductCreateCommand("CODE000001", "New", BigDecimal.TEN, true);
+        var racedCommand = new ProductCreateCommand("CODE000002", "Raced", BigDecimal.ONE, true);
 
-        //when/then
-        assertThrows(ProductNotFoundException.class, () -> service.getProductById(42L));
+        when(repository.findExistingCodes(Set.of("CODE000001", "CODE000002"))).thenReturn(Set.of());
+        when(exchangeRateService.getExchangeRate(SupportedCurrency.USD)).thenReturn(BigDecimal.valueOf(1.1));
+        when(mapper.mapToProduct(newCommand)).thenReturn(createDomainProduct(newCommand));
+        when(mapper.mapToProduct(racedCommand)).thenReturn(createDomainProduct(racedCommand));
+
+        Product savedProduct = new Product(1L, "CODE000001", "New", BigDecimal.TEN, BigDecimal.valueOf(11.00), true);
+        when(repository.insertIfCodeAbsent(any())).thenReturn(Optional.of(savedProduct), Optional.empty());
+
+        //when
+        List<ProductCreateResult> results = service.createNewProducts(List.of(newCommand, racedCommand));
+
+        //then
+        assertEquals(ProductCreateResult.Status.CREATED, results.get(0).status());
+        assertEquals(ProductCreateResult.Status.CONFLICT, results.get(1).status());
+        assertEquals("CODE000002", results.get(1).code());
     }
 
     @Test
-    void getAllProducts() {
+    void importProducts_codeInsertedConcurrently_chunkIsRetriedRowByRow() {
         //given
-        PaginationRequest pr = new PaginationRequest(1, 5, "code", "ASC");
-        PaginatedResult<Product> pg = new PaginatedResult<>(List.of(), 50, 10);
-        when(repository.findAllProducts(pr)).thenReturn(pg);
+        var newCommand = new ProductCreateCommand("CODE000001", "New", BigDecimal.TEN, true);
+        var racedCommand = new ProductCreateCommand("CODE000002", "Raced", BigDecimal.ONE, true);
 
-        //when/then
-        assertSame(pg, service.getAllProducts(pr));
+        when(repository.findExistingCodes(Set.of("CODE000001", "CODE000002"))).thenReturn(Set.of());
+        when(exchangeRateService.getExchangeRate(SupportedCurrency.USD)).thenReturn(BigDecimal.valueOf(1.1));
+        when(mapper.mapToProduct(newCommand)).thenAnswer(invocation -> createDomainProduct(newCommand));
+        when(mapper.mapToProduct(racedCommand)).thenAnswer(invocation -> createDomainProduct(racedCommand));
+        doThrow(new DuplicateProductCodeException("A product code in the chunk was inserted concurrently"))
+                .when(repository).bulkInsert(any());
+
+        Product savedProduct = new Product(1L, "CODE000001", "New", BigDecimal.TEN, BigDecimal.valueOf(11.00), true);
+        when(repository.insertIfCodeAbsent(any())).thenReturn(Optional.of(savedProduct), Optional.empty());
+
+        //when
+        List<ProductCreateResult> results = service.importProducts(List.of(newCommand, racedCommand));
+
+        //then
+        assertEquals(ProductCreateResult.Status.CREATED, results.get(0).status());
+        assertEquals(ProductCreateResult.Status.CONFLICT, results.get(1).status());
+        verify(repository, times(2)).insertIfCodeAbsent(any());
     }
 
     private ProductCreateCommand createTestProductCommand() {
@@ -145,15 +213,4 @@ class ProductServiceTest {
                 cmd.available()
         );
     }
-
-    private Product createFullDomainProduct() {
-        return new Product(
-                42L,
-                "CODE123456",
-                "Test Product",
-                BigDecimal.valueOf(15.22),
-                BigDecimal.valueOf(17.22),
-                true
-        );
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,38 @@
+import java.time.LocalDateTime
+import java.time.format.DateTimeFormatter
+
+plugins {
+    id("me.champeau.jmh") version "0.7.2"
+}
+
+tasks.getByName<org.springframework.boot.gradle.tasks.bundling.BootJar>("bootJar") {
+    enabled = false
+}
+
+tasks.getByName<Jar>("jar") {
+    enabled = true
+}
+
+val runTimestamp: String = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"))
+
+jmh {
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+    resultFormat.set("JSON")
+    resultsFile.set(layout.projectDirectory.file("results/jmh-$runTimestamp.json"))
+
+    (project.findProperty("jmhIncludes") as String?)?.let { includes.set(listOf(it)) }
+}
+
+dependencies {
+    jmh(project(":productsmgmtapp"))
+    jmh(project(":domain"))
+    jmh(project(":application"))
+    jmh(project(":infrastructure-persistence"))
+    jmh(project(":infrastructure-exchange"))
+    jmh(project(":api-rest-implementation"))
+
+    jmh("org.springframework.boot:spring-boot-starter-web")
+    jmh("org.springframework.boot:spring-boot-starter-data-jpa")
+}
@@ -0,0 +1,68 @@
+package com.ingemark.benchmarks;
+
+import com.ingemark.api.rest.impl.dto.ProductResponse;
+import com.ingemark.api.rest.impl.mapper.ProductApiMapper;
+import com.ingemark.api.rest.impl.mapper.ProductApiMapperImpl;
+import com.ingemark.application.exchange.ExchangeRateService;
+import com.ingemark.application.exchange.PriceConversion;
+import com.ingemark.application.request.SupportedCurrency;
+import com.ingemark.domain.model.ProductView;
+import com.ingemark.infrastructure.exchange.cache.CachedExchangeRateService;
+import com.ingemark.infrastructure.exchange.config.ExchangeRateCacheProperties;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// Compares mapping a listing page as is, converted with one rate snapshot and with a rate lookup per row
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CurrencyConversionBenchmark {
+
+    @Param({"100", "1000"})
+    public int pageSize;
+
+    private final ProductApiMapper productApiMapper = new ProductApiMapperImpl();
+
+    private ExchangeRateService exchangeRateService;
+    private List<ProductView> page;
+
+    @Setup
+    public void setUp() {
+        exchangeRateService = new CachedExchangeRateService(currency -> new BigDecimal("0.8436"), new ExchangeRateCacheProperties());
+        exchangeRateService.getExchangeRate(SupportedCurrency.GBP);
+
+        Instant updatedAt = Instant.now();
+        page = IntStream.range(0, pageSize)
+                .mapToObj(i -> new ProductView((long) i, "PROD%06d".formatted(i), "Benchmark Product " + i,
+                        new BigDecimal(i % 1000 + ".99"), new BigDecimal(i % 1000 + ".49"), true, 0L, updatedAt))
+                .toList();
+    }
+
+    @Benchmark
+    public List<ProductResponse> mapPage() {
+        return page.stream()
+                .map(productApiMapper::mapViewToProductApiResponse)
+                .toList();
+    }
+
+    @Benchmark
+    public List<ProductResponse> mapPageWithRateSnapshot() {
+        PriceConversion conversion = new PriceConversion(SupportedCurrency.GBP,
+                exchangeRateService.getExchangeRate(SupportedCurrency.GBP));
+
+        return productApiMapper.mapViewsToProductApiResponses(page, conversion);
+    }
+
+    @Benchmark
+    public List<ProductResponse> mapPageWithRateLookupPerRow() {
+        return page.stream()
+                .map(view -> productApiMapper.mapViewToProductApiResponse(view, new PriceConversion(SupportedCurrency.GBP,
+                        exchangeRateService.getExchangeRate(SupportedCurrency.GBP))))
+                .toList();
+    }
+}
@@ -0,0 +1,81 @@
+package com.ingemark.benchmarks;
+
+import com.ingemark.api.rest.impl.dto.ProductRequest;
+import com.ingemark.api.rest.impl.dto.ProductResponse;
+import com.ingemark.api.rest.impl.mapper.ProductApiMapper;
+import com.ingemark.api.rest.impl.mapper.ProductApiMapperImpl;
+import com.ingemark.application.command.ProductCreateCommand;
+import com.ingemark.application.exchange.mapper.ProductDtoMapper;
+import com.ingemark.application.exchange.mapper.ProductDtoMapperImpl;
+import com.ingemark.domain.model.Product;
+import com.ingemark.infranstructure.persistence.entity.ProductEntity;
+import com.ingemark.infranstructure.persistence.mapper.ProductMapper;
+import com.ingemark.infranstructure.persistence.mapper.ProductMapperImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MappingBenchmark {
+
+    private final ProductApiMapper productApiMapper = new ProductApiMapperImpl();
+    private final ProductDtoMapper productDtoMapper = new ProductDtoMapperImpl();
+    private final ProductMapper productMapper = new ProductMapperImpl();
+
+    private ProductRequest productRequest;
+    private ProductCreateCommand productCreateCommand;
+    private Product product;
+    private ProductEntity productEntity;
+
+    @Setup
+    public void setUp() {
+        productRequest = new ProductRequest("PROD000001", "Benchmark Product", new BigDecimal("19.99"), true);
+        productCreateCommand = productApiMapper.mapToProductCreateCommand(productRequest);
+        product = new Product(1L, "PROD000001", "Benchmark Product", new BigDecimal("19.99"), new BigDecimal("23.27"), true);
+        productEntity = productMapper.mapToProductEntity(product);
+    }
+
+    @Benchmark
+    public ProductCreateCommand requestToCommand() {
+        return productApiMapper.mapToProductCreateCommand(productRequest);
+    }
+
+    @Benchmark
+    public Product commandToDomain() {
+        return productDtoMapper.mapToProduct(productCreateCommand);
+    }
+
+    @Benchmark
+    public ProductEntity domainToEntity() {
+        return productMapper.mapToProductEntity(product);
+    }
+
+    @Benchmark
+    public Product entityToDomain() {
+        return productMapper.mapToProductDomain(productEntity);
+    }
+
+    @Benchmark
+    public ProductResponse domainToResponse() {
+        return productApiMapper.mapToProductApiResponse(product);
+    }
+
+    @Benchmark
+    public ProductResponse createChain() {
+        ProductCreateCommand command = productApiMapper.mapToProductCreateCommand(productRequest);
+        Product domain = productDtoMapper.mapToProduct(command);
+        domain.setPriceInUsd(product.getPriceInUsd());
+        ProductEntity entity = productMapper.mapToProductEntity(domain);
+        entity.setId(1L);
+
+        return productApiMapper.mapToProductApiResponse(productMapper.mapToProductDomain(entity));
+    }
+
+    @Benchmark
+    public ProductResponse readChain() {
+        return productApiMapper.mapToProductApiResponse(productMapper.mapToProductDomain(productEntity));
+    }
+}
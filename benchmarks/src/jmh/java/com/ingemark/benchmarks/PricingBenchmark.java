@@ -0,0 +1,48 @@
+package com.ingemark.benchmarks;
+
+import com.ingemark.application.exchange.PriceConverter;
+import com.ingemark.domain.model.Product;
+import com.ingemark.infrastructure.exchange.model.ExchangeRateDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PricingBenchmark {
+
+    @Param({"19.99", "1234567.5"})
+    public String priceInEur;
+
+    private BigDecimal price;
+    private BigDecimal exchangeRate;
+    private Product product;
+    private ExchangeRateDto exchangeRateDto;
+
+    @Setup
+    public void setUp() {
+        price = new BigDecimal(priceInEur);
+        exchangeRate = new BigDecimal("1.1642");
+        product = new Product(1L, "PROD000001", "Benchmark Product", price, null, true);
+
+        exchangeRateDto = new ExchangeRateDto();
+        exchangeRateDto.setMidRate("1,164200");
+    }
+
+    @Benchmark
+    public BigDecimal convertEurToUsd() {
+        return PriceConverter.convert(price, exchangeRate);
+    }
+
+    @Benchmark
+    public BigDecimal getPriceInEur() {
+        return product.getPriceInEur();
+    }
+
+    @Benchmark
+    public BigDecimal parseMidRate() {
+        return exchangeRateDto.getMidRateAsBigDecimal();
+    }
+}
@@ -0,0 +1,90 @@
+package com.ingemark.benchmarks;
+
+import com.ingemark.application.command.ProductCreateCommand;
+import com.ingemark.application.exchange.ExchangeRateService;
+import com.ingemark.application.service.ProductQueryService;
+import com.ingemark.application.service.ProductService;
+import com.ingemark.domain.model.Product;
+import com.ingemark.domain.model.ProductView;
+import com.ingemark.domain.pagination.PaginatedResult;
+import com.ingemark.domain.pagination.PaginationRequest;
+import com.ingemark.productsmgmtapp.ProductsmgmtApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductServiceBenchmark {
+
+    private static final int SEEDED_PRODUCTS = 1_000;
+
+    private final AtomicLong codeSequence = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+    private ProductService productService;
+    private ProductQueryService productQueryService;
+    private Long hotProductId;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(ProductsmgmtApplication.class, StubExchangeRateConfig.class)
+                .web(WebApplicationType.NONE)
+                .profiles("dev")
+                .properties(
+                        "spring.main.allow-bean-definition-overriding=true",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.com.ingemark=WARN")
+                .run();
+        productService = context.getBean(ProductService.class);
+        productQueryService = context.getBean(ProductQueryService.class);
+
+        for (int i = 0; i < SEEDED_PRODUCTS; i++) {
+            Product product = productService.createNewProduct(nextCommand());
+            hotProductId = product.getId();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public ProductView getProductViewById() {
+        return productQueryService.getProductById(hotProductId);
+    }
+
+    @Benchmark
+    public PaginatedResult<ProductView> listFirstPageViews() {
+        return productQueryService.getAllProducts(new PaginationRequest(0, 20, "id", "ASC", null, false));
+    }
+
+    @Benchmark
+    public Product createProduct() {
+        return productService.createNewProduct(nextCommand());
+    }
+
+    private ProductCreateCommand nextCommand() {
+        return new ProductCreateCommand(String.format("B%09d", codeSequence.incrementAndGet()), "Benchmark Product",
+                new BigDecimal("19.99"), true);
+    }
+
+    @Configuration
+    static class StubExchangeRateConfig {
+
+        // Replaces the HNB client behind the rate cache so no request leaves the JVM
+        @Bean(name = "hnbExchangeRateService")
+        ExchangeRateService hnbExchangeRateService() {
+            return currency -> new BigDecimal("1.16");
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.ingemark.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ingemark.api.rest.impl.dto.ProductResponse;
+import com.ingemark.domain.pagination.PaginatedResult;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+
+    @Param({"10", "100"})
+    public int pageSize;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private PaginatedResult<ProductResponse> page;
+
+    @Setup
+    public void setUp() {
+        List<ProductResponse> items = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            items.add(new ProductResponse((long) i, String.format("PROD%06d", i), "Benchmark Product " + i,
+                    new BigDecimal("19.99"), new BigDecimal("23.27"), i % 2 == 0));
+        }
+        page = new PaginatedResult<>(items, 10_000L, 10_000 / pageSize, true, null);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
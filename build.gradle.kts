@@ -5,7 +5,9 @@ plugins {
 }
 
 java {
-	sourceCompatibility = JavaVersion.VERSION_17
+	toolchain {
+		languageVersion = JavaLanguageVersion.of(21)
+	}
 }
 
 allprojects {
@@ -22,6 +24,12 @@ subprojects {
 	apply(plugin = "org.springframework.boot")
 	apply(plugin = "io.spring.dependency-management")
 
+	extensions.configure<JavaPluginExtension> {
+		toolchain {
+			languageVersion = JavaLanguageVersion.of(21)
+		}
+	}
+
 	dependencies {
 		annotationProcessor("org.mapstruct:mapstruct-processor:1.5.5.Final")
 		implementation("org.mapstruct:mapstruct:1.5.5.Final")
@@ -21,6 +21,10 @@ public class Product {
         this.available = available;
     }
 
+    public Product(Product product) {
+        this(product.id, product.code, product.name, product.priceInEur, product.priceInUsd, product.available);
+    }
+
     public Long getId() {
         return id;
     }
@@ -0,0 +1,6 @@
+package com.ingemark.domain.model;
+
+import java.time.Instant;
+
+public record ProductVersion(Long id, long version, Instant updatedAt) {
+}
@@ -0,0 +1,19 @@
+package com.ingemark.domain.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+
+public record ProductView(Long id, String code, String name, BigDecimal priceInEur, BigDecimal priceInUsd,
+                          boolean available, long version, Instant updatedAt) {
+
+    public ProductView {
+        if (priceInEur != null) {
+            priceInEur = priceInEur.setScale(2, RoundingMode.HALF_UP);
+        }
+    }
+
+    public ProductVersion toVersion() {
+        return new ProductVersion(id, version, updatedAt);
+    }
+}
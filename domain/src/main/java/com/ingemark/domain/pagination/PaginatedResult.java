@@ -4,24 +4,52 @@ import java.util.List;
 
 public class PaginatedResult<T> {
     private final List<T> items;
-    private final long totalElements;
-    private final int totalPages;
+    private final Long totalElements;
+    private final Integer totalPages;
+    private final boolean hasNext;
+    private final String nextCursor;
 
     public PaginatedResult(List<T> items, long totalElements, int totalPages) {
+        this(items, totalElements, totalPages, false, null);
+    }
+
+    public PaginatedResult(List<T> items, Long totalElements, Integer totalPages, boolean hasNext, String nextCursor) {
         this.items = items;
         this.totalElements = totalElements;
         this.totalPages = totalPages;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    public static <T> PaginatedResult<T> withUnknownTotal(List<T> items, boolean hasNext, String nextCursor) {
+        return new PaginatedResult<>(items, null, null, hasNext, nextCursor);
+    }
+
+    public <R> PaginatedResult<R> withItems(List<R> newItems) {
+        return new PaginatedResult<>(newItems, totalElements, totalPages, hasNext, nextCursor);
     }
 
     public List<T> getItems() {
         return items;
     }
 
-    public long getTotalElements() {
+    public Long getTotalElements() {
         return totalElements;
     }
 
-    public int getTotalPages() {
+    public Integer getTotalPages() {
         return totalPages;
     }
-}
\ No newline at end of file
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean isTotalKnown() {
+        return totalElements != null;
+    }
+}
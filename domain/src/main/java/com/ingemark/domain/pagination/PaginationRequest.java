@@ -1,16 +1,42 @@
 package com.ingemark.domain.pagination;
 
 public class PaginationRequest {
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final int page;
     private final int size;
     private final String sortBy;
     private final String sortDirection;
+    private final String cursor;
+    private final boolean includeTotal;
+    private final ProductFilter filter;
 
     public PaginationRequest(int page, int size, String sortBy, String sortDirection) {
+        this(page, size, sortBy, sortDirection, null);
+    }
+
+    public PaginationRequest(int page, int size, String sortBy, String sortDirection, String cursor) {
+        this(page, size, sortBy, sortDirection, cursor, true);
+    }
+
+    public PaginationRequest(int page, int size, String sortBy, String sortDirection, String cursor, boolean includeTotal) {
+        this(page, size, sortBy, sortDirection, cursor, includeTotal, ProductFilter.NONE);
+    }
+
+    public PaginationRequest(int page, int size, String sortBy, String sortDirection, String cursor, boolean includeTotal,
+                             ProductFilter filter) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size should be between 1 and " + MAX_PAGE_SIZE);
+        }
+        ProductSortField.fromProperty(sortBy);
+
         this.page = page;
         this.size = size;
         this.sortBy = sortBy;
         this.sortDirection = sortDirection;
+        this.cursor = cursor;
+        this.includeTotal = includeTotal;
+        this.filter = filter == null ? ProductFilter.NONE : filter;
     }
 
     public int getPage() {
@@ -28,4 +54,20 @@ public class PaginationRequest {
     public String getSortDirection() {
         return sortDirection;
     }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public boolean isIncludeTotal() {
+        return includeTotal;
+    }
+
+    public ProductFilter getFilter() {
+        return filter;
+    }
+
+    public boolean isCursorMode() {
+        return cursor != null;
+    }
 }
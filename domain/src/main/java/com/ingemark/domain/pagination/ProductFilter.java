@@ -0,0 +1,27 @@
+package com.ingemark.domain.pagination;
+
+import java.math.BigDecimal;
+import java.util.stream.Stream;
+
+public record ProductFilter(Boolean available, BigDecimal minPriceEur, BigDecimal maxPriceEur,
+                            BigDecimal minPriceUsd, BigDecimal maxPriceUsd) {
+    public static final ProductFilter NONE = new ProductFilter(null, null, null, null, null);
+
+    public ProductFilter {
+        checkRange(minPriceEur, maxPriceEur, "EUR");
+        checkRange(minPriceUsd, maxPriceUsd, "USD");
+    }
+
+    public boolean isEmpty() {
+        return Stream.of(available, minPriceEur, maxPriceEur, minPriceUsd, maxPriceUsd).allMatch(value -> value == null);
+    }
+
+    private static void checkRange(BigDecimal min, BigDecimal max, String currency) {
+        if ((min != null && min.signum() < 0) || (max != null && max.signum() < 0)) {
+            throw new IllegalArgumentException("Price range in " + currency + " should not be negative");
+        }
+        if (min != null && max != null && min.compareTo(max) > 0) {
+            throw new IllegalArgumentException("Minimum price in " + currency + " should not be greater than the maximum");
+        }
+    }
+}
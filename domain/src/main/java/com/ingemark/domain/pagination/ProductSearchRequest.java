@@ -0,0 +1,43 @@
+package com.ingemark.domain.pagination;
+
+public class ProductSearchRequest {
+    public static final int MIN_QUERY_LENGTH = 3;
+    public static final int MAX_QUERY_LENGTH = 100;
+    public static final int MAX_RESULTS = 1_000;
+
+    private final String query;
+    private final int page;
+    private final int size;
+
+    // Shorter fragments cannot be answered from the trigram index, deeper pages are better served by a narrower query
+    public ProductSearchRequest(String query, int page, int size) {
+        String trimmedQuery = query == null ? "" : query.trim();
+
+        if (trimmedQuery.length() < MIN_QUERY_LENGTH || trimmedQuery.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Search query should be between " + MIN_QUERY_LENGTH + " and "
+                    + MAX_QUERY_LENGTH + " characters long");
+        }
+        if (size < 1 || size > PaginationRequest.MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size should be between 1 and " + PaginationRequest.MAX_PAGE_SIZE);
+        }
+        if (page < 0 || (long) (page + 1) * size > MAX_RESULTS) {
+            throw new IllegalArgumentException("Search returns at most the first " + MAX_RESULTS + " matches, refine the query");
+        }
+
+        this.query = trimmedQuery;
+        this.page = page;
+        this.size = size;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+}
@@ -0,0 +1,49 @@
+package com.ingemark.domain.pagination;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+// Only fields backed by an index that already returns rows in sort order (with id as tie-breaker) can be sorted on
+public enum ProductSortField {
+    ID("id", "id", true, false),
+    CODE("code", "code", true, false),
+    NAME("name", "name", false, false),
+    PRICE_IN_EUR("priceInEur", "price_in_eur", false, true),
+    PRICE_IN_USD("priceInUsd", "price_in_usd", false, true);
+
+    private final String property;
+    private final String column;
+    private final boolean unique;
+    private final boolean nullable;
+
+    ProductSortField(String property, String column, boolean unique, boolean nullable) {
+        this.property = property;
+        this.column = column;
+        this.unique = unique;
+        this.nullable = nullable;
+    }
+
+    public static ProductSortField fromProperty(String property) {
+        return Arrays.stream(values())
+                .filter(field -> field.property.equals(property))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Sorting by '" + property + "' is not supported, use one of: "
+                        + Arrays.stream(values()).map(ProductSortField::getProperty).collect(Collectors.joining(", "))));
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    public boolean isUnique() {
+        return unique;
+    }
+
+    public boolean isNullable() {
+        return nullable;
+    }
+}
@@ -12,4 +12,5 @@ dependencies {
     implementation("com.fasterxml.jackson.core:jackson-databind")
     implementation("org.springframework.boot:spring-boot-starter-webflux")
     implementation("org.springframework.retry:spring-retry")
+    implementation("io.micrometer:micrometer-core")
 }
\ No newline at end of file
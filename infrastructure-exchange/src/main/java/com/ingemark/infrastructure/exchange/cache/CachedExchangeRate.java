@@ -0,0 +1,24 @@
+package com.ingemark.infrastructure.exchange.cache;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+
+record CachedExchangeRate(BigDecimal rate, Instant fetchedAt, Instant expiresAt, Instant nextRefreshAt) {
+
+    boolean isFresh(Instant now) {
+        return now.isBefore(expiresAt);
+    }
+
+    boolean isServable(Instant now, Duration maxStaleness) {
+        return now.isBefore(expiresAt.plus(maxStaleness));
+    }
+
+    boolean isRefreshDue(Instant now) {
+        return !now.isBefore(nextRefreshAt);
+    }
+
+    CachedExchangeRate withNextRefreshAt(Instant nextRefreshAt) {
+        return new CachedExchangeRate(rate, fetchedAt, expiresAt, nextRefreshAt);
+    }
+}
@@ -0,0 +1,224 @@
+package com.ingemark.infrastructure.exchange.cache;
+
+import com.ingemark.application.exception.ExchangeRateUnavailableException;
+import com.ingemark.application.exchange.ExchangeRateService;
+import com.ingemark.application.request.SupportedCurrency;
+import com.ingemark.infrastructure.exchange.config.ExchangeRateCacheProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Service
+@Primary
+public class CachedExchangeRateService implements ExchangeRateService {
+    private static final Logger logger = LoggerFactory.getLogger(CachedExchangeRateService.class);
+
+    // HNB quotes every currency against EUR, so EUR itself is never fetched
+    private static final Set<SupportedCurrency> QUOTED_CURRENCIES = EnumSet.complementOf(EnumSet.of(SupportedCurrency.EUR));
+
+    private final ExchangeRateService delegate;
+    private final ExchangeRateCacheProperties properties;
+    private final HnbPublicationSchedule publicationSchedule;
+    private final Clock clock;
+
+    // Readers always see one immutable snapshot, a bulk load replaces the rates of all currencies in a single swap
+    private final AtomicReference<Map<SupportedCurrency, CachedExchangeRate>> snapshot =
+            new AtomicReference<>(Collections.emptyMap());
+    private final ReentrantLock bulkLoadLock = new ReentrantLock();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+
+    public CachedExchangeRateService(@Qualifier("storedExchangeRateService") ExchangeRateService delegate,
+                                     ExchangeRateCacheProperties properties) {
+        this(delegate, properties, Clock.systemUTC());
+    }
+
+    CachedExchangeRateService(ExchangeRateService delegate, ExchangeRateCacheProperties properties, Clock clock) {
+        this.delegate = delegate;
+        this.properties = properties;
+        this.publicationSchedule = new HnbPublicationSchedule(properties);
+        this.clock = clock;
+    }
+
+    @Override
+    public BigDecimal getExchangeRate(SupportedCurrency currency) {
+        Instant now = clock.instant();
+        CachedExchangeRate entry = snapshot.get().get(currency);
+
+        if (entry != null && entry.isFresh(now)) {
+            hits.increment();
+            return entry.rate();
+        }
+
+        // A failed refresh postpones the next attempt, keep serving the old rate until then instead of waiting on HNB
+        if (entry != null && entry.isServable(now, properties.getMaxStaleness()) && !entry.isRefreshDue(now)) {
+            return serveStale(currency, entry);
+        }
+
+        misses.increment();
+        try {
+            return load(currency, entry).rate();
+        } catch (RuntimeException exception) {
+            if (entry == null || !entry.isServable(now, properties.getMaxStaleness())) {
+                throw exception;
+            }
+            postponeRefresh(Map.of(currency, entry), exception);
+            return serveStale(currency, entry);
+        }
+    }
+
+    // All cached currencies are reloaded with one bulk request once any of them is due, so they keep sharing a snapshot
+    @Scheduled(fixedDelayString = "${exchange.cache.refresh-check-interval:PT30S}")
+    public void refreshExpiringRates() {
+        Instant now = clock.instant();
+        Map<SupportedCurrency, CachedExchangeRate> current = snapshot.get();
+
+        if (current.values().stream().noneMatch(entry -> entry.isRefreshDue(now))) {
+            return;
+        }
+
+        try {
+            refreshes.add(loadRates(current.keySet()));
+        } catch (RuntimeException exception) {
+            Map<SupportedCurrency, CachedExchangeRate> dueEntries = new EnumMap<>(SupportedCurrency.class);
+            current.forEach((currency, entry) -> {
+                if (entry.isRefreshDue(now)) {
+                    dueEntries.put(currency, entry);
+                }
+            });
+            postponeRefresh(dueEntries, exception);
+        }
+    }
+
+    public int loadAllRates() {
+        return loadRates(QUOTED_CURRENCIES);
+    }
+
+    // The entry ages from fetchedAt as if it had been loaded then; a rate already loaded by this instance wins
+    public void warmUp(SupportedCurrency currency, BigDecimal rate, Instant fetchedAt) {
+        CachedExchangeRate warmed = createEntry(rate, fetchedAt);
+        snapshot.updateAndGet(current -> current.containsKey(currency) ? current : with(current, Map.of(currency, warmed)));
+    }
+
+    public ExchangeRateCacheStats getStats() {
+        Instant now = clock.instant();
+        Map<SupportedCurrency, Duration> entryAges = new EnumMap<>(SupportedCurrency.class);
+        snapshot.get().forEach((currency, entry) -> entryAges.put(currency, Duration.between(entry.fetchedAt(), now)));
+
+        return new ExchangeRateCacheStats(hits.sum(), misses.sum(), staleHits.sum(), refreshes.sum(),
+                refreshFailures.sum(), entryAges);
+    }
+
+    // A miss loads every quoted currency, so a currency is never cached from a different list than the others
+    private CachedExchangeRate load(SupportedCurrency currency, CachedExchangeRate previous) {
+        bulkLoadLock.lock();
+
+        try {
+            CachedExchangeRate current = snapshot.get().get(currency);
+            if (current != null && current != previous) {
+                return current;
+            }
+
+            loadRates(QUOTED_CURRENCIES);
+            CachedExchangeRate loaded = snapshot.get().get(currency);
+            if (loaded == null) {
+                throw new ExchangeRateUnavailableException("No exchange rate data found for currency: " + currency);
+            }
+            return loaded;
+        } finally {
+            bulkLoadLock.unlock();
+        }
+    }
+
+    private int loadRates(Set<SupportedCurrency> currencies) {
+        if (currencies.isEmpty()) {
+            return 0;
+        }
+
+        bulkLoadLock.lock();
+        try {
+            Map<SupportedCurrency, BigDecimal> rates = delegate.getExchangeRates(currencies);
+            Instant fetchedAt = clock.instant();
+
+            Map<SupportedCurrency, CachedExchangeRate> loaded = new EnumMap<>(SupportedCurrency.class);
+            rates.forEach((currency, rate) -> loaded.put(currency, createEntry(rate, fetchedAt)));
+            snapshot.updateAndGet(entries -> with(entries, loaded));
+
+            logger.info("Cached exchange rates {} fetched at {}", rates, fetchedAt);
+            return loaded.size();
+        } finally {
+            bulkLoadLock.unlock();
+        }
+    }
+
+    private BigDecimal serveStale(SupportedCurrency currency, CachedExchangeRate entry) {
+        staleHits.increment();
+        logger.warn("Serving stale exchange rate for {} fetched at {}", currency.getCode(), entry.fetchedAt());
+
+        return entry.rate();
+    }
+
+    // Only entries still holding the failed rate are postponed, a rate loaded meanwhile keeps its own schedule
+    private void postponeRefresh(Map<SupportedCurrency, CachedExchangeRate> failedEntries, RuntimeException exception) {
+        Instant nextRefreshAt = clock.instant().plus(properties.getRetryInterval());
+        refreshFailures.add(failedEntries.size());
+
+        snapshot.updateAndGet(current -> {
+            Map<SupportedCurrency, CachedExchangeRate> postponed = new EnumMap<>(SupportedCurrency.class);
+            failedEntries.forEach((currency, entry) -> {
+                if (current.get(currency) == entry) {
+                    postponed.put(currency, entry.withNextRefreshAt(nextRefreshAt));
+                }
+            });
+            return with(current, postponed);
+        });
+
+        logger.warn("Refreshing exchange rates for {} failed, next attempt in {}",
+                failedEntries.keySet(), properties.getRetryInterval(), exception);
+    }
+
+    private static Map<SupportedCurrency, CachedExchangeRate> with(Map<SupportedCurrency, CachedExchangeRate> current,
+                                                                   Map<SupportedCurrency, CachedExchangeRate> changes) {
+        if (changes.isEmpty()) {
+            return current;
+        }
+
+        Map<SupportedCurrency, CachedExchangeRate> next = new EnumMap<>(SupportedCurrency.class);
+        next.putAll(current);
+        next.putAll(changes);
+        return Collections.unmodifiableMap(next);
+    }
+
+    private CachedExchangeRate createEntry(BigDecimal rate, Instant fetchedAt) {
+        Instant ttlExpiry = fetchedAt.plus(properties.getTimeToLive());
+        Instant publicationExpiry = publicationSchedule.nextPublicationAfter(fetchedAt);
+        Instant expiresAt = ttlExpiry.isBefore(publicationExpiry) ? ttlExpiry : publicationExpiry;
+
+        Instant refreshAt = expiresAt.minus(properties.getRefreshAhead());
+        if (refreshAt.isBefore(fetchedAt)) {
+            refreshAt = fetchedAt;
+        }
+
+        return new CachedExchangeRate(rate, fetchedAt, expiresAt, refreshAt);
+    }
+}
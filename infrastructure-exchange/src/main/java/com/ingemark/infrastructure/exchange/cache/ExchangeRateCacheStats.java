@@ -0,0 +1,10 @@
+package com.ingemark.infrastructure.exchange.cache;
+
+import com.ingemark.application.request.SupportedCurrency;
+
+import java.time.Duration;
+import java.util.Map;
+
+public record ExchangeRateCacheStats(long hits, long misses, long staleHits, long refreshes, long refreshFailures,
+                                     Map<SupportedCurrency, Duration> entryAges) {
+}
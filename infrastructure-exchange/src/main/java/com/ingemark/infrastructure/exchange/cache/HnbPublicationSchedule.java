@@ -0,0 +1,46 @@
+package com.ingemark.infrastructure.exchange.cache;
+
+import com.ingemark.infrastructure.exchange.config.ExchangeRateCacheProperties;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Set;
+
+public class HnbPublicationSchedule {
+    private final ZoneId zone;
+    private final LocalTime publicationTime;
+    private final Duration publicationDelay;
+    private final Set<DayOfWeek> publicationDays;
+
+    public HnbPublicationSchedule(ExchangeRateCacheProperties properties) {
+        this.zone = properties.getZone();
+        this.publicationTime = properties.getPublicationTime();
+        this.publicationDelay = properties.getPublicationDelay();
+        this.publicationDays = properties.getPublicationDays();
+
+        if (publicationDays.isEmpty()) {
+            throw new IllegalArgumentException("At least one exchange rate publication day should be configured");
+        }
+    }
+
+    public Instant nextPublicationAfter(Instant instant) {
+        ZonedDateTime after = instant.atZone(zone);
+        // Start a day early in case the delay pushes yesterday's list past midnight
+        LocalDate date = after.toLocalDate().minusDays(1);
+
+        while (true) {
+            if (publicationDays.contains(date.getDayOfWeek())) {
+                ZonedDateTime availableAt = date.atTime(publicationTime).atZone(zone).plus(publicationDelay);
+                if (availableAt.isAfter(after)) {
+                    return availableAt.toInstant();
+                }
+            }
+            date = date.plusDays(1);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.ingemark.infrastructure.exchange.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.EnumSet;
+import java.util.Set;
+
+@Component
+@ConfigurationProperties(prefix = "exchange.cache")
+public class ExchangeRateCacheProperties {
+    private Duration timeToLive = Duration.ofHours(6);
+    private Duration refreshAhead = Duration.ofMinutes(5);
+    private Duration maxStaleness = Duration.ofHours(24);
+    private Duration retryInterval = Duration.ofMinutes(1);
+    private ZoneId zone = ZoneId.of("Europe/Zagreb");
+    @DateTimeFormat(pattern = "HH:mm")
+    private LocalTime publicationTime = LocalTime.of(16, 0);
+    private Duration publicationDelay = Duration.ofMinutes(15);
+    private Set<DayOfWeek> publicationDays = EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY);
+
+    public Duration getTimeToLive() {
+        return timeToLive;
+    }
+
+    public void setTimeToLive(Duration timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    public Duration getRefreshAhead() {
+        return refreshAhead;
+    }
+
+    public void setRefreshAhead(Duration refreshAhead) {
+        this.refreshAhead = refreshAhead;
+    }
+
+    public Duration getMaxStaleness() {
+        return maxStaleness;
+    }
+
+    public void setMaxStaleness(Duration maxStaleness) {
+        this.maxStaleness = maxStaleness;
+    }
+
+    public Duration getRetryInterval() {
+        return retryInterval;
+    }
+
+    public void setRetryInterval(Duration retryInterval) {
+        this.retryInterval = retryInterval;
+    }
+
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    public void setZone(ZoneId zone) {
+        this.zone = zone;
+    }
+
+    public LocalTime getPublicationTime() {
+        return publicationTime;
+    }
+
+    public void setPublicationTime(LocalTime publicationTime) {
+        this.publicationTime = publicationTime;
+    }
+
+    public Duration getPublicationDelay() {
+        return publicationDelay;
+    }
+
+    public void setPublicationDelay(Duration publicationDelay) {
+        this.publicationDelay = publicationDelay;
+    }
+
+    public Set<DayOfWeek> getPublicationDays() {
+        return publicationDays;
+    }
+
+    public void setPublicationDays(Set<DayOfWeek> publicationDays) {
+        this.publicationDays = publicationDays;
+    }
+}
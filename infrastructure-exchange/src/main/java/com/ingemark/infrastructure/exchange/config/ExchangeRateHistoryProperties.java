@@ -0,0 +1,38 @@
+package com.ingemark.infrastructure.exchange.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "exchange.history")
+public class ExchangeRateHistoryProperties {
+    private boolean offline = true;
+    private Duration compactAfter = Duration.ofDays(31);
+    private Duration retention = Duration.ofDays(400);
+
+    public boolean isOffline() {
+        return offline;
+    }
+
+    public void setOffline(boolean offline) {
+        this.offline = offline;
+    }
+
+    public Duration getCompactAfter() {
+        return compactAfter;
+    }
+
+    public void setCompactAfter(Duration compactAfter) {
+        this.compactAfter = compactAfter;
+    }
+
+    public Duration getRetention() {
+        return retention;
+    }
+
+    public void setRetention(Duration retention) {
+        this.retention = retention;
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.stereotype.Component;
 public class HnbExchangeProperties {
     private String baseUrl;
     private String uriPath;
+    private String bulkUriPath = "/tecajn-eur/v3";
 
     public String getBaseUrl() {
         return baseUrl;
@@ -25,4 +26,12 @@ public class HnbExchangeProperties {
     public void setUriPath(String uriPath) {
         this.uriPath = uriPath;
     }
+
+    public String getBulkUriPath() {
+        return bulkUriPath;
+    }
+
+    public void setBulkUriPath(String bulkUriPath) {
+        this.bulkUriPath = bulkUriPath;
+    }
 }
@@ -0,0 +1,59 @@
+package com.ingemark.infrastructure.exchange.history;
+
+import com.ingemark.application.exchange.StoredExchangeRate;
+import com.ingemark.application.repository.ExchangeRateHistoryRepository;
+import com.ingemark.application.request.SupportedCurrency;
+import com.ingemark.infrastructure.exchange.cache.CachedExchangeRateService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+// Seeds the rate cache from the stored history, so the first product created after a restart does not wait on HNB.
+// Outdated seeds are refreshed here, before traffic depends on them, and stay servable if that refresh fails
+@Component
+public class ExchangeRateCacheWarmer {
+    private static final Logger logger = LoggerFactory.getLogger(ExchangeRateCacheWarmer.class);
+
+    private final ExchangeRateHistoryRepository historyRepository;
+    private final CachedExchangeRateService cachedExchangeRateService;
+
+    public ExchangeRateCacheWarmer(ExchangeRateHistoryRepository historyRepository,
+                                   CachedExchangeRateService cachedExchangeRateService) {
+        this.historyRepository = historyRepository;
+        this.cachedExchangeRateService = cachedExchangeRateService;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        int warmed = 0;
+        try {
+            for (SupportedCurrency currency : SupportedCurrency.values()) {
+                Optional<StoredExchangeRate> stored = historyRepository.findLatest(currency);
+                if (stored.isPresent()) {
+                    cachedExchangeRateService.warmUp(currency, stored.get().rate(), stored.get().fetchedAt());
+                    logger.info("Warmed exchange rate cache for {} with the rate from {}", currency.getCode(), stored.get().rateDate());
+                    warmed++;
+                }
+            }
+        } catch (RuntimeException exception) {
+            logger.warn("Warming the exchange rate cache failed, rates will be fetched on first use", exception);
+            return;
+        }
+
+        if (warmed > 0) {
+            cachedExchangeRateService.refreshExpiringRates();
+            return;
+        }
+
+        // Nothing stored yet, so every rate is loaded with a single HNB request instead of one per currency on first use
+        try {
+            cachedExchangeRateService.loadAllRates();
+        } catch (RuntimeException exception) {
+            logger.warn("Loading exchange rates on startup failed, rates will be fetched on first use", exception);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.ingemark.infrastructure.exchange.history;
+
+import com.ingemark.application.repository.ExchangeRateHistoryRepository;
+import com.ingemark.infrastructure.exchange.config.ExchangeRateCacheProperties;
+import com.ingemark.infrastructure.exchange.config.ExchangeRateHistoryProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+@Component
+public class ExchangeRateHistoryCleaner {
+    private static final Logger logger = LoggerFactory.getLogger(ExchangeRateHistoryCleaner.class);
+
+    private final ExchangeRateHistoryRepository historyRepository;
+    private final ExchangeRateHistoryProperties properties;
+    private final ExchangeRateCacheProperties cacheProperties;
+    private final Clock clock;
+
+    public ExchangeRateHistoryCleaner(ExchangeRateHistoryRepository historyRepository,
+                                      ExchangeRateHistoryProperties properties,
+                                      ExchangeRateCacheProperties cacheProperties) {
+        this(historyRepository, properties, cacheProperties, Clock.systemUTC());
+    }
+
+    ExchangeRateHistoryCleaner(ExchangeRateHistoryRepository historyRepository, ExchangeRateHistoryProperties properties,
+                               ExchangeRateCacheProperties cacheProperties, Clock clock) {
+        this.historyRepository = historyRepository;
+        this.properties = properties;
+        this.cacheProperties = cacheProperties;
+        this.clock = clock;
+    }
+
+    // Daily rows are thinned to one per month after compact-after and dropped after retention,
+    // the latest rate of every currency is always kept
+    @Scheduled(cron = "${exchange.history.cleanup-cron:0 30 3 * * *}", zone = "${exchange.cache.zone:Europe/Zagreb}")
+    public void cleanUp() {
+        LocalDate today = LocalDate.now(clock.withZone(cacheProperties.getZone()));
+
+        int compacted = historyRepository.compactOlderThan(today.minusDays(properties.getCompactAfter().toDays()));
+        int deleted = historyRepository.deleteOlderThan(today.minusDays(properties.getRetention().toDays()));
+
+        logger.info("Exchange rate history cleaned up, {} rows compacted and {} rows past retention deleted", compacted, deleted);
+    }
+}
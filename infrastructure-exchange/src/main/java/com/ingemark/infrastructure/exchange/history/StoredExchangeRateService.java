@@ -0,0 +1,113 @@
+package com.ingemark.infrastructure.exchange.history;
+
+import com.ingemark.application.exchange.ExchangeRateService;
+import com.ingemark.application.exchange.StoredExchangeRate;
+import com.ingemark.application.repository.ExchangeRateHistoryRepository;
+import com.ingemark.application.request.SupportedCurrency;
+import com.ingemark.infrastructure.exchange.cache.HnbPublicationSchedule;
+import com.ingemark.infrastructure.exchange.config.ExchangeRateCacheProperties;
+import com.ingemark.infrastructure.exchange.config.ExchangeRateHistoryProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+// Sits between the in-memory cache and HNB: every fetched rate is stored per currency and day, and in offline mode
+// a rate fetched after the latest HNB publication is served without calling HNB
+@Service
+public class StoredExchangeRateService implements ExchangeRateService {
+    private static final Logger logger = LoggerFactory.getLogger(StoredExchangeRateService.class);
+
+    private final ExchangeRateService delegate;
+    private final ExchangeRateHistoryRepository historyRepository;
+    private final ExchangeRateHistoryProperties properties;
+    private final ExchangeRateCacheProperties cacheProperties;
+    private final HnbPublicationSchedule publicationSchedule;
+    private final Clock clock;
+
+    public StoredExchangeRateService(@Qualifier("hnbExchangeRateService") ExchangeRateService delegate,
+                                     ExchangeRateHistoryRepository historyRepository,
+                                     ExchangeRateHistoryProperties properties,
+                                     ExchangeRateCacheProperties cacheProperties) {
+        this(delegate, historyRepository, properties, cacheProperties, Clock.systemUTC());
+    }
+
+    StoredExchangeRateService(ExchangeRateService delegate, ExchangeRateHistoryRepository historyRepository,
+                              ExchangeRateHistoryProperties properties, ExchangeRateCacheProperties cacheProperties,
+                              Clock clock) {
+        this.delegate = delegate;
+        this.historyRepository = historyRepository;
+        this.properties = properties;
+        this.cacheProperties = cacheProperties;
+        this.publicationSchedule = new HnbPublicationSchedule(cacheProperties);
+        this.clock = clock;
+    }
+
+    @Override
+    public BigDecimal getExchangeRate(SupportedCurrency currency) {
+        Instant now = clock.instant();
+        LocalDate today = LocalDate.ofInstant(now, cacheProperties.getZone());
+
+        if (properties.isOffline()) {
+            Optional<StoredExchangeRate> stored = historyRepository.findLatest(currency);
+            if (stored.isPresent() && isCurrent(stored.get(), now)) {
+                logger.debug("Serving stored exchange rate for {} from {}", currency.getCode(), stored.get().rateDate());
+                return stored.get().rate();
+            }
+        }
+
+        BigDecimal rate = delegate.getExchangeRate(currency);
+        store(new StoredExchangeRate(currency, today, rate, now));
+
+        return rate;
+    }
+
+    // Stored rates are served only when every currency has one fetched since the latest publication, so they all come
+    // from the same list; otherwise all currencies are fetched again with one HNB request
+    @Override
+    public Map<SupportedCurrency, BigDecimal> getExchangeRates(Set<SupportedCurrency> currencies) {
+        Instant now = clock.instant();
+        LocalDate today = LocalDate.ofInstant(now, cacheProperties.getZone());
+
+        if (properties.isOffline()) {
+            Map<SupportedCurrency, BigDecimal> stored = new EnumMap<>(SupportedCurrency.class);
+            for (SupportedCurrency currency : currencies) {
+                historyRepository.findLatest(currency)
+                        .filter(rate -> isCurrent(rate, now))
+                        .ifPresent(rate -> stored.put(currency, rate.rate()));
+            }
+            if (stored.keySet().containsAll(currencies)) {
+                logger.debug("Serving stored exchange rates for {}", currencies);
+                return stored;
+            }
+        }
+
+        Map<SupportedCurrency, BigDecimal> fetched = delegate.getExchangeRates(currencies);
+        fetched.forEach((currency, rate) -> store(new StoredExchangeRate(currency, today, rate, now)));
+
+        return fetched;
+    }
+
+    // A rate fetched before today's publication is stale once the new list is out, even though it was stored today
+    private boolean isCurrent(StoredExchangeRate stored, Instant now) {
+        return publicationSchedule.nextPublicationAfter(stored.fetchedAt()).isAfter(now);
+    }
+
+    // The fetched rate is still returned when it cannot be stored, the next fetch of the day will try again
+    private void store(StoredExchangeRate exchangeRate) {
+        try {
+            historyRepository.save(exchangeRate);
+        } catch (RuntimeException exception) {
+            logger.warn("Storing exchange rate for {} failed", exchangeRate.currency().getCode(), exception);
+        }
+    }
+}
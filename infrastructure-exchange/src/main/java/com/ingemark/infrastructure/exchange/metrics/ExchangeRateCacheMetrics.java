@@ -0,0 +1,62 @@
+package com.ingemark.infrastructure.exchange.metrics;
+
+import com.ingemark.application.request.SupportedCurrency;
+import com.ingemark.infrastructure.exchange.cache.CachedExchangeRateService;
+import com.ingemark.infrastructure.exchange.cache.ExchangeRateCacheStats;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.ToDoubleFunction;
+
+@Component
+public class ExchangeRateCacheMetrics implements MeterBinder {
+
+    private final CachedExchangeRateService cachedExchangeRateService;
+
+    public ExchangeRateCacheMetrics(CachedExchangeRateService cachedExchangeRateService) {
+        this.cachedExchangeRateService = cachedExchangeRateService;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        registerRequests(registry, "hit", ExchangeRateCacheStats::hits);
+        registerRequests(registry, "miss", ExchangeRateCacheStats::misses);
+        registerRequests(registry, "stale", ExchangeRateCacheStats::staleHits);
+
+        FunctionCounter.builder("exchange.rate.cache.refreshes", cachedExchangeRateService,
+                        service -> service.getStats().refreshes())
+                .description("Exchange rates reloaded ahead of expiry")
+                .tag("outcome", "success")
+                .register(registry);
+        FunctionCounter.builder("exchange.rate.cache.refreshes", cachedExchangeRateService,
+                        service -> service.getStats().refreshFailures())
+                .description("Exchange rates reloaded ahead of expiry")
+                .tag("outcome", "failure")
+                .register(registry);
+
+        for (SupportedCurrency currency : SupportedCurrency.values()) {
+            Gauge.builder("exchange.rate.cache.age", cachedExchangeRateService, service -> entryAgeSeconds(service, currency))
+                    .description("Age of the cached exchange rate")
+                    .baseUnit("seconds")
+                    .tag("currency", currency.getCode())
+                    .register(registry);
+        }
+    }
+
+    private void registerRequests(MeterRegistry registry, String result, ToDoubleFunction<ExchangeRateCacheStats> count) {
+        FunctionCounter.builder("exchange.rate.cache.requests", cachedExchangeRateService,
+                        service -> count.applyAsDouble(service.getStats()))
+                .description("Exchange rate lookups served by the cache, by result")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static double entryAgeSeconds(CachedExchangeRateService service, SupportedCurrency currency) {
+        Duration age = service.getStats().entryAges().get(currency);
+        return age == null ? Double.NaN : age.toMillis() / 1000.0;
+    }
+}
@@ -0,0 +1,64 @@
+package com.ingemark.infrastructure.exchange.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
+import org.springframework.stereotype.Component;
+
+@Component("exchangeRateRetryMetrics")
+public class ExchangeRateRetryMetrics implements RetryListener {
+    private static final String SAMPLE_ATTRIBUTE = ExchangeRateRetryMetrics.class.getName() + ".sample";
+
+    private final MeterRegistry meterRegistry;
+    private final Counter attemptFailures;
+    private final Counter retries;
+    private final Counter failures;
+
+    public ExchangeRateRetryMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        attemptFailures = Counter.builder("hnb.exchange.rate.attempt.failures")
+                .description("Failed single attempts to fetch an exchange rate from HNB")
+                .register(meterRegistry);
+        retries = Counter.builder("hnb.exchange.rate.retries")
+                .description("Retried attempts to fetch an exchange rate from HNB")
+                .register(meterRegistry);
+        failures = Counter.builder("hnb.exchange.rate.failures")
+                .description("Exchange rate fetches that failed after all attempts")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public <T, E extends Throwable> boolean open(RetryContext context, RetryCallback<T, E> callback) {
+        context.setAttribute(SAMPLE_ATTRIBUTE, Timer.start(meterRegistry));
+        return true;
+    }
+
+    @Override
+    public <T, E extends Throwable> void onError(RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
+        attemptFailures.increment();
+    }
+
+    @Override
+    public <T, E extends Throwable> void close(RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
+        boolean failed = throwable != null;
+        int retried = failed ? context.getRetryCount() - 1 : context.getRetryCount();
+        if (retried > 0) {
+            retries.increment(retried);
+        }
+        if (failed) {
+            failures.increment();
+        }
+
+        // The whole call is timed, so the latency includes the backoff between attempts
+        Timer.Sample sample = (Timer.Sample) context.getAttribute(SAMPLE_ATTRIBUTE);
+        if (sample != null) {
+            sample.stop(Timer.builder("hnb.exchange.rate.requests")
+                    .description("Latency of exchange rate fetches from HNB, including retries")
+                    .tag("outcome", failed ? "failure" : "success")
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.ingemark.infrastructure.exchange.reactive;
+
+import com.ingemark.application.exception.ExchangeRateUnavailableException;
+import com.ingemark.application.reactive.ReactiveExchangeRateService;
+import com.ingemark.application.request.SupportedCurrency;
+import com.ingemark.infrastructure.exchange.cache.HnbPublicationSchedule;
+import com.ingemark.infrastructure.exchange.config.ExchangeRateCacheProperties;
+import com.ingemark.infrastructure.exchange.config.HnbExchangeProperties;
+import com.ingemark.infrastructure.exchange.model.ExchangeRateDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class HnbReactiveExchangeRateService implements ReactiveExchangeRateService {
+    private static final Logger logger = LoggerFactory.getLogger(HnbReactiveExchangeRateService.class);
+
+    private static final int MAX_RETRIES = 2;
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(2);
+
+    private final HnbExchangeProperties properties;
+    private final ExchangeRateCacheProperties cacheProperties;
+    private final HnbPublicationSchedule publicationSchedule;
+    private final WebClient webClient;
+    private final Clock clock = Clock.systemUTC();
+    private final Map<SupportedCurrency, Mono<BigDecimal>> cachedRates = new ConcurrentHashMap<>();
+
+    public HnbReactiveExchangeRateService(HnbExchangeProperties properties, ExchangeRateCacheProperties cacheProperties,
+                                          WebClient.Builder webClientBuilder) {
+        this.properties = properties;
+        this.cacheProperties = cacheProperties;
+        this.publicationSchedule = new HnbPublicationSchedule(cacheProperties);
+        this.webClient = webClientBuilder.baseUrl(properties.getBaseUrl()).build();
+    }
+
+    @Override
+    public Mono<BigDecimal> getExchangeRate(SupportedCurrency currency) {
+        return cachedRates.computeIfAbsent(currency, key -> fetchExchangeRate(key)
+                .cache(rate -> timeToLive(), error -> Duration.ZERO, () -> Duration.ZERO));
+    }
+
+    private Mono<BigDecimal> fetchExchangeRate(SupportedCurrency currency) {
+        String uri = properties.getUriPath() + currency.getCode();
+
+        return webClient.get()
+                .uri(uri)
+                .retrieve()
+                .bodyToMono(ExchangeRateDto[].class)
+                .filter(response -> response.length > 0)
+                .map(response -> response[0].getMidRateAsBigDecimal())
+                .switchIfEmpty(Mono.error(() -> new ExchangeRateUnavailableException("No exchange rate data found for currency: " + currency)))
+                .onErrorMap(WebClientResponseException.class, exception ->
+                        new ExchangeRateUnavailableException("Exchange rate service returned an error: " + exception.getStatusCode()))
+                .onErrorMap(exception -> !(exception instanceof ExchangeRateUnavailableException), exception ->
+                        new ExchangeRateUnavailableException("Failed to fetch exchange rate for currency: " + currency.getCode()))
+                .retryWhen(Retry.fixedDelay(MAX_RETRIES, RETRY_DELAY)
+                        .onRetryExhaustedThrow((retrySpec, retrySignal) -> retrySignal.failure()))
+                .doOnSubscribe(subscription -> logger.info("Fetching exchange rate for currency: {}", currency.getCode()))
+                .doOnError(exception -> logger.error("Fetching exchange rate for currency {} failed", currency.getCode(), exception));
+    }
+
+    private Duration timeToLive() {
+        Instant now = clock.instant();
+        Duration untilNextPublication = Duration.between(now, publicationSchedule.nextPublicationAfter(now));
+
+        return untilNextPublication.compareTo(cacheProperties.getTimeToLive()) < 0
+                ? untilNextPublication
+                : cacheProperties.getTimeToLive();
+    }
+}
@@ -0,0 +1,78 @@
+package com.ingemark.infrastructure.exchange.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.ingemark.application.request.SupportedCurrency;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+
+// Walks the HNB rate list token by token straight from the response stream and keeps only the currency code
+// and mid rate of each row, the other fields are skipped without being materialized
+final class HnbExchangeRateListParser {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final String CURRENCY_FIELD = "valuta";
+    private static final String MID_RATE_FIELD = "srednji_tecaj";
+
+    private HnbExchangeRateListParser() {
+    }
+
+    static Map<SupportedCurrency, BigDecimal> parse(InputStream body, Set<SupportedCurrency> currencies) throws IOException {
+        Map<SupportedCurrency, BigDecimal> rates = new EnumMap<>(SupportedCurrency.class);
+
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected an array of exchange rates");
+            }
+
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                String code = null;
+                BigDecimal midRate = null;
+
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    parser.nextToken();
+
+                    switch (field) {
+                        case CURRENCY_FIELD -> code = parser.getText();
+                        case MID_RATE_FIELD -> midRate = parseMidRate(parser);
+                        default -> parser.skipChildren();
+                    }
+                }
+
+                if (code != null && midRate != null) {
+                    for (SupportedCurrency currency : currencies) {
+                        if (currency.getCode().equals(code)) {
+                            rates.put(currency, midRate);
+                        }
+                    }
+                }
+            }
+        }
+
+        return rates;
+    }
+
+    // HNB formats rates with a decimal comma, it is swapped in a copy of the token instead of building a new String
+    private static BigDecimal parseMidRate(JsonParser parser) throws IOException {
+        char[] text = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        int length = parser.getTextLength();
+
+        char[] digits = new char[length];
+        for (int i = 0; i < length; i++) {
+            char character = text[offset + i];
+            digits[i] = character == ',' ? '.' : character;
+        }
+
+        return new BigDecimal(digits).setScale(2, RoundingMode.HALF_UP);
+    }
+}
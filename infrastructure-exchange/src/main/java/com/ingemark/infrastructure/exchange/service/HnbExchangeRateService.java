@@ -7,14 +7,20 @@ import com.ingemark.application.exchange.ExchangeRateService;
 import com.ingemark.application.request.SupportedCurrency;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
+import java.io.InputStream;
 import java.math.BigDecimal;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 public class HnbExchangeRateService implements ExchangeRateService {
@@ -29,9 +35,9 @@ public class HnbExchangeRateService implements ExchangeRateService {
     }
 
     @Override
-    @Cacheable(value = "exchangeRates", key = "#currency.code")
     @Retryable(
             retryFor = {ExchangeRateUnavailableException.class},
+            listeners = "exchangeRateRetryMetrics",
             backoff = @Backoff(delay = 2000))
     public BigDecimal getExchangeRate(SupportedCurrency currency) {
         logger.info("Fetching exchange rate for currency: {}", currency.getCode());
@@ -59,6 +65,66 @@ public class HnbExchangeRateService implements ExchangeRateService {
         }
     }
 
+    // One request for all currencies, so every rate comes from the same HNB rate list
+    @Override
+    @Retryable(
+            retryFor = {ExchangeRateUnavailableException.class},
+            listeners = "exchangeRateRetryMetrics",
+            backoff = @Backoff(delay = 2000))
+    public Map<SupportedCurrency, BigDecimal> getExchangeRates(Set<SupportedCurrency> currencies) {
+        logger.info("Fetching exchange rates for currencies: {}", currencies);
+
+        try {
+            String uri = currencies.stream()
+                    .map(currency -> "valuta=" + currency.getCode())
+                    .collect(Collectors.joining("&", properties.getBulkUriPath() + "?", ""));
+            logger.debug("Calling external service at URI: {}", uri);
+
+            DataBuffer response = getExchangeRateListResponse(uri);
+
+            if (response == null || response.readableByteCount() == 0) {
+                DataBufferUtils.release(response);
+                logger.warn("No exchange rate data returned for currencies: {}", currencies);
+                throw new ExchangeRateUnavailableException("No exchange rate data found for currencies: " + currencies);
+            }
+
+            // Parsed from the response buffer itself, closing the stream releases the buffer
+            Map<SupportedCurrency, BigDecimal> rates;
+            try (InputStream body = response.asInputStream(true)) {
+                rates = HnbExchangeRateListParser.parse(body, currencies);
+            }
+
+            Set<SupportedCurrency> missing = EnumSet.noneOf(SupportedCurrency.class);
+            missing.addAll(currencies);
+            missing.removeAll(rates.keySet());
+            if (!missing.isEmpty()) {
+                logger.warn("No exchange rate data returned for currencies: {}", missing);
+                throw new ExchangeRateUnavailableException("No exchange rate data found for currencies: " + missing);
+            }
+
+            return rates;
+
+        } catch (ExchangeRateUnavailableException exception) {
+            throw exception;
+
+        } catch (WebClientResponseException exception) {
+            logger.error("Error from exchange service for currencies {}: {}", currencies, exception.getStatusCode(), exception);
+            throw new ExchangeRateUnavailableException("Exchange rate service returned an error: " + exception.getStatusCode());
+
+        } catch (Exception exception) {
+            logger.error("Unexpected error fetching exchange rates for currencies {}: {}", currencies, exception.getMessage(), exception);
+            throw new ExchangeRateUnavailableException("Failed to fetch exchange rates for currencies: " + currencies);
+        }
+    }
+
+    private DataBuffer getExchangeRateListResponse(String uri) {
+        return webClient.get()
+                .uri(uri)
+                .retrieve()
+                .bodyToMono(DataBuffer.class)
+                .block();
+    }
+
     private ExchangeRateDto[] getExchangeRateDtoResponse(String uri) {
         return webClient.get()
                 .uri(uri)
@@ -7,11 +7,16 @@ import com.ingemark.infrastructure.exchange.model.ExchangeRateDto;
 import com.ingemark.infrastructure.exchange.service.HnbExchangeRateService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -108,6 +113,62 @@ class HnbExchangeRateServiceTest {
                 () -> exchangeRateService.getExchangeRate(currency));
     }
 
+    @Test
+    void testGetExchangeRates_serviceIsWorking_allRatesAreParsedFromOneResponse() {
+        //given
+        when(properties.getBulkUriPath()).thenReturn("/api/rates");
+        String body = """
+                [{"broj_tecajnice":"108","datum_primjene":"2025-06-06","drzava":"SAD","sifra_valute":"840",
+                "kupovni_tecaj":"1,1375","prodajni_tecaj":"1,1341","srednji_tecaj":"1,1358","valuta":"USD"},
+                {"broj_tecajnice":"108","drzava":"Velika Britanija","srednji_tecaj":"0,84215","valuta":"GBP"}]
+                """;
+
+        mockWebBuilderBulkPart("/api/rates?valuta=USD&valuta=GBP", body.getBytes(StandardCharsets.UTF_8));
+
+        //when
+        Map<SupportedCurrency, BigDecimal> rates =
+                exchangeRateService.getExchangeRates(EnumSet.of(SupportedCurrency.USD, SupportedCurrency.GBP));
+
+        //then
+        assertEquals(Map.of(SupportedCurrency.USD, new BigDecimal("1.14"), SupportedCurrency.GBP, new BigDecimal("0.84")), rates);
+        verify(webClient, times(1)).get();
+    }
+
+    @Test
+    void testGetExchangeRates_currencyMissingFromResponse_shouldThrowExchangeRateUnavailableException() {
+        //given
+        when(properties.getBulkUriPath()).thenReturn("/api/rates");
+        String body = """
+                [{"srednji_tecaj":"1,1358","valuta":"USD"}]
+                """;
+
+        mockWebBuilderBulkPart("/api/rates?valuta=USD&valuta=GBP", body.getBytes(StandardCharsets.UTF_8));
+
+        //when/then
+        assertThrows(ExchangeRateUnavailableException.class,
+                () -> exchangeRateService.getExchangeRates(EnumSet.of(SupportedCurrency.USD, SupportedCurrency.GBP)));
+    }
+
+    @Test
+    void testGetExchangeRates_emptyResponse_shouldThrowExchangeRateUnavailableException() {
+        //given
+        when(properties.getBulkUriPath()).thenReturn("/api/rates");
+
+        mockWebBuilderBulkPart("/api/rates?valuta=USD", new byte[0]);
+
+        //when/then
+        assertThrows(ExchangeRateUnavailableException.class,
+                () -> exchangeRateService.getExchangeRates(EnumSet.of(SupportedCurrency.USD)));
+    }
+
+    private void mockWebBuilderBulkPart(String uri, byte[] mockResponse) {
+        when(webClient.get()).thenReturn(requestHeadersUriSpec);
+        when(requestHeadersUriSpec.uri(uri)).thenReturn(requestHeadersSpec);
+        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
+        DataBuffer buffer = DefaultDataBufferFactory.sharedInstance.wrap(mockResponse);
+        when(responseSpec.bodyToMono(DataBuffer.class)).thenReturn(Mono.just(buffer));
+    }
+
     private void mockWebBuilderPart(String uri, ExchangeRateDto[] mockResponse) {
         when(webClient.get()).thenReturn(requestHeadersUriSpec);
         when(requestHeadersUriSpec.uri(uri)).thenReturn(requestHeadersSpec);
@@ -0,0 +1,224 @@
+package com.ingemark.infrastructure.exchange.cache;
+
+import com.ingemark.application.exception.ExchangeRateUnavailableException;
+import com.ingemark.application.exchange.ExchangeRateService;
+import com.ingemark.application.request.SupportedCurrency;
+import com.ingemark.infrastructure.exchange.config.ExchangeRateCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CachedExchangeRateServiceTest {
+
+    private static final ZonedDateTime FRIDAY_AFTERNOON = ZonedDateTime.parse("2025-06-06T17:00:00+02:00[Europe/Zagreb]");
+    private static final Set<SupportedCurrency> QUOTED_CURRENCIES = Set.of(SupportedCurrency.USD, SupportedCurrency.GBP);
+
+    private ExchangeRateService delegate;
+    private Clock clock;
+    private ExchangeRateCacheProperties properties;
+    private CachedExchangeRateService cachedExchangeRateService;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(ExchangeRateService.class, CALLS_REAL_METHODS);
+        clock = mock(Clock.class);
+
+        properties = new ExchangeRateCacheProperties();
+        properties.setTimeToLive(Duration.ofDays(7));
+
+        cachedExchangeRateService = new CachedExchangeRateService(delegate, properties, clock);
+    }
+
+    @Test
+    void getExchangeRate_rateAlreadyCached_remoteServiceIsCalledOnce() {
+        //given
+        setTime(FRIDAY_AFTERNOON);
+        doReturn(rates("1.10", "0.84")).when(delegate).getExchangeRates(QUOTED_CURRENCIES);
+
+        //when
+        cachedExchangeRateService.getExchangeRate(SupportedCurrency.USD);
+        BigDecimal rate = cachedExchangeRateService.getExchangeRate(SupportedCurrency.USD);
+
+        //then
+        assertEquals(new BigDecimal("1.10"), rate);
+        verify(delegate, times(1)).getExchangeRates(QUOTED_CURRENCIES);
+
+        ExchangeRateCacheStats stats = cachedExchangeRateService.getStats();
+        assertEquals(1, stats.hits());
+        assertEquals(1, stats.misses());
+    }
+
+    @Test
+    void getExchangeRate_emptyCache_allQuotedCurrenciesAreLoadedFromOneList() {
+        //given
+        setTime(FRIDAY_AFTERNOON);
+        doReturn(rates("1.10", "0.84")).when(delegate).getExchangeRates(QUOTED_CURRENCIES);
+
+        //when
+        BigDecimal usdRate = cachedExchangeRateService.getExchangeRate(SupportedCurrency.USD);
+        BigDecimal gbpRate = cachedExchangeRateService.getExchangeRate(SupportedCurrency.GBP);
+
+        //then
+        assertEquals(new BigDecimal("1.10"), usdRate);
+        assertEquals(new BigDecimal("0.84"), gbpRate);
+        verify(delegate, times(1)).getExchangeRates(anySet());
+        verify(delegate, never()).getExchangeRate(any());
+
+        ExchangeRateCacheStats stats = cachedExchangeRateService.getStats();
+        assertEquals(1, stats.hits());
+        assertEquals(1, stats.misses());
+    }
+
+    @Test
+    void getExchangeRate_weekendAfterFridayList_cachedRateIsStillFresh() {
+        //given
+        setTime(FRIDAY_AFTERNOON);
+        doReturn(rates("1.10", "0.84")).when(delegate).getExchangeRates(QUOTED_CURRENCIES);
+        cachedExchangeRateService.getExchangeRate(SupportedCurrency.USD);
+
+        //when
+        setTime(FRIDAY_AFTERNOON.plusDays(3).withHour(16).withMinute(14));
+        cachedExchangeRateService.getExchangeRate(SupportedCurrency.USD);
+        setTime(FRIDAY_AFTERNOON.plusDays(3).withHour(16).withMinute(15));
+        cachedExchangeRateService.getExchangeRate(SupportedCurrency.USD);
+
+        //then
+        verify(delegate, times(2)).getExchangeRates(QUOTED_CURRENCIES);
+        assertEquals(1, cachedExchangeRateService.getStats().hits());
+    }
+
+    @Test
+    void refreshExpiringRates_entryCloseToPublication_rateIsRefreshedInBackground() {
+        //given
+        setTime(FRIDAY_AFTERNOON);
+        doReturn(rates("1.10", "0.84"), rates("1.12", "0.85")).when(delegate).getExchangeRates(QUOTED_CURRENCIES);
+        cachedExchangeRateService.getExchangeRate(SupportedCurrency.USD);
+
+        //when
+        setTime(FRIDAY_AFTERNOON.plusDays(3).withHour(16).withMinute(11));
+        cachedExchangeRateService.refreshExpiringRates();
+        BigDecimal rate = cachedExchangeRateService.getExchangeRate(SupportedCurrency.USD);
+
+        //then
+        assertEquals(new BigDecimal("1.12"), rate);
+        assertEquals(2, cachedExchangeRateService.getStats().refreshes());
+        assertEquals(1, cachedExchangeRateService.getStats().hits());
+    }
+
+    @Test
+    void refreshExpiringRates_remoteServiceFails_staleRateIsServedUntilNextAttempt() {
+        //given
+        properties.setRetryInterval(Duration.ofMinutes(10));
+        setTime(FRIDAY_AFTERNOON);
+        doReturn(rates("1.10", "0.84"))
+                .doThrow(new ExchangeRateUnavailableException("HNB is down"))
+                .when(delegate).getExchangeRates(QUOTED_CURRENCIES);
+        cachedExchangeRateService.getExchangeRate(SupportedCurrency.USD);
+
+        //when
+        setTime(FRIDAY_AFTERNOON.plusDays(3).withHour(16).withMinute(11));
+        cachedExchangeRateService.refreshExpiringRates();
+        setTime(FRIDAY_AFTERNOON.plusDays(3).withHour(16).withMinute(20));
+        BigDecimal rate = cachedExchangeRateService.getExchangeRate(SupportedCurrency.USD);
+
+        //then
+        assertEquals(new BigDecimal("1.10"), rate);
+        verify(delegate, times(2)).getExchangeRates(QUOTED_CURRENCIES);
+
+        ExchangeRateCacheStats stats = cachedExchangeRateService.getStats();
+        assertEquals(2, stats.refreshFailures());
+        assertEquals(1, stats.staleHits());
+        assertEquals(Duration.ofDays(3).minusMinutes(40), stats.entryAges().get(SupportedCurrency.USD));
+    }
+
+    @Test
+    void getExchangeRate_cacheWarmedWithRateFetchedAfterLatestList_remoteServiceIsNotCalled() {
+        //given
+        setTime(FRIDAY_AFTERNOON.plusHours(1));
+        cachedExchangeRateService.warmUp(SupportedCurrency.USD, new BigDecimal("1.12"), FRIDAY_AFTERNOON.toInstant());
+
+        //when
+        BigDecimal rate = cachedExchangeRateService.getExchangeRate(SupportedCurrency.USD);
+
+        //then
+        assertEquals(new BigDecimal("1.12"), rate);
+        verifyNoInteractions(delegate);
+    }
+
+    @Test
+    void getExchangeRate_cacheWarmedWithOutdatedRateAndRemoteDown_warmedRateIsServedAsStale() {
+        //given
+        properties.setMaxStaleness(Duration.ofDays(7));
+        setTime(FRIDAY_AFTERNOON.plusDays(3));
+        cachedExchangeRateService.warmUp(SupportedCurrency.USD, new BigDecimal("1.12"), FRIDAY_AFTERNOON.minusHours(2).toInstant());
+        doThrow(new ExchangeRateUnavailableException("HNB is down")).when(delegate).getExchangeRates(QUOTED_CURRENCIES);
+
+        //when
+        BigDecimal rate = cachedExchangeRateService.getExchangeRate(SupportedCurrency.USD);
+
+        //then
+        assertEquals(new BigDecimal("1.12"), rate);
+        assertEquals(1, cachedExchangeRateService.getStats().staleHits());
+    }
+
+    @Test
+    void loadAllRates_emptyCache_allQuotedCurrenciesAreFetchedInOneCall() {
+        //given
+        setTime(FRIDAY_AFTERNOON);
+        doReturn(rates("1.10", "0.84")).when(delegate).getExchangeRates(QUOTED_CURRENCIES);
+
+        //when
+        int loaded = cachedExchangeRateService.loadAllRates();
+        BigDecimal usdRate = cachedExchangeRateService.getExchangeRate(SupportedCurrency.USD);
+        BigDecimal gbpRate = cachedExchangeRateService.getExchangeRate(SupportedCurrency.GBP);
+
+        //then
+        assertEquals(2, loaded);
+        assertEquals(new BigDecimal("1.10"), usdRate);
+        assertEquals(new BigDecimal("0.84"), gbpRate);
+        verify(delegate, times(1)).getExchangeRates(anySet());
+        verify(delegate, never()).getExchangeRate(any());
+        assertEquals(2, cachedExchangeRateService.getStats().hits());
+    }
+
+    @Test
+    void refreshExpiringRates_oneEntryDue_allCachedCurrenciesShareTheRefreshedSnapshot() {
+        //given
+        setTime(FRIDAY_AFTERNOON.plusDays(3).withHour(9));
+        cachedExchangeRateService.warmUp(SupportedCurrency.USD, new BigDecimal("1.10"), FRIDAY_AFTERNOON.toInstant());
+        cachedExchangeRateService.warmUp(SupportedCurrency.GBP, new BigDecimal("0.84"), FRIDAY_AFTERNOON.plusDays(3).withHour(9).toInstant());
+        doReturn(rates("1.12", "0.85")).when(delegate).getExchangeRates(QUOTED_CURRENCIES);
+
+        //when
+        setTime(FRIDAY_AFTERNOON.plusDays(3).withHour(16).withMinute(11));
+        cachedExchangeRateService.refreshExpiringRates();
+
+        //then
+        assertEquals(new BigDecimal("1.12"), cachedExchangeRateService.getExchangeRate(SupportedCurrency.USD));
+        assertEquals(new BigDecimal("0.85"), cachedExchangeRateService.getExchangeRate(SupportedCurrency.GBP));
+        verify(delegate, times(1)).getExchangeRates(anySet());
+
+        ExchangeRateCacheStats stats = cachedExchangeRateService.getStats();
+        assertEquals(2, stats.refreshes());
+        assertEquals(stats.entryAges().get(SupportedCurrency.USD), stats.entryAges().get(SupportedCurrency.GBP));
+    }
+
+    private void setTime(ZonedDateTime time) {
+        Instant instant = time.toInstant();
+        when(clock.instant()).thenReturn(instant);
+    }
+
+    private static Map<SupportedCurrency, BigDecimal> rates(String usdRate, String gbpRate) {
+        return Map.of(SupportedCurrency.USD, new BigDecimal(usdRate), SupportedCurrency.GBP, new BigDecimal(gbpRate));
+    }
+}
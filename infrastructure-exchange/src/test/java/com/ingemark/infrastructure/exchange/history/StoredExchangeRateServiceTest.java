@@ -0,0 +1,171 @@
+package com.ingemark.infrastructure.exchange.history;
+
+import com.ingemark.application.exchange.ExchangeRateService;
+import com.ingemark.application.exchange.StoredExchangeRate;
+import com.ingemark.application.repository.ExchangeRateHistoryRepository;
+import com.ingemark.application.request.SupportedCurrency;
+import com.ingemark.infrastructure.exchange.config.ExchangeRateCacheProperties;
+import com.ingemark.infrastructure.exchange.config.ExchangeRateHistoryProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class StoredExchangeRateServiceTest {
+
+    private static final ZonedDateTime MONDAY_MORNING = ZonedDateTime.parse("2025-06-09T00:30:00+02:00[Europe/Zagreb]");
+    private static final LocalDate MONDAY = MONDAY_MORNING.toLocalDate();
+    private static final ZonedDateTime MONDAY_BEFORE_PUBLICATION = MONDAY_MORNING.withHour(15).withMinute(0);
+
+    private ExchangeRateService delegate;
+    private ExchangeRateHistoryRepository historyRepository;
+    private ExchangeRateHistoryProperties properties;
+    private StoredExchangeRateService storedExchangeRateService;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(ExchangeRateService.class);
+        historyRepository = mock(ExchangeRateHistoryRepository.class);
+        properties = new ExchangeRateHistoryProperties();
+
+        storedExchangeRateService = createService(MONDAY_MORNING);
+    }
+
+    @Test
+    void getExchangeRate_offlineAndRateStoredToday_remoteServiceIsNotCalled() {
+        //given
+        when(historyRepository.findLatest(SupportedCurrency.USD)).thenReturn(Optional.of(
+                new StoredExchangeRate(SupportedCurrency.USD, MONDAY, new BigDecimal("1.14"), MONDAY_MORNING.toInstant())));
+
+        //when
+        BigDecimal rate = storedExchangeRateService.getExchangeRate(SupportedCurrency.USD);
+
+        //then
+        assertEquals(new BigDecimal("1.14"), rate);
+        verifyNoInteractions(delegate);
+        verify(historyRepository, never()).save(any());
+    }
+
+    @Test
+    void getExchangeRate_storedRateFromPreviousDay_rateIsFetchedAndStoredForToday() {
+        //given
+        when(historyRepository.findLatest(SupportedCurrency.USD)).thenReturn(Optional.of(new StoredExchangeRate(
+                SupportedCurrency.USD, MONDAY.minusDays(3), new BigDecimal("1.12"), MONDAY_MORNING.minusDays(3).toInstant())));
+        when(delegate.getExchangeRate(SupportedCurrency.USD)).thenReturn(new BigDecimal("1.15"));
+
+        //when
+        BigDecimal rate = storedExchangeRateService.getExchangeRate(SupportedCurrency.USD);
+
+        //then
+        assertEquals(new BigDecimal("1.15"), rate);
+        verify(historyRepository).save(new StoredExchangeRate(SupportedCurrency.USD, MONDAY, new BigDecimal("1.15"),
+                MONDAY_MORNING.toInstant()));
+    }
+
+    @Test
+    void getExchangeRate_rateStoredTodayBeforePublication_servedUntilNewListIsOut() {
+        //given
+        when(historyRepository.findLatest(SupportedCurrency.USD)).thenReturn(Optional.of(new StoredExchangeRate(
+                SupportedCurrency.USD, MONDAY, new BigDecimal("1.14"), MONDAY_BEFORE_PUBLICATION.toInstant())));
+        when(delegate.getExchangeRate(SupportedCurrency.USD)).thenReturn(new BigDecimal("1.15"));
+
+        //when
+        BigDecimal beforePublication = createService(MONDAY_BEFORE_PUBLICATION.withMinute(30))
+                .getExchangeRate(SupportedCurrency.USD);
+        BigDecimal afterPublication = createService(MONDAY_BEFORE_PUBLICATION.withHour(16).withMinute(30))
+                .getExchangeRate(SupportedCurrency.USD);
+
+        //then
+        assertEquals(new BigDecimal("1.14"), beforePublication);
+        assertEquals(new BigDecimal("1.15"), afterPublication);
+        verify(delegate, times(1)).getExchangeRate(SupportedCurrency.USD);
+        verify(historyRepository).save(new StoredExchangeRate(SupportedCurrency.USD, MONDAY, new BigDecimal("1.15"),
+                MONDAY_BEFORE_PUBLICATION.withHour(16).withMinute(30).toInstant()));
+    }
+
+    @Test
+    void getExchangeRate_offlineModeDisabled_rateIsAlwaysFetched() {
+        //given
+        properties.setOffline(false);
+        when(delegate.getExchangeRate(SupportedCurrency.GBP)).thenReturn(new BigDecimal("0.84"));
+
+        //when
+        BigDecimal rate = storedExchangeRateService.getExchangeRate(SupportedCurrency.GBP);
+
+        //then
+        assertEquals(new BigDecimal("0.84"), rate);
+        verify(historyRepository, never()).findLatest(any());
+        verify(historyRepository).save(any());
+    }
+
+    @Test
+    void getExchangeRate_storingFails_fetchedRateIsStillReturned() {
+        //given
+        when(historyRepository.findLatest(SupportedCurrency.USD)).thenReturn(Optional.empty());
+        when(delegate.getExchangeRate(SupportedCurrency.USD)).thenReturn(new BigDecimal("1.15"));
+        doThrow(new IllegalStateException("Database is down")).when(historyRepository).save(any());
+
+        //when
+        BigDecimal rate = storedExchangeRateService.getExchangeRate(SupportedCurrency.USD);
+
+        //then
+        assertEquals(new BigDecimal("1.15"), rate);
+    }
+
+    @Test
+    void getExchangeRates_offlineAndOnlyOneRateCurrent_allRatesAreFetchedInOneCall() {
+        //given
+        when(historyRepository.findLatest(SupportedCurrency.USD)).thenReturn(Optional.of(
+                new StoredExchangeRate(SupportedCurrency.USD, MONDAY, new BigDecimal("1.14"), MONDAY_MORNING.toInstant())));
+        when(historyRepository.findLatest(SupportedCurrency.GBP)).thenReturn(Optional.empty());
+        Set<SupportedCurrency> currencies = EnumSet.of(SupportedCurrency.USD, SupportedCurrency.GBP);
+        when(delegate.getExchangeRates(currencies)).thenReturn(
+                Map.of(SupportedCurrency.USD, new BigDecimal("1.15"), SupportedCurrency.GBP, new BigDecimal("0.84")));
+
+        //when
+        Map<SupportedCurrency, BigDecimal> rates = storedExchangeRateService.getExchangeRates(currencies);
+
+        //then
+        assertEquals(Map.of(SupportedCurrency.USD, new BigDecimal("1.15"), SupportedCurrency.GBP, new BigDecimal("0.84")), rates);
+        verify(delegate, never()).getExchangeRate(any());
+        verify(historyRepository).save(
+                new StoredExchangeRate(SupportedCurrency.USD, MONDAY, new BigDecimal("1.15"), MONDAY_MORNING.toInstant()));
+        verify(historyRepository).save(
+                new StoredExchangeRate(SupportedCurrency.GBP, MONDAY, new BigDecimal("0.84"), MONDAY_MORNING.toInstant()));
+    }
+
+    @Test
+    void getExchangeRates_offlineAndAllRatesCurrent_remoteServiceIsNotCalled() {
+        //given
+        when(historyRepository.findLatest(SupportedCurrency.USD)).thenReturn(Optional.of(
+                new StoredExchangeRate(SupportedCurrency.USD, MONDAY, new BigDecimal("1.14"), MONDAY_MORNING.toInstant())));
+        when(historyRepository.findLatest(SupportedCurrency.GBP)).thenReturn(Optional.of(
+                new StoredExchangeRate(SupportedCurrency.GBP, MONDAY, new BigDecimal("0.84"), MONDAY_MORNING.toInstant())));
+
+        //when
+        Map<SupportedCurrency, BigDecimal> rates =
+                storedExchangeRateService.getExchangeRates(EnumSet.of(SupportedCurrency.USD, SupportedCurrency.GBP));
+
+        //then
+        assertEquals(Map.of(SupportedCurrency.USD, new BigDecimal("1.14"), SupportedCurrency.GBP, new BigDecimal("0.84")), rates);
+        verifyNoInteractions(delegate);
+        verify(historyRepository, never()).save(any());
+    }
+
+    private StoredExchangeRateService createService(ZonedDateTime now) {
+        return new StoredExchangeRateService(delegate, historyRepository, properties,
+                new ExchangeRateCacheProperties(), Clock.fixed(now.toInstant(), ZoneId.of("UTC")));
+    }
+}
@@ -0,0 +1,63 @@
+package com.ingemark.infrastructure.exchange.metrics;
+
+import com.ingemark.application.exception.ExchangeRateUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.retry.support.RetryTemplate;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExchangeRateRetryMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RetryTemplate retryTemplate;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        retryTemplate = RetryTemplate.builder()
+                .maxAttempts(3)
+                .noBackoff()
+                .withListener(new ExchangeRateRetryMetrics(meterRegistry))
+                .build();
+    }
+
+    @Test
+    void close_succeededOnSecondAttempt_oneRetryAndNoFailureAreCounted() {
+        //given
+        AtomicInteger attempts = new AtomicInteger();
+
+        //when
+        BigDecimal rate = retryTemplate.execute(context -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new ExchangeRateUnavailableException("HNB is down");
+            }
+            return new BigDecimal("1.16");
+        });
+
+        //then
+        assertEquals(new BigDecimal("1.16"), rate);
+        assertEquals(1.0, meterRegistry.get("hnb.exchange.rate.attempt.failures").counter().count());
+        assertEquals(1.0, meterRegistry.get("hnb.exchange.rate.retries").counter().count());
+        assertEquals(0.0, meterRegistry.get("hnb.exchange.rate.failures").counter().count());
+        assertEquals(1, meterRegistry.get("hnb.exchange.rate.requests").tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    void close_allAttemptsFailed_retriesAndFailureAreCounted() {
+        //when
+        assertThrows(ExchangeRateUnavailableException.class, () -> retryTemplate.execute(context -> {
+            throw new ExchangeRateUnavailableException("HNB is down");
+        }));
+
+        //then
+        assertEquals(3.0, meterRegistry.get("hnb.exchange.rate.attempt.failures").counter().count());
+        assertEquals(2.0, meterRegistry.get("hnb.exchange.rate.retries").counter().count());
+        assertEquals(1.0, meterRegistry.get("hnb.exchange.rate.failures").counter().count());
+        assertEquals(1, meterRegistry.get("hnb.exchange.rate.requests").tag("outcome", "failure").timer().count());
+    }
+}
@@ -0,0 +1,59 @@
+package com.ingemark.infrastructure.persistence.r2dbc.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+@Table("product")
+public class ProductRow {
+
+    @Id
+    private Long id;
+
+    private String code;
+
+    private String name;
+
+    @Column("price_in_eur")
+    private BigDecimal priceInEur;
+
+    @Column("price_in_usd")
+    private BigDecimal priceInUsd;
+
+    @Column("is_available")
+    private boolean available;
+
+    @Version
+    private Long version;
+
+    @Column("updated_at")
+    private Instant updatedAt;
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getCode() { return code; }
+    public void setCode(String code) { this.code = code; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public BigDecimal getPriceInEur() { return priceInEur; }
+    public void setPriceInEur(BigDecimal priceInEur) { this.priceInEur = priceInEur; }
+
+    public BigDecimal getPriceInUsd() { return priceInUsd; }
+    public void setPriceInUsd(BigDecimal priceInUsd) { this.priceInUsd = priceInUsd; }
+
+    public boolean isAvailable() { return available; }
+    public void setAvailable(boolean available) { this.available = available; }
+
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
+    public Instant getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(Instant updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -0,0 +1,18 @@
+package com.ingemark.infrastructure.persistence.r2dbc.mapper;
+
+import com.ingemark.domain.model.Product;
+import com.ingemark.domain.model.ProductView;
+import com.ingemark.infrastructure.persistence.r2dbc.entity.ProductRow;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface ProductRowMapper {
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    ProductRow mapToProductRow(Product product);
+
+    Product mapToProductDomain(ProductRow productRow);
+
+    ProductView mapToProductView(ProductRow productRow);
+}
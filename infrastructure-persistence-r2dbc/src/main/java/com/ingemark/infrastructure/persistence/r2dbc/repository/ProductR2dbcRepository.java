@@ -0,0 +1,11 @@
+package com.ingemark.infrastructure.persistence.r2dbc.repository;
+
+import com.ingemark.infrastructure.persistence.r2dbc.entity.ProductRow;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import reactor.core.publisher.Mono;
+
+public interface ProductR2dbcRepository extends ReactiveCrudRepository<ProductRow, Long> {
+    Mono<ProductRow> findByCode(String code);
+
+    Mono<Boolean> existsByCode(String code);
+}
@@ -0,0 +1,63 @@
+package com.ingemark.infrastructure.persistence.r2dbc.repository.impl;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Component
+public class ProductIdAllocator {
+    // Must match the increment of product_seq and the allocation size used by the JPA adapter
+    static final int ID_ALLOCATION_SIZE = 50;
+
+    private final DatabaseClient databaseClient;
+    private final String nextValueSql;
+    private final AtomicReference<IdBlock> currentBlock = new AtomicReference<>(IdBlock.EXHAUSTED);
+
+    public ProductIdAllocator(DatabaseClient databaseClient, ConnectionFactory connectionFactory) {
+        this.databaseClient = databaseClient;
+        this.nextValueSql = connectionFactory.getMetadata().getName().toLowerCase().contains("postgres")
+                ? "SELECT nextval('product_seq')"
+                : "SELECT NEXT VALUE FOR product_seq";
+    }
+
+    public Mono<Long> nextId() {
+        return Mono.defer(() -> {
+            long id = currentBlock.get().next();
+            if (id > 0) {
+                return Mono.just(id);
+            }
+
+            // Concurrent callers may each fetch a block; every block is unique, so at worst a few ids are skipped
+            return databaseClient.sql(nextValueSql)
+                    .map(row -> row.get(0, Long.class))
+                    .one()
+                    .map(hiValue -> {
+                        IdBlock block = new IdBlock(hiValue);
+                        long firstId = block.next();
+                        currentBlock.set(block);
+                        return firstId;
+                    });
+        });
+    }
+
+    private static final class IdBlock {
+        static final IdBlock EXHAUSTED = new IdBlock(0);
+
+        private final AtomicLong nextId;
+        private final long hiValue;
+
+        IdBlock(long hiValue) {
+            this.nextId = new AtomicLong(Math.max(1, hiValue - ID_ALLOCATION_SIZE + 1));
+            this.hiValue = hiValue;
+        }
+
+        long next() {
+            long id = nextId.getAndIncrement();
+            return id <= hiValue ? id : -1;
+        }
+    }
+}
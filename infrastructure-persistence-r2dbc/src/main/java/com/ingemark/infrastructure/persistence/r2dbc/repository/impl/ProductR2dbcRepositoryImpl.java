@@ -0,0 +1,97 @@
+package com.ingemark.infrastructure.persistence.r2dbc.repository.impl;
+
+import com.ingemark.application.reactive.ReactiveProductRepository;
+import com.ingemark.domain.model.Product;
+import com.ingemark.domain.model.ProductView;
+import com.ingemark.domain.pagination.PaginatedResult;
+import com.ingemark.domain.pagination.PaginationRequest;
+import com.ingemark.infrastructure.persistence.r2dbc.entity.ProductRow;
+import com.ingemark.infrastructure.persistence.r2dbc.mapper.ProductRowMapper;
+import com.ingemark.infrastructure.persistence.r2dbc.repository.ProductR2dbcRepository;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+
+@Service
+public class ProductR2dbcRepositoryImpl implements ReactiveProductRepository {
+
+    private final ProductR2dbcRepository r2dbcRepository;
+    private final R2dbcEntityTemplate entityTemplate;
+    private final ProductIdAllocator productIdAllocator;
+    private final ProductRowMapper productMapper;
+
+    public ProductR2dbcRepositoryImpl(ProductR2dbcRepository r2dbcRepository, R2dbcEntityTemplate entityTemplate,
+                                      ProductIdAllocator productIdAllocator, ProductRowMapper productMapper) {
+        this.r2dbcRepository = r2dbcRepository;
+        this.entityTemplate = entityTemplate;
+        this.productIdAllocator = productIdAllocator;
+        this.productMapper = productMapper;
+    }
+
+    @Override
+    public Mono<Product> save(Product product) {
+        ProductRow productRow = productMapper.mapToProductRow(product);
+        productRow.setUpdatedAt(Instant.now());
+
+        // The id comes from product_seq, so the row is inserted explicitly instead of letting save() guess insert vs update
+        return productIdAllocator.nextId()
+                .flatMap(id -> {
+                    productRow.setId(id);
+                    return entityTemplate.insert(productRow);
+                })
+                .map(productMapper::mapToProductDomain);
+    }
+
+    @Override
+    public Mono<ProductView> findViewById(Long id) {
+        return r2dbcRepository.findById(id)
+                .map(productMapper::mapToProductView);
+    }
+
+    @Override
+    public Mono<ProductView> findViewByCode(String code) {
+        return r2dbcRepository.findByCode(code)
+                .map(productMapper::mapToProductView);
+    }
+
+    @Override
+    public Mono<PaginatedResult<ProductView>> findAllViews(PaginationRequest paginationRequest) {
+        if (paginationRequest.isCursorMode()) {
+            return Mono.error(new IllegalArgumentException("Cursor paging is not supported by the reactive API"));
+        }
+
+        int size = paginationRequest.getSize();
+        Query query = Query.empty()
+                .sort(Sort.by(Sort.Direction.fromString(paginationRequest.getSortDirection()), paginationRequest.getSortBy()))
+                .offset((long) paginationRequest.getPage() * size)
+                .limit(size + 1);
+
+        Mono<List<ProductView>> products = entityTemplate.select(ProductRow.class)
+                .matching(query)
+                .all()
+                .map(productMapper::mapToProductView)
+                .collectList();
+
+        return products.flatMap(fetchedProducts -> {
+            boolean hasNext = fetchedProducts.size() > size;
+            List<ProductView> pageProducts = hasNext ? fetchedProducts.subList(0, size) : fetchedProducts;
+
+            if (!paginationRequest.isIncludeTotal()) {
+                return Mono.just(PaginatedResult.withUnknownTotal(pageProducts, hasNext, null));
+            }
+
+            return r2dbcRepository.count().map(totalElements -> new PaginatedResult<>(pageProducts, totalElements,
+                    (int) Math.ceil((double) totalElements / size), hasNext, null));
+        });
+    }
+
+    @Override
+    public Mono<Boolean> isCodeAlreadyExists(String code) {
+        return r2dbcRepository.existsByCode(code);
+    }
+}
@@ -12,7 +12,14 @@ dependencies {
 
     implementation("org.liquibase:liquibase-core:4.24.0")
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    implementation("com.google.guava:guava:33.4.8-jre")
+    implementation("io.micrometer:micrometer-core")
+
+    implementation("org.postgresql:postgresql")
 
     runtimeOnly("com.h2database:h2")
-    runtimeOnly("org.postgresql:postgresql")
-}
\ No newline at end of file
+}
+tasks.test {
+    providers.gradleProperty("planPostgresUrl").orNull?.let { systemProperty("plan.postgres.url", it) }
+}
@@ -0,0 +1,191 @@
+package com.ingemark.infranstructure.persistence.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.ingemark.application.repository.ProductQueryRepository;
+import com.ingemark.application.repository.ProductRepository;
+import com.ingemark.domain.model.Product;
+import com.ingemark.domain.model.ProductVersion;
+import com.ingemark.domain.model.ProductView;
+import com.ingemark.domain.pagination.PaginatedResult;
+import com.ingemark.domain.pagination.PaginationRequest;
+import com.ingemark.domain.pagination.ProductSearchRequest;
+import com.ingemark.infranstructure.persistence.config.ProductCacheProperties;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+@Service
+@Primary
+@ConditionalOnProperty(prefix = "products.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CachingProductRepository implements ProductRepository, ProductQueryRepository {
+
+    private final ProductRepository delegate;
+    private final ProductQueryRepository queryDelegate;
+    private final Cache<Long, ProductView> viewsById;
+    private final Cache<String, ProductView> viewsByCode;
+
+    public CachingProductRepository(@Qualifier("productJpaRepositoryImpl") ProductRepository delegate,
+                                    @Qualifier("productQueryJpaRepositoryImpl") ProductQueryRepository queryDelegate,
+                                    ProductCacheProperties properties) {
+        this.delegate = delegate;
+        this.queryDelegate = queryDelegate;
+        this.viewsById = buildCache(properties);
+        this.viewsByCode = buildCache(properties);
+    }
+
+    @Override
+    public Product save(Product product) {
+        Product savedProduct = delegate.save(product);
+        invalidate(savedProduct);
+
+        return savedProduct;
+    }
+
+    @Override
+    public Optional<Product> insertIfCodeAbsent(Product product) {
+        Optional<Product> insertedProduct = delegate.insertIfCodeAbsent(product);
+        insertedProduct.ifPresent(this::invalidate);
+
+        return insertedProduct;
+    }
+
+    @Override
+    public void bulkInsert(List<Product> products) {
+        delegate.bulkInsert(products);
+        products.forEach(this::invalidate);
+    }
+
+    // Concurrent misses for the same key wait for a single load; views are immutable, so the cached instance is handed out
+    @Override
+    public Optional<ProductView> findViewById(Long id) {
+        return Optional.ofNullable(viewsById.get(id, key -> queryDelegate.findViewById(key)
+                .map(loadedView -> {
+                    viewsByCode.put(loadedView.code(), loadedView);
+                    return loadedView;
+                })
+                .orElse(null)));
+    }
+
+    @Override
+    public Optional<ProductView> findViewByCode(String code) {
+        return Optional.ofNullable(viewsByCode.get(code, key -> queryDelegate.findViewByCode(key)
+                .map(loadedView -> {
+                    viewsById.put(loadedView.id(), loadedView);
+                    return loadedView;
+                })
+                .orElse(null)));
+    }
+
+    // Cached views are served directly, the rest is loaded with a single query and cached
+    @Override
+    public List<ProductView> findViewsByIds(Collection<Long> ids) {
+        Map<Long, ProductView> cachedViews = viewsById.getAllPresent(ids);
+        List<ProductView> views = new ArrayList<>(cachedViews.values());
+        List<Long> missingIds = ids.stream()
+                .filter(id -> !cachedViews.containsKey(id))
+                .toList();
+
+        if (!missingIds.isEmpty()) {
+            queryDelegate.findViewsByIds(missingIds).forEach(view -> views.add(cacheView(view)));
+        }
+        return views;
+    }
+
+    @Override
+    public List<ProductView> findViewsByCodes(Collection<String> codes) {
+        Map<String, ProductView> cachedViews = viewsByCode.getAllPresent(codes);
+        List<ProductView> views = new ArrayList<>(cachedViews.values());
+        List<String> missingCodes = codes.stream()
+                .filter(code -> !cachedViews.containsKey(code))
+                .toList();
+
+        if (!missingCodes.isEmpty()) {
+            queryDelegate.findViewsByCodes(missingCodes).forEach(view -> views.add(cacheView(view)));
+        }
+        return views;
+    }
+
+    // A cached view already carries its version, otherwise only the version columns are read
+    @Override
+    public Optional<ProductVersion> findVersionById(Long id) {
+        ProductView cachedView = viewsById.getIfPresent(id);
+
+        return cachedView != null ? Optional.of(cachedView.toVersion()) : queryDelegate.findVersionById(id);
+    }
+
+    @Override
+    public Optional<ProductVersion> findVersionByCode(String code) {
+        ProductView cachedView = viewsByCode.getIfPresent(code);
+
+        return cachedView != null ? Optional.of(cachedView.toVersion()) : queryDelegate.findVersionByCode(code);
+    }
+
+    @Override
+    public PaginatedResult<ProductView> findAllViews(PaginationRequest paginationRequest) {
+        return queryDelegate.findAllViews(paginationRequest);
+    }
+
+    @Override
+    public PaginatedResult<ProductView> searchViews(ProductSearchRequest searchRequest) {
+        return queryDelegate.searchViews(searchRequest);
+    }
+
+    @Override
+    public void forEachProduct(Consumer<Product> consumer) {
+        delegate.forEachProduct(consumer);
+    }
+
+    @Override
+    public boolean isCodeAlreadyExists(String code) {
+        return delegate.isCodeAlreadyExists(code);
+    }
+
+    @Override
+    public Set<String> findExistingCodes(Collection<String> codes) {
+        return delegate.findExistingCodes(codes);
+    }
+
+    public CacheStats getViewIdCacheStats() {
+        return viewsById.stats();
+    }
+
+    public CacheStats getViewCodeCacheStats() {
+        return viewsByCode.stats();
+    }
+
+    public long getEstimatedSize() {
+        return viewsById.estimatedSize() + viewsByCode.estimatedSize();
+    }
+
+    private ProductView cacheView(ProductView view) {
+        viewsById.put(view.id(), view);
+        viewsByCode.put(view.code(), view);
+        return view;
+    }
+
+    private void invalidate(Product product) {
+        if (product.getId() != null) {
+            viewsById.invalidate(product.getId());
+        }
+        viewsByCode.invalidate(product.getCode());
+    }
+
+    private static <K, V> Cache<K, V> buildCache(ProductCacheProperties properties) {
+        return Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTimeToLive())
+                .recordStats()
+                .build();
+    }
+}
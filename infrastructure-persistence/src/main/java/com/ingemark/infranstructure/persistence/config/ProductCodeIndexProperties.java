@@ -0,0 +1,46 @@
+package com.ingemark.infranstructure.persistence.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "products.code-index")
+public class ProductCodeIndexProperties {
+    private boolean enabled = true;
+    private long expectedCodes = 20_000_000;
+    private double falsePositiveRate = 0.01;
+    // Only safe when this instance is the single writer, otherwise codes created elsewhere are reported as not found
+    private boolean serveReads = false;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getExpectedCodes() {
+        return expectedCodes;
+    }
+
+    public void setExpectedCodes(long expectedCodes) {
+        this.expectedCodes = expectedCodes;
+    }
+
+    public double getFalsePositiveRate() {
+        return falsePositiveRate;
+    }
+
+    public void setFalsePositiveRate(double falsePositiveRate) {
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    public boolean isServeReads() {
+        return serveReads;
+    }
+
+    public void setServeReads(boolean serveReads) {
+        this.serveReads = serveReads;
+    }
+}
@@ -0,0 +1,20 @@
+package com.ingemark.infranstructure.persistence.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "products.pagination")
+public class ProductPaginationProperties {
+    private Duration totalCountTtl = Duration.ofSeconds(30);
+
+    public Duration getTotalCountTtl() {
+        return totalCountTtl;
+    }
+
+    public void setTotalCountTtl(Duration totalCountTtl) {
+        this.totalCountTtl = totalCountTtl;
+    }
+}
@@ -0,0 +1,49 @@
+package com.ingemark.infranstructure.persistence.entity;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+@Entity
+@Table(name = "exchange_rate")
+public class ExchangeRateEntity {
+
+    @EmbeddedId
+    private ExchangeRateId id;
+
+    @Column(nullable = false, precision = 19, scale = 6)
+    private BigDecimal rate;
+
+    @Column(name = "fetched_at", nullable = false)
+    private Instant fetchedAt;
+
+    public ExchangeRateEntity() {
+    }
+
+    public ExchangeRateEntity(ExchangeRateId id, BigDecimal rate, Instant fetchedAt) {
+        this.id = id;
+        this.rate = rate;
+        this.fetchedAt = fetchedAt;
+    }
+
+    public ExchangeRateId getId() {
+        return id;
+    }
+
+    public BigDecimal getRate() {
+        return rate;
+    }
+
+    public void setRate(BigDecimal rate) {
+        this.rate = rate;
+    }
+
+    public Instant getFetchedAt() {
+        return fetchedAt;
+    }
+
+    public void setFetchedAt(Instant fetchedAt) {
+        this.fetchedAt = fetchedAt;
+    }
+}
@@ -0,0 +1,50 @@
+package com.ingemark.infranstructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+@Embeddable
+public class ExchangeRateId implements Serializable {
+
+    @Column(name = "currency_code", length = 3, nullable = false)
+    private String currencyCode;
+
+    @Column(name = "rate_date", nullable = false)
+    private LocalDate rateDate;
+
+    public ExchangeRateId() {
+    }
+
+    public ExchangeRateId(String currencyCode, LocalDate rateDate) {
+        this.currencyCode = currencyCode;
+        this.rateDate = rateDate;
+    }
+
+    public String getCurrencyCode() {
+        return currencyCode;
+    }
+
+    public LocalDate getRateDate() {
+        return rateDate;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof ExchangeRateId that)) {
+            return false;
+        }
+        return Objects.equals(currencyCode, that.currencyCode) && Objects.equals(rateDate, that.rateDate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(currencyCode, rateDate);
+    }
+}
@@ -3,9 +3,12 @@ package com.ingemark.infranstructure.persistence.mapper;
 import com.ingemark.infranstructure.persistence.entity.ProductEntity;
 import com.ingemark.domain.model.Product;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
 public interface ProductMapper {
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
     ProductEntity mapToProductEntity(Product product);
 
     Product mapToProductDomain(ProductEntity productEntity);
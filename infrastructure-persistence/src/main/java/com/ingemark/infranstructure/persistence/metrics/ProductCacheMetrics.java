@@ -0,0 +1,55 @@
+package com.ingemark.infranstructure.persistence.metrics;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.ingemark.infranstructure.persistence.cache.CachingProductRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+@Component
+@ConditionalOnProperty(prefix = "products.cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ProductCacheMetrics implements MeterBinder {
+
+    private final CachingProductRepository cachingProductRepository;
+
+    public ProductCacheMetrics(CachingProductRepository cachingProductRepository) {
+        this.cachingProductRepository = cachingProductRepository;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        registerCache(registry, "id", CachingProductRepository::getViewIdCacheStats);
+        registerCache(registry, "code", CachingProductRepository::getViewCodeCacheStats);
+
+        Gauge.builder("product.cache.size", cachingProductRepository, CachingProductRepository::getEstimatedSize)
+                .description("Approximate number of product views held by both caches")
+                .register(registry);
+    }
+
+    private void registerCache(MeterRegistry registry, String key, Function<CachingProductRepository, CacheStats> stats) {
+        registerRequests(registry, key, "hit", stats, CacheStats::hitCount);
+        registerRequests(registry, key, "miss", stats, CacheStats::missCount);
+
+        FunctionCounter.builder("product.cache.evictions", cachingProductRepository,
+                        repository -> stats.apply(repository).evictionCount())
+                .description("Product views evicted by size or expiry")
+                .tag("key", key)
+                .register(registry);
+    }
+
+    private void registerRequests(MeterRegistry registry, String key, String result,
+                                  Function<CachingProductRepository, CacheStats> stats, ToLongFunction<CacheStats> count) {
+        FunctionCounter.builder("product.cache.requests", cachingProductRepository,
+                        repository -> count.applyAsLong(stats.apply(repository)))
+                .description("Product view lookups served by the cache, by result")
+                .tag("key", key)
+                .tag("result", result)
+                .register(registry);
+    }
+}
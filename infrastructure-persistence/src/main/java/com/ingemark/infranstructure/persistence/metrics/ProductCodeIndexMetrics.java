@@ -0,0 +1,47 @@
+package com.ingemark.infranstructure.persistence.metrics;
+
+import com.ingemark.infranstructure.persistence.repository.impl.ProductCodeIndex;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ProductCodeIndexMetrics implements MeterBinder {
+
+    private final ProductCodeIndex productCodeIndex;
+
+    public ProductCodeIndexMetrics(ProductCodeIndex productCodeIndex) {
+        this.productCodeIndex = productCodeIndex;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("product.code.index.lookups", productCodeIndex, ProductCodeIndex::getAbsentLookups)
+                .description("Code lookups answered by the index, by result")
+                .tag("result", "absent")
+                .register(registry);
+        FunctionCounter.builder("product.code.index.lookups", productCodeIndex, ProductCodeIndex::getMaybePresentLookups)
+                .description("Code lookups answered by the index, by result")
+                .tag("result", "maybe")
+                .register(registry);
+        FunctionCounter.builder("product.code.index.false.positives", productCodeIndex, ProductCodeIndex::getFalsePositives)
+                .description("Codes the index reported as maybe present that the database did not have")
+                .register(registry);
+
+        Gauge.builder("product.code.index.false.positive.rate", productCodeIndex, ProductCodeIndex::getExpectedFalsePositiveRate)
+                .description("Expected false positive probability for the current number of codes")
+                .register(registry);
+        Gauge.builder("product.code.index.codes", productCodeIndex, ProductCodeIndex::getApproximateCodeCount)
+                .description("Approximate number of distinct codes in the index")
+                .register(registry);
+        Gauge.builder("product.code.index.memory", productCodeIndex, ProductCodeIndex::getSizeInBytes)
+                .description("Memory held by the index bit array")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("product.code.index.ready", productCodeIndex, index -> index.isReady() ? 1 : 0)
+                .description("Whether the startup scan has completed and absent answers skip the database")
+                .register(registry);
+    }
+}
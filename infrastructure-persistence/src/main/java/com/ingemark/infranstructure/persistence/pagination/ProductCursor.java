@@ -0,0 +1,135 @@
+package com.ingemark.infranstructure.persistence.pagination;
+
+import com.ingemark.domain.pagination.ProductSortField;
+import com.ingemark.infranstructure.persistence.entity.ProductEntity;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.Optional;
+
+public record ProductCursor(String sortBy, Sort.Direction direction, Long id, String value) {
+    private static final String ID_FIELD = "id";
+    private static final String SEPARATOR = ":";
+
+    public static ProductCursor of(Long lastId, Object sortValue, String sortBy, Sort.Direction direction) {
+        String value = sortValue instanceof BigDecimal decimal ? decimal.toPlainString() : Objects.toString(sortValue, null);
+
+        return new ProductCursor(sortBy, direction, lastId, value);
+    }
+
+    public static Optional<ProductCursor> decode(String token, String sortBy, Sort.Direction direction) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(SEPARATOR, 4);
+        } catch (IllegalArgumentException exception) {
+            throw new IllegalArgumentException("Invalid pagination cursor");
+        }
+
+        // A cursor without the value part was taken on a row whose sort column is null
+        if (parts.length != 3 && parts.length != 4) {
+            throw new IllegalArgumentException("Invalid pagination cursor");
+        }
+
+        if (!parts[0].equals(sortBy) || !parts[1].equals(direction.name())) {
+            throw new IllegalArgumentException("Pagination cursor does not match the requested sorting");
+        }
+
+        try {
+            return Optional.of(new ProductCursor(sortBy, direction, Long.valueOf(parts[2]), parts.length == 4 ? parts[3] : null));
+        } catch (NumberFormatException exception) {
+            throw new IllegalArgumentException("Invalid pagination cursor");
+        }
+    }
+
+    // Offset pages use the same ordering so rows with equal sort values keep a stable order between pages.
+    // Unique fields need no tie-breaker, so ordering stays on their single-column index
+    public static Sort keysetSort(String sortBy, Sort.Direction direction) {
+        Sort sort = Sort.by(direction, sortBy);
+
+        return ProductSortField.fromProperty(sortBy).isUnique() ? sort : sort.and(Sort.by(direction, ID_FIELD));
+    }
+
+    public String encode() {
+        String raw = sortBy + SEPARATOR + direction.name() + SEPARATOR + id + (value == null ? "" : SEPARATOR + value);
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Rows whose sort column is null form their own segment, so the seek only continues within the cursor's segment
+    public Specification<ProductEntity> toSeekSpecification() {
+        return (root, query, criteriaBuilder) -> {
+            Path<Long> idPath = root.get(ID_FIELD);
+            Predicate idAfter = direction.isAscending()
+                    ? criteriaBuilder.greaterThan(idPath, id)
+                    : criteriaBuilder.lessThan(idPath, id);
+
+            if (ID_FIELD.equals(sortBy)) {
+                return idAfter;
+            }
+
+            Path<Comparable<Object>> sortPath = root.get(sortBy);
+
+            if (value == null) {
+                return criteriaBuilder.and(criteriaBuilder.isNull(sortPath), idAfter);
+            }
+
+            Comparable<Object> sortValue = convert(value, sortPath.getJavaType());
+            Predicate sortAfter = direction.isAscending()
+                    ? criteriaBuilder.greaterThan(sortPath, sortValue)
+                    : criteriaBuilder.lessThan(sortPath, sortValue);
+
+            if (ProductSortField.fromProperty(sortBy).isUnique()) {
+                return sortAfter;
+            }
+
+            // The redundant bound gives the planner an index range to start from instead of filtering from the first row
+            Predicate sortFrom = direction.isAscending()
+                    ? criteriaBuilder.greaterThanOrEqualTo(sortPath, sortValue)
+                    : criteriaBuilder.lessThanOrEqualTo(sortPath, sortValue);
+
+            return criteriaBuilder.and(sortFrom,
+                    criteriaBuilder.or(sortAfter, criteriaBuilder.and(criteriaBuilder.equal(sortPath, sortValue), idAfter)));
+        };
+    }
+
+    // The segment read once the cursor's segment is exhausted, it is queried separately so neither query needs an OR
+    // that would keep it from reading a single index range. nullsLast tells where the database orders nulls in this direction
+    public Optional<Specification<ProductEntity>> toNextSegmentSpecification(boolean nullsLast) {
+        if (!ProductSortField.fromProperty(sortBy).isNullable() || (value == null) == nullsLast) {
+            return Optional.empty();
+        }
+
+        return Optional.of((root, query, criteriaBuilder) -> value == null
+                ? criteriaBuilder.isNotNull(root.get(sortBy))
+                : criteriaBuilder.isNull(root.get(sortBy)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Comparable<Object> convert(String value, Class<?> type) {
+        Object converted;
+
+        if (type == String.class) {
+            converted = value;
+        } else if (type == Long.class || type == long.class) {
+            converted = Long.valueOf(value);
+        } else if (type == BigDecimal.class) {
+            converted = new BigDecimal(value);
+        } else if (type == Boolean.class || type == boolean.class) {
+            converted = Boolean.valueOf(value);
+        } else {
+            throw new IllegalArgumentException("Cursor pagination is not supported for sort field type " + type.getSimpleName());
+        }
+
+        return (Comparable<Object>) converted;
+    }
+}
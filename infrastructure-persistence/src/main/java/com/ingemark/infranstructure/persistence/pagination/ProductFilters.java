@@ -0,0 +1,41 @@
+package com.ingemark.infranstructure.persistence.pagination;
+
+import com.ingemark.domain.pagination.ProductFilter;
+import com.ingemark.infranstructure.persistence.entity.ProductEntity;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+// Availability and EUR range are covered by idx_product_available_price_in_eur_id, see add-product-filter-indexes.yaml
+public final class ProductFilters {
+
+    private ProductFilters() {
+    }
+
+    public static Specification<ProductEntity> toSpecification(ProductFilter filter) {
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (filter.available() != null) {
+                predicates.add(criteriaBuilder.equal(root.get("available"), filter.available()));
+            }
+            if (filter.minPriceEur() != null) {
+                predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.<BigDecimal>get("priceInEur"), filter.minPriceEur()));
+            }
+            if (filter.maxPriceEur() != null) {
+                predicates.add(criteriaBuilder.lessThanOrEqualTo(root.<BigDecimal>get("priceInEur"), filter.maxPriceEur()));
+            }
+            if (filter.minPriceUsd() != null) {
+                predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.<BigDecimal>get("priceInUsd"), filter.minPriceUsd()));
+            }
+            if (filter.maxPriceUsd() != null) {
+                predicates.add(criteriaBuilder.lessThanOrEqualTo(root.<BigDecimal>get("priceInUsd"), filter.maxPriceUsd()));
+            }
+
+            return criteriaBuilder.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+}
@@ -0,0 +1,42 @@
+package com.ingemark.infranstructure.persistence.repository;
+
+import com.ingemark.infranstructure.persistence.entity.ExchangeRateEntity;
+import com.ingemark.infranstructure.persistence.entity.ExchangeRateId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+@Repository
+public interface ExchangeRateDataJpaRepository extends JpaRepository<ExchangeRateEntity, ExchangeRateId> {
+
+    Optional<ExchangeRateEntity> findFirstByIdCurrencyCodeOrderByIdRateDateDesc(String currencyCode);
+
+    // Before the cutoff only the last rate of each month is kept per currency
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            delete from ExchangeRateEntity e
+            where e.id.rateDate < :cutoff
+              and exists (select 1 from ExchangeRateEntity later
+                          where later.id.currencyCode = e.id.currencyCode
+                            and later.id.rateDate > e.id.rateDate
+                            and later.id.rateDate < :cutoff
+                            and year(later.id.rateDate) = year(e.id.rateDate)
+                            and month(later.id.rateDate) = month(e.id.rateDate))
+            """)
+    int deleteAllButLastOfMonthBefore(@Param("cutoff") LocalDate cutoff);
+
+    // The latest rate of a currency is never deleted, it is what warms the cache after a long outage
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            delete from ExchangeRateEntity e
+            where e.id.rateDate < :cutoff
+              and e.id.rateDate < (select max(latest.id.rateDate) from ExchangeRateEntity latest
+                                   where latest.id.currencyCode = e.id.currencyCode)
+            """)
+    int deleteAllButLatestBefore(@Param("cutoff") LocalDate cutoff);
+}
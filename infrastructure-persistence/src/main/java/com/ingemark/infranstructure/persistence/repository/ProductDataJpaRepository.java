@@ -1,14 +1,87 @@
 package com.ingemark.infranstructure.persistence.repository;
 
+import com.ingemark.domain.model.ProductVersion;
+import com.ingemark.domain.model.ProductView;
 import com.ingemark.infranstructure.persistence.entity.ProductEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface ProductDataJpaRepository extends JpaRepository<ProductEntity, Long> {
+public interface ProductDataJpaRepository extends JpaRepository<ProductEntity, Long>, JpaSpecificationExecutor<ProductEntity> {
+    String SELECT_PRODUCT_VIEW = "select new com.ingemark.domain.model.ProductView(p.id, p.code, p.name, p.priceInEur, "
+            + "p.priceInUsd, p.available, p.version, p.updatedAt) from ProductEntity p";
+    String SELECT_PRODUCT_VERSION = "select new com.ingemark.domain.model.ProductVersion(p.id, p.version, p.updatedAt) "
+            + "from ProductEntity p";
+
     Optional<ProductEntity> findByCode(String code);
 
     boolean existsByCode(String code);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("select p from ProductEntity p order by p.id")
+    Stream<ProductEntity> streamAllOrderedById();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "5000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("select p.code from ProductEntity p")
+    Stream<String> streamAllCodes();
+
+    @Query("select p.code from ProductEntity p where p.code in :codes")
+    List<String> findExistingCodes(@Param("codes") Collection<String> codes);
+
+    @Query(SELECT_PRODUCT_VIEW + " where p.id = :id")
+    Optional<ProductView> findViewById(@Param("id") Long id);
+
+    @Query(SELECT_PRODUCT_VIEW + " where p.code = :code")
+    Optional<ProductView> findViewByCode(@Param("code") String code);
+
+    @Query(SELECT_PRODUCT_VIEW)
+    Slice<ProductView> findAllViewsBy(Pageable pageable);
+
+    @Query(SELECT_PRODUCT_VIEW + " where p.id in :ids")
+    List<ProductView> findViewsByIds(@Param("ids") Collection<Long> ids);
+
+    @Query(SELECT_PRODUCT_VIEW + " where p.code in :codes")
+    List<ProductView> findViewsByCodes(@Param("codes") Collection<String> codes);
+
+    // Both predicates are answered by the pg_trgm GIN indexes, code prefix matches rank first, then name similarity
+    @Query(SELECT_PRODUCT_VIEW + " where p.name ilike :namePattern escape '\\' or p.code ilike :codePrefix escape '\\'"
+            + " order by case when p.code ilike :codePrefix escape '\\' then 0 else 1 end,"
+            + " function('similarity', p.name, :query) desc, p.id")
+    Slice<ProductView> searchViewsBySimilarity(@Param("query") String query, @Param("namePattern") String namePattern,
+                                               @Param("codePrefix") String codePrefix, Pageable pageable);
+
+    @Query(SELECT_PRODUCT_VIEW + " where p.name ilike :namePattern escape '\\' or p.code ilike :codePrefix escape '\\'"
+            + " order by case when p.code ilike :codePrefix escape '\\' then 0"
+            + " when lower(p.name) = lower(:query) then 1"
+            + " when p.name ilike :namePrefix escape '\\' then 2 else 3 end, p.name, p.id")
+    Slice<ProductView> searchViewsByPattern(@Param("query") String query, @Param("namePattern") String namePattern,
+                                            @Param("namePrefix") String namePrefix, @Param("codePrefix") String codePrefix,
+                                            Pageable pageable);
+
+    @Query(SELECT_PRODUCT_VERSION + " where p.id = :id")
+    Optional<ProductVersion> findVersionById(@Param("id") Long id);
+
+    @Query(SELECT_PRODUCT_VERSION + " where p.code = :code")
+    Optional<ProductVersion> findVersionByCode(@Param("code") String code);
 }
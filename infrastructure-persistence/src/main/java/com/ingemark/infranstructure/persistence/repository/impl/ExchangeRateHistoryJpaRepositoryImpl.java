@@ -0,0 +1,56 @@
+package com.ingemark.infranstructure.persistence.repository.impl;
+
+import com.ingemark.application.exchange.StoredExchangeRate;
+import com.ingemark.application.repository.ExchangeRateHistoryRepository;
+import com.ingemark.application.request.SupportedCurrency;
+import com.ingemark.infranstructure.persistence.entity.ExchangeRateEntity;
+import com.ingemark.infranstructure.persistence.entity.ExchangeRateId;
+import com.ingemark.infranstructure.persistence.repository.ExchangeRateDataJpaRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+@Service
+public class ExchangeRateHistoryJpaRepositoryImpl implements ExchangeRateHistoryRepository {
+
+    private final ExchangeRateDataJpaRepository jpaRepository;
+
+    public ExchangeRateHistoryJpaRepositoryImpl(ExchangeRateDataJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    // A refetch on the same rate date overwrites the row, so the table holds one rate per currency and day
+    @Override
+    @Transactional
+    public void save(StoredExchangeRate exchangeRate) {
+        ExchangeRateId id = new ExchangeRateId(exchangeRate.currency().getCode(), exchangeRate.rateDate());
+        ExchangeRateEntity entity = jpaRepository.findById(id)
+                .orElseGet(() -> new ExchangeRateEntity(id, exchangeRate.rate(), exchangeRate.fetchedAt()));
+
+        entity.setRate(exchangeRate.rate());
+        entity.setFetchedAt(exchangeRate.fetchedAt());
+        jpaRepository.save(entity);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<StoredExchangeRate> findLatest(SupportedCurrency currency) {
+        return jpaRepository.findFirstByIdCurrencyCodeOrderByIdRateDateDesc(currency.getCode())
+                .map(entity -> new StoredExchangeRate(currency, entity.getId().getRateDate(), entity.getRate(),
+                        entity.getFetchedAt()));
+    }
+
+    @Override
+    @Transactional
+    public int compactOlderThan(LocalDate cutoff) {
+        return jpaRepository.deleteAllButLastOfMonthBefore(cutoff);
+    }
+
+    @Override
+    @Transactional
+    public int deleteOlderThan(LocalDate cutoff) {
+        return jpaRepository.deleteAllButLatestBefore(cutoff);
+    }
+}
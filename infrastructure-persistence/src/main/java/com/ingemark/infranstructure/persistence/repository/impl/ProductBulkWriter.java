@@ -0,0 +1,140 @@
+package com.ingemark.infranstructure.persistence.repository.impl;
+
+import com.ingemark.application.exception.DuplicateProductCodeException;
+import com.ingemark.domain.model.Product;
+import com.ingemark.infranstructure.persistence.entity.ProductEntity;
+import com.ingemark.infranstructure.persistence.mapper.ProductMapper;
+import com.ingemark.infranstructure.persistence.repository.ProductDataJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.postgresql.PGConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+@Component
+public class ProductBulkWriter {
+    private static final Logger logger = LoggerFactory.getLogger(ProductBulkWriter.class);
+
+    private static final String COPY_SQL =
+            "COPY product (id, code, name, price_in_eur, price_in_usd, is_available) FROM STDIN WITH (FORMAT csv)";
+    private static final String NEXT_ID_BLOCKS_SQL = "SELECT nextval('product_seq') FROM generate_series(1, ?)";
+    private static final String UNIQUE_VIOLATION_SQL_STATE = "23505";
+
+    private final EntityManager entityManager;
+    private final ProductDataJpaRepository jpaRepository;
+    private final ProductMapper productMapper;
+
+    public ProductBulkWriter(EntityManager entityManager, ProductDataJpaRepository jpaRepository, ProductMapper productMapper) {
+        this.entityManager = entityManager;
+        this.jpaRepository = jpaRepository;
+        this.productMapper = productMapper;
+    }
+
+    public void insertAll(List<Product> products) {
+        if (products.isEmpty()) {
+            return;
+        }
+
+        try {
+            write(products);
+        } catch (RuntimeException exception) {
+            if (isUniqueViolation(exception)) {
+                throw new DuplicateProductCodeException("A product code in the chunk was inserted concurrently");
+            }
+            throw exception;
+        }
+    }
+
+    private void write(List<Product> products) {
+        boolean copied = entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            if (!connection.isWrapperFor(PGConnection.class)) {
+                return false;
+            }
+
+            copyIn(connection, products);
+            return true;
+        });
+
+        if (!copied) {
+            logger.debug("COPY is not supported by the database, falling back to batched inserts");
+
+            jpaRepository.saveAll(products.stream()
+                    .map(productMapper::mapToProductEntity)
+                    .toList());
+            entityManager.flush();
+            entityManager.clear();
+        }
+    }
+
+    private void copyIn(Connection connection, List<Product> products) throws SQLException {
+        Iterator<Long> ids = allocateIds(connection, products.size()).iterator();
+        StringBuilder rows = new StringBuilder(products.size() * 64);
+
+        for (Product product : products) {
+            rows.append(ids.next()).append(',')
+                    .append(quote(product.getCode())).append(',')
+                    .append(quote(product.getName())).append(',')
+                    .append(product.getPriceInEur().toPlainString()).append(',')
+                    .append(product.getPriceInUsd().toPlainString()).append(',')
+                    .append(product.isAvailable()).append('\n');
+        }
+
+        try {
+            long copiedRows = connection.unwrap(PGConnection.class)
+                    .getCopyAPI()
+                    .copyIn(COPY_SQL, new StringReader(rows.toString()));
+            logger.debug("Copied {} products", copiedRows);
+        } catch (IOException exception) {
+            throw new SQLException("Failed to copy products", exception);
+        }
+    }
+
+    // Ids are taken in blocks the same way Hibernate's pooled optimizer does, so both writers can share product_seq
+    private List<Long> allocateIds(Connection connection, int count) throws SQLException {
+        List<Long> ids = new ArrayList<>(count + ProductEntity.ID_ALLOCATION_SIZE);
+
+        try (PreparedStatement statement = connection.prepareStatement(NEXT_ID_BLOCKS_SQL)) {
+            while (ids.size() < count) {
+                int missingBlocks = (count - ids.size() + ProductEntity.ID_ALLOCATION_SIZE - 1) / ProductEntity.ID_ALLOCATION_SIZE;
+                statement.setInt(1, missingBlocks);
+
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        long hiValue = resultSet.getLong(1);
+                        for (long id = Math.max(1, hiValue - ProductEntity.ID_ALLOCATION_SIZE + 1); id <= hiValue; id++) {
+                            ids.add(id);
+                        }
+                    }
+                }
+            }
+        }
+
+        return ids;
+    }
+
+    // COPY, the batched insert and the flush wrap the driver's exception differently, the SQL state is common to all of them
+    private static boolean isUniqueViolation(Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && UNIQUE_VIOLATION_SQL_STATE.equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private String quote(String value) {
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
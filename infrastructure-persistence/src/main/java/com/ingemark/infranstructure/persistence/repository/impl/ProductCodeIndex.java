@@ -0,0 +1,138 @@
+package com.ingemark.infranstructure.persistence.repository.impl;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import com.ingemark.infranstructure.persistence.config.ProductCodeIndexProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+// Answers "definitely absent" only once the startup scan has completed, until then every code may exist.
+// It only learns codes written through this instance, so it is always consulted for duplicate checks, where a code
+// written by another instance is still caught by the unique index on insert, but answers reads only with serve-reads
+@Component
+public class ProductCodeIndex {
+    private final BloomFilter<CharSequence> filter;
+    private final long sizeInBytes;
+    private final boolean servingReads;
+    private final LongAdder absentLookups = new LongAdder();
+    private final LongAdder maybePresentLookups = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+    private volatile boolean ready;
+
+    public ProductCodeIndex(ProductCodeIndexProperties properties) {
+        if (properties.isEnabled()) {
+            this.filter = BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8),
+                    properties.getExpectedCodes(), properties.getFalsePositiveRate());
+            this.sizeInBytes = estimateSizeInBytes(properties.getExpectedCodes(), properties.getFalsePositiveRate());
+        } else {
+            this.filter = null;
+            this.sizeInBytes = 0;
+        }
+        this.servingReads = properties.isEnabled() && properties.isServeReads();
+    }
+
+    public boolean isDefinitelyAbsent(String code) {
+        if (!ready) {
+            return false;
+        }
+
+        if (filter.mightContain(code)) {
+            maybePresentLookups.increment();
+            return false;
+        }
+
+        absentLookups.increment();
+        return true;
+    }
+
+    public <T> Optional<T> findByCode(String code, Function<String, Optional<T>> query) {
+        if (isDefinitelyAbsent(code)) {
+            return Optional.empty();
+        }
+
+        Optional<T> result = query.apply(code);
+        if (result.isEmpty()) {
+            recordFalsePositives(1);
+        }
+        return result;
+    }
+
+    // Only codes that may exist reach the query, so a batch of unknown codes costs no round trip at all
+    public <T> List<T> findAllByCodes(Collection<String> codes, Function<List<String>, List<T>> query) {
+        List<String> maybePresentCodes = codes.stream()
+                .filter(code -> !isDefinitelyAbsent(code))
+                .toList();
+
+        if (maybePresentCodes.isEmpty()) {
+            return List.of();
+        }
+
+        List<T> results = query.apply(maybePresentCodes);
+        recordFalsePositives(maybePresentCodes.size() - results.size());
+        return results;
+    }
+
+    public void recordFalsePositives(long count) {
+        if (ready && count > 0) {
+            falsePositives.add(count);
+        }
+    }
+
+    public void add(String code) {
+        if (filter != null) {
+            filter.put(code);
+        }
+    }
+
+    public void markReady() {
+        ready = filter != null;
+    }
+
+    public boolean isEnabled() {
+        return filter != null;
+    }
+
+    public boolean isServingReads() {
+        return servingReads;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public long getAbsentLookups() {
+        return absentLookups.sum();
+    }
+
+    public long getMaybePresentLookups() {
+        return maybePresentLookups.sum();
+    }
+
+    public long getFalsePositives() {
+        return falsePositives.sum();
+    }
+
+    public double getExpectedFalsePositiveRate() {
+        return filter == null ? Double.NaN : filter.expectedFpp();
+    }
+
+    public long getApproximateCodeCount() {
+        return filter == null ? 0 : filter.approximateElementCount();
+    }
+
+    public long getSizeInBytes() {
+        return sizeInBytes;
+    }
+
+    // Same sizing formula Guava uses, the bits are kept in a long array
+    private static long estimateSizeInBytes(long expectedCodes, double falsePositiveRate) {
+        long bits = (long) (-expectedCodes * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        return (bits + Long.SIZE - 1) / Long.SIZE * Long.BYTES;
+    }
+}
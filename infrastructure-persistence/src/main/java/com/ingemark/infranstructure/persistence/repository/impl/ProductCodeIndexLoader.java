@@ -0,0 +1,53 @@
+package com.ingemark.infranstructure.persistence.repository.impl;
+
+import com.ingemark.infranstructure.persistence.repository.ProductDataJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@Component
+public class ProductCodeIndexLoader {
+    private static final Logger logger = LoggerFactory.getLogger(ProductCodeIndexLoader.class);
+
+    private final ProductDataJpaRepository jpaRepository;
+    private final ProductCodeIndex productCodeIndex;
+    private final TransactionOperations transactionOperations;
+
+    public ProductCodeIndexLoader(ProductDataJpaRepository jpaRepository, ProductCodeIndex productCodeIndex,
+                                  TransactionOperations transactionOperations) {
+        this.jpaRepository = jpaRepository;
+        this.productCodeIndex = productCodeIndex;
+        this.transactionOperations = transactionOperations;
+    }
+
+    // Codes written while the scan runs are added by the repository, so nothing is lost before the index goes live
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!productCodeIndex.isEnabled()) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            transactionOperations.executeWithoutResult(status -> {
+                try (Stream<String> codes = jpaRepository.streamAllCodes()) {
+                    codes.forEach(productCodeIndex::add);
+                }
+            });
+        } catch (RuntimeException exception) {
+            logger.warn("Product code index could not be loaded, lookups keep going to the database", exception);
+            return;
+        }
+        productCodeIndex.markReady();
+
+        logger.info("Product code index loaded with ~{} codes in {} ms, expected false positive rate {}",
+                productCodeIndex.getApproximateCodeCount(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                productCodeIndex.getExpectedFalsePositiveRate());
+    }
+}
@@ -0,0 +1,89 @@
+package com.ingemark.infranstructure.persistence.repository.impl;
+
+import com.ingemark.infranstructure.persistence.config.ProductPaginationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+@Component
+public class ProductCountCache {
+    private final Duration ttl;
+    private final Clock clock;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final AtomicReference<CountSnapshot> snapshot = new AtomicReference<>();
+
+    public ProductCountCache(ProductPaginationProperties properties) {
+        this(properties.getTotalCountTtl(), Clock.systemUTC());
+    }
+
+    ProductCountCache(Duration ttl, Clock clock) {
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    public long getTotal(LongSupplier countQuery) {
+        CountSnapshot current = snapshot.get();
+
+        if (current != null && !current.isExpiredAt(clock.instant(), ttl)) {
+            return current.total();
+        }
+
+        // Only one thread re-counts, the others keep serving the expired value meanwhile
+        if (current != null && !refreshLock.tryLock()) {
+            return current.total();
+        }
+
+        if (current == null) {
+            refreshLock.lock();
+        }
+
+        try {
+            current = snapshot.get();
+            if (current == null || current.isExpiredAt(clock.instant(), ttl)) {
+                current = new CountSnapshot(countQuery.getAsLong(), clock.instant());
+                snapshot.set(current);
+            }
+            return current.total();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    // Inside a transaction the delta waits for the commit, so a rolled back insert never inflates the cached total
+    public void add(long insertedRows) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(insertedRows);
+                }
+            });
+            return;
+        }
+
+        apply(insertedRows);
+    }
+
+    public void invalidate() {
+        snapshot.set(null);
+    }
+
+    private void apply(long insertedRows) {
+        snapshot.updateAndGet(current -> current == null
+                ? null
+                : new CountSnapshot(current.total() + insertedRows, current.loadedAt()));
+    }
+
+    private record CountSnapshot(long total, Instant loadedAt) {
+        boolean isExpiredAt(Instant now, Duration ttl) {
+            return loadedAt.plus(ttl).isBefore(now);
+        }
+    }
+}
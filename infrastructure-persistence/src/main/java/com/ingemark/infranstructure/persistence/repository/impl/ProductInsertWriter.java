@@ -0,0 +1,94 @@
+package com.ingemark.infranstructure.persistence.repository.impl;
+
+import com.ingemark.domain.model.Product;
+import com.ingemark.infranstructure.persistence.entity.ProductEntity;
+import jakarta.persistence.EntityManager;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.postgresql.PGConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+
+@Component
+public class ProductInsertWriter {
+    private static final Logger logger = LoggerFactory.getLogger(ProductInsertWriter.class);
+
+    private static final String INSERT_SQL =
+            "INSERT INTO product (id, code, name, price_in_eur, price_in_usd, is_available) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ON_CONFLICT_SQL = INSERT_SQL + " ON CONFLICT (code) DO NOTHING RETURNING id";
+    private static final String UNIQUE_VIOLATION_SQL_STATE = "23505";
+
+    private final EntityManager entityManager;
+
+    public ProductInsertWriter(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    public Optional<Product> insertIfCodeAbsent(Product product) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        long id = nextId(session);
+
+        boolean inserted = session.doReturningWork(connection -> connection.isWrapperFor(PGConnection.class)
+                ? insertOnConflictDoNothing(connection, id, product)
+                : insertOrDetectUniqueViolation(connection, id, product));
+
+        if (!inserted) {
+            logger.debug("Product with code '{}' was not inserted, the code is already taken", product.getCode());
+            return Optional.empty();
+        }
+
+        return Optional.of(new Product(id, product.getCode(), product.getName(), product.getPriceInEur(),
+                product.getPriceInUsd(), product.isAvailable()));
+    }
+
+    // Same generator as JPA saves, so single inserts share the pooled product_seq blocks instead of burning one each
+    private long nextId(SharedSessionContractImplementor session) {
+        BeforeExecutionGenerator generator = (BeforeExecutionGenerator) session.getFactory()
+                .getMappingMetamodel()
+                .getEntityDescriptor(ProductEntity.class)
+                .getGenerator();
+
+        return (Long) generator.generate(session, new ProductEntity(), null, EventType.INSERT);
+    }
+
+    // Postgres skips the conflicting row without failing the statement, so the surrounding transaction stays usable
+    private boolean insertOnConflictDoNothing(Connection connection, long id, Product product) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_ON_CONFLICT_SQL)) {
+            bind(statement, id, product);
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next();
+            }
+        }
+    }
+
+    private boolean insertOrDetectUniqueViolation(Connection connection, long id, Product product) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL)) {
+            bind(statement, id, product);
+
+            return statement.executeUpdate() == 1;
+        } catch (SQLException exception) {
+            if (UNIQUE_VIOLATION_SQL_STATE.equals(exception.getSQLState())) {
+                return false;
+            }
+            throw exception;
+        }
+    }
+
+    private void bind(PreparedStatement statement, long id, Product product) throws SQLException {
+        statement.setLong(1, id);
+        statement.setString(2, product.getCode());
+        statement.setString(3, product.getName());
+        statement.setBigDecimal(4, product.getPriceInEur());
+        statement.setBigDecimal(5, product.getPriceInUsd());
+        statement.setBoolean(6, product.isAvailable());
+    }
+}
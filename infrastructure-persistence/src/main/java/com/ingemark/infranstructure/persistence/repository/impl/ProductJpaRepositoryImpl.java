@@ -3,71 +3,102 @@ package com.ingemark.infranstructure.persistence.repository.impl;
 import com.ingemark.infranstructure.persistence.entity.ProductEntity;
 import com.ingemark.infranstructure.persistence.mapper.ProductMapper;
 import com.ingemark.domain.model.Product;
-import com.ingemark.domain.pagination.PaginatedResult;
-import com.ingemark.domain.pagination.PaginationRequest;
 import com.ingemark.application.repository.ProductRepository;
 import com.ingemark.infranstructure.persistence.repository.ProductDataJpaRepository;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import jakarta.persistence.EntityManager;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class ProductJpaRepositoryImpl implements ProductRepository {
 
     private final ProductDataJpaRepository jpaRepository;
     private final ProductMapper productMapper;
-
-    public ProductJpaRepositoryImpl(ProductDataJpaRepository jpaRepository, ProductMapper productMapper) {
+    private final ProductCountCache productCountCache;
+    private final EntityManager entityManager;
+    private final ProductBulkWriter productBulkWriter;
+    private final ProductInsertWriter productInsertWriter;
+    private final ProductCodeIndex productCodeIndex;
+
+    public ProductJpaRepositoryImpl(ProductDataJpaRepository jpaRepository, ProductMapper productMapper,
+                                    ProductCountCache productCountCache, EntityManager entityManager,
+                                    ProductBulkWriter productBulkWriter, ProductInsertWriter productInsertWriter,
+                                    ProductCodeIndex productCodeIndex) {
         this.jpaRepository = jpaRepository;
         this.productMapper = productMapper;
+        this.productCountCache = productCountCache;
+        this.entityManager = entityManager;
+        this.productBulkWriter = productBulkWriter;
+        this.productInsertWriter = productInsertWriter;
+        this.productCodeIndex = productCodeIndex;
     }
 
     @Override
     public Product save(Product product) {
         ProductEntity productEntity = productMapper.mapToProductEntity(product);
         ProductEntity savedProductEntity = jpaRepository.save(productEntity);
+        productCountCache.add(1);
+        productCodeIndex.add(savedProductEntity.getCode());
 
         return productMapper.mapToProductDomain(savedProductEntity);
     }
 
     @Override
-    public Optional<Product> findById(Long id) {
-        Optional<ProductEntity> productEntity = jpaRepository.findById(id);
-
-        return productEntity.map(productMapper::mapToProductDomain);
-
+    @Transactional
+    public Optional<Product> insertIfCodeAbsent(Product product) {
+        Optional<Product> insertedProduct = productInsertWriter.insertIfCodeAbsent(product);
+        insertedProduct.ifPresent(inserted -> productCountCache.add(1));
+        // The code exists afterwards either way, a conflict means some other writer inserted it
+        productCodeIndex.add(product.getCode());
+
+        return insertedProduct;
     }
 
     @Override
-    public Optional<Product> findByCode(String code) {
-        Optional<ProductEntity> productEntity = jpaRepository.findByCode(code);
-
-        return productEntity.map(productMapper::mapToProductDomain);
+    public void bulkInsert(List<Product> products) {
+        productBulkWriter.insertAll(products);
+        productCountCache.add(products.size());
+        products.forEach(product -> productCodeIndex.add(product.getCode()));
     }
 
-
     @Override
-    public PaginatedResult<Product> findAllProducts(PaginationRequest paginationRequest) {
-        Page<ProductEntity> productEntities = jpaRepository.findAll(buildPageableObject(paginationRequest));
-        List<Product> products = productEntities.map(productMapper::mapToProductDomain).getContent();
-
-        return new PaginatedResult<>(products, productEntities.getTotalElements(), productEntities.getTotalPages());
+    @Transactional(readOnly = true)
+    public void forEachProduct(Consumer<Product> consumer) {
+        try (Stream<ProductEntity> productEntities = jpaRepository.streamAllOrderedById()) {
+            productEntities.forEach(productEntity -> {
+                consumer.accept(productMapper.mapToProductDomain(productEntity));
+                entityManager.detach(productEntity);
+            });
+        }
     }
 
     @Override
     public boolean isCodeAlreadyExists(String code) {
-        return jpaRepository.existsByCode(code);
+        if (productCodeIndex.isDefinitelyAbsent(code)) {
+            return false;
+        }
+
+        boolean exists = jpaRepository.existsByCode(code);
+        if (!exists) {
+            productCodeIndex.recordFalsePositives(1);
+        }
+        return exists;
     }
 
-    private Pageable buildPageableObject(PaginationRequest paginationRequest) {
-        return PageRequest.of(
-                paginationRequest.getPage(),
-                paginationRequest.getSize(),
-                Sort.by(Sort.Direction.fromString(paginationRequest.getSortDirection()), paginationRequest.getSortBy()));
+    @Override
+    public Set<String> findExistingCodes(Collection<String> codes) {
+        if (codes.isEmpty()) {
+            return Set.of();
+        }
+
+        return new HashSet<>(productCodeIndex.findAllByCodes(codes, jpaRepository::findExistingCodes));
     }
 }
@@ -0,0 +1,227 @@
+package com.ingemark.infranstructure.persistence.repository.impl;
+
+import com.ingemark.application.repository.ProductQueryRepository;
+import com.ingemark.domain.model.ProductVersion;
+import com.ingemark.domain.model.ProductView;
+import com.ingemark.domain.pagination.PaginatedResult;
+import com.ingemark.domain.pagination.PaginationRequest;
+import com.ingemark.domain.pagination.ProductFilter;
+import com.ingemark.domain.pagination.ProductSearchRequest;
+import com.ingemark.domain.pagination.ProductSortField;
+import com.ingemark.infranstructure.persistence.entity.ProductEntity;
+import com.ingemark.infranstructure.persistence.pagination.ProductCursor;
+import com.ingemark.infranstructure.persistence.pagination.ProductFilters;
+import com.ingemark.infranstructure.persistence.repository.ProductDataJpaRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+// Reads select the columns straight into immutable views, so no managed entities or dirty-checking snapshots are created
+@Service
+@Transactional(readOnly = true)
+public class ProductQueryJpaRepositoryImpl implements ProductQueryRepository {
+
+    private final ProductDataJpaRepository jpaRepository;
+    private final ProductCountCache productCountCache;
+    private final EntityManager entityManager;
+    private final ProductCodeIndex productCodeIndex;
+
+    public ProductQueryJpaRepositoryImpl(ProductDataJpaRepository jpaRepository, ProductCountCache productCountCache,
+                                         EntityManager entityManager, ProductCodeIndex productCodeIndex) {
+        this.jpaRepository = jpaRepository;
+        this.productCountCache = productCountCache;
+        this.entityManager = entityManager;
+        this.productCodeIndex = productCodeIndex;
+    }
+
+    @Override
+    public Optional<ProductView> findViewById(Long id) {
+        return jpaRepository.findViewById(id);
+    }
+
+    @Override
+    public Optional<ProductView> findViewByCode(String code) {
+        return productCodeIndex.isServingReads()
+                ? productCodeIndex.findByCode(code, jpaRepository::findViewByCode)
+                : jpaRepository.findViewByCode(code);
+    }
+
+    @Override
+    public List<ProductView> findViewsByIds(Collection<Long> ids) {
+        return ids.isEmpty() ? List.of() : jpaRepository.findViewsByIds(ids);
+    }
+
+    @Override
+    public List<ProductView> findViewsByCodes(Collection<String> codes) {
+        if (codes.isEmpty()) {
+            return List.of();
+        }
+
+        return productCodeIndex.isServingReads()
+                ? productCodeIndex.findAllByCodes(codes, jpaRepository::findViewsByCodes)
+                : jpaRepository.findViewsByCodes(codes);
+    }
+
+    @Override
+    public Optional<ProductVersion> findVersionById(Long id) {
+        return jpaRepository.findVersionById(id);
+    }
+
+    @Override
+    public Optional<ProductVersion> findVersionByCode(String code) {
+        return productCodeIndex.isServingReads()
+                ? productCodeIndex.findByCode(code, jpaRepository::findVersionByCode)
+                : jpaRepository.findVersionByCode(code);
+    }
+
+    @Override
+    public PaginatedResult<ProductView> findAllViews(PaginationRequest paginationRequest) {
+        if (paginationRequest.isCursorMode() || !paginationRequest.getFilter().isEmpty()) {
+            return findAllViewsWithCriteria(paginationRequest);
+        }
+
+        Sort sort = ProductCursor.keysetSort(paginationRequest.getSortBy(),
+                Sort.Direction.fromString(paginationRequest.getSortDirection()));
+        Slice<ProductView> views = jpaRepository.findAllViewsBy(
+                PageRequest.of(paginationRequest.getPage(), paginationRequest.getSize(), sort));
+
+        return buildPaginatedResult(views.getContent(), views.hasNext(), null, paginationRequest);
+    }
+
+    // Postgres ranks by trigram similarity, other databases fall back to exact/prefix/contains ordering
+    @Override
+    public PaginatedResult<ProductView> searchViews(ProductSearchRequest searchRequest) {
+        String query = searchRequest.getQuery();
+        String escapedQuery = escapeLikePattern(query);
+        Pageable pageable = PageRequest.of(searchRequest.getPage(), searchRequest.getSize());
+
+        Slice<ProductView> views = isPostgres()
+                ? jpaRepository.searchViewsBySimilarity(query, "%" + escapedQuery + "%", escapedQuery + "%", pageable)
+                : jpaRepository.searchViewsByPattern(query, "%" + escapedQuery + "%", escapedQuery + "%", escapedQuery + "%", pageable);
+
+        return PaginatedResult.withUnknownTotal(views.getContent(), views.hasNext(), null);
+    }
+
+    // Filters and the cursor seek share one WHERE clause, so filtered pages are served by the filter indexes
+    private PaginatedResult<ProductView> findAllViewsWithCriteria(PaginationRequest paginationRequest) {
+        String sortBy = paginationRequest.getSortBy();
+        Sort.Direction direction = Sort.Direction.fromString(paginationRequest.getSortDirection());
+        int size = paginationRequest.getSize();
+
+        Specification<ProductEntity> filterSpecification = ProductFilters.toSpecification(paginationRequest.getFilter());
+        Sort sort = ProductCursor.keysetSort(sortBy, direction);
+        List<ProductView> views;
+        if (paginationRequest.isCursorMode()) {
+            Optional<ProductCursor> cursor = ProductCursor.decode(paginationRequest.getCursor(), sortBy, direction);
+
+            views = new ArrayList<>(queryViews(cursor.map(ProductCursor::toSeekSpecification)
+                    .map(filterSpecification::and)
+                    .orElse(filterSpecification), sort, 0, size + 1));
+            Optional<Specification<ProductEntity>> nextSegment = cursor
+                    .flatMap(productCursor -> productCursor.toNextSegmentSpecification(nullsLast(direction)));
+            if (views.size() <= size && nextSegment.isPresent()) {
+                views.addAll(queryViews(filterSpecification.and(nextSegment.get()), sort, 0, size + 1 - views.size()));
+            }
+        } else {
+            views = queryViews(filterSpecification, sort, paginationRequest.getPage() * size, size + 1);
+        }
+
+        boolean hasNext = views.size() > size;
+        List<ProductView> pageViews = hasNext ? views.subList(0, size) : views;
+        String nextCursor = null;
+        if (hasNext && paginationRequest.isCursorMode()) {
+            ProductView lastView = pageViews.get(size - 1);
+            nextCursor = ProductCursor.of(lastView.id(), sortValue(lastView, sortBy), sortBy, direction).encode();
+        }
+
+        return buildPaginatedResult(pageViews, hasNext, nextCursor, paginationRequest);
+    }
+
+    private List<ProductView> queryViews(Specification<ProductEntity> specification, Sort sort, int firstResult, int maxResults) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ProductView> query = criteriaBuilder.createQuery(ProductView.class);
+        Root<ProductEntity> root = query.from(ProductEntity.class);
+
+        query.select(criteriaBuilder.construct(ProductView.class, root.get("id"), root.get("code"), root.get("name"),
+                root.get("priceInEur"), root.get("priceInUsd"), root.get("available"), root.get("version"),
+                root.get("updatedAt")));
+        query.where(specification.toPredicate(root, query, criteriaBuilder));
+        query.orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+
+        return entityManager.createQuery(query)
+                .setFirstResult(firstResult)
+                .setMaxResults(maxResults)
+                .getResultList();
+    }
+
+    private PaginatedResult<ProductView> buildPaginatedResult(List<ProductView> views, boolean hasNext, String nextCursor,
+                                                              PaginationRequest paginationRequest) {
+        if (!paginationRequest.isIncludeTotal()) {
+            return PaginatedResult.withUnknownTotal(views, hasNext, nextCursor);
+        }
+
+        long totalElements = countViews(paginationRequest.getFilter());
+        int totalPages = (int) Math.ceil((double) totalElements / paginationRequest.getSize());
+
+        return new PaginatedResult<>(views, totalElements, totalPages, hasNext, nextCursor);
+    }
+
+    // Only the unfiltered total is cached, filtered totals are counted through the filter indexes
+    private long countViews(ProductFilter filter) {
+        return filter.isEmpty()
+                ? productCountCache.getTotal(jpaRepository::count)
+                : jpaRepository.count(ProductFilters.toSpecification(filter));
+    }
+
+    private boolean isPostgres() {
+        return dialect() instanceof PostgreSQLDialect;
+    }
+
+    // Ordering keeps the database's native null placement so it matches the sort indexes, the null segment follows it
+    private boolean nullsLast(Sort.Direction direction) {
+        return switch (dialect().getNullOrdering()) {
+            case GREATEST -> direction.isAscending();
+            case SMALLEST -> direction.isDescending();
+            case FIRST -> false;
+            case LAST -> true;
+        };
+    }
+
+    private Dialect dialect() {
+        return entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect();
+    }
+
+    private static String escapeLikePattern(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private static Object sortValue(ProductView view, String sortBy) {
+        return switch (ProductSortField.fromProperty(sortBy)) {
+            case ID -> view.id();
+            case CODE -> view.code();
+            case NAME -> view.name();
+            case PRICE_IN_EUR -> view.priceInEur();
+            case PRICE_IN_USD -> view.priceInUsd();
+        };
+    }
+}
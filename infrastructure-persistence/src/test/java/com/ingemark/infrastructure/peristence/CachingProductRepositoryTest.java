@@ -0,0 +1,221 @@
+package com.ingemark.infrastructure.peristence;
+
+import com.ingemark.application.repository.ProductQueryRepository;
+import com.ingemark.application.repository.ProductRepository;
+import com.ingemark.domain.model.Product;
+import com.ingemark.domain.model.ProductVersion;
+import com.ingemark.domain.model.ProductView;
+import com.ingemark.infranstructure.persistence.cache.CachingProductRepository;
+import com.ingemark.infranstructure.persistence.config.ProductCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CachingProductRepositoryTest {
+
+    private ProductRepository delegate;
+    private ProductQueryRepository queryDelegate;
+    private CachingProductRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(ProductRepository.class);
+        queryDelegate = mock(ProductQueryRepository.class);
+        repository = new CachingProductRepository(delegate, queryDelegate, new ProductCacheProperties());
+    }
+
+    @Test
+    void findViewById_viewAlreadyLoaded_databaseIsQueriedOnce() {
+        //given
+        when(queryDelegate.findViewById(1L)).thenReturn(Optional.of(createProductView()));
+
+        //when
+        repository.findViewById(1L);
+        Optional<ProductView> result = repository.findViewById(1L);
+
+        //then
+        assertTrue(result.isPresent());
+        verify(queryDelegate, times(1)).findViewById(1L);
+        assertEquals(1, repository.getViewIdCacheStats().hitCount());
+        assertEquals(1, repository.getViewIdCacheStats().missCount());
+    }
+
+    @Test
+    void insertIfCodeAbsent_productWasInserted_cacheEntryIsInvalidated() {
+        //given
+        Product product = createProduct();
+        when(queryDelegate.findViewByCode("PROD000001")).thenReturn(Optional.of(createProductView()));
+        when(delegate.insertIfCodeAbsent(product)).thenReturn(Optional.of(product));
+        repository.findViewByCode("PROD000001");
+
+        //when
+        repository.insertIfCodeAbsent(product);
+        repository.findViewByCode("PROD000001");
+
+        //then
+        verify(queryDelegate, times(2)).findViewByCode("PROD000001");
+    }
+
+    @Test
+    void insertIfCodeAbsent_codeIsTaken_cacheEntryIsKept() {
+        //given
+        Product product = createProduct();
+        when(queryDelegate.findViewByCode("PROD000001")).thenReturn(Optional.of(createProductView()));
+        when(delegate.insertIfCodeAbsent(product)).thenReturn(Optional.empty());
+        repository.findViewByCode("PROD000001");
+
+        //when
+        repository.insertIfCodeAbsent(product);
+        repository.findViewByCode("PROD000001");
+
+        //then
+        verify(queryDelegate, times(1)).findViewByCode("PROD000001");
+    }
+
+    @Test
+    void findViewById_productDoesNotExist_missIsNotCached() {
+        //given
+        when(queryDelegate.findViewById(1L)).thenReturn(Optional.empty());
+
+        //when
+        repository.findViewById(1L);
+        Optional<ProductView> result = repository.findViewById(1L);
+
+        //then
+        assertTrue(result.isEmpty());
+        verify(queryDelegate, times(2)).findViewById(1L);
+    }
+
+    @Test
+    void findViewById_concurrentMissesForSameId_databaseIsQueriedOnce() throws Exception {
+        //given
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        when(queryDelegate.findViewById(1L)).thenAnswer(invocation -> {
+            loadStarted.countDown();
+            releaseLoad.await(5, TimeUnit.SECONDS);
+            return Optional.of(createProductView());
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            //when
+            List<Future<Optional<ProductView>>> results = new ArrayList<>();
+            results.add(executor.submit(() -> repository.findViewById(1L)));
+            assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 3; i++) {
+                results.add(executor.submit(() -> repository.findViewById(1L)));
+            }
+            releaseLoad.countDown();
+
+            //then
+            for (Future<Optional<ProductView>> result : results) {
+                assertTrue(result.get(5, TimeUnit.SECONDS).isPresent());
+            }
+            verify(queryDelegate, times(1)).findViewById(1L);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void findViewByCode_viewLoadedById_servedFromCacheAsSameInstance() {
+        //given
+        ProductView view = createProductView();
+        when(queryDelegate.findViewById(1L)).thenReturn(Optional.of(view));
+
+        //when
+        repository.findViewById(1L);
+        Optional<ProductView> result = repository.findViewByCode("PROD000001");
+
+        //then
+        assertSame(view, result.orElseThrow());
+        verify(queryDelegate, never()).findViewByCode(any());
+    }
+
+    @Test
+    void save_viewWasCached_viewIsReloaded() {
+        //given
+        Product product = createProduct();
+        when(queryDelegate.findViewById(1L)).thenReturn(Optional.of(createProductView()));
+        when(delegate.save(product)).thenReturn(product);
+        repository.findViewById(1L);
+
+        //when
+        repository.save(product);
+        repository.findViewById(1L);
+
+        //then
+        verify(queryDelegate, times(2)).findViewById(1L);
+    }
+
+    @Test
+    void findVersionById_viewIsCached_versionIsTakenFromCachedView() {
+        //given
+        when(queryDelegate.findViewById(1L)).thenReturn(Optional.of(createProductView()));
+        repository.findViewById(1L);
+
+        //when
+        ProductVersion result = repository.findVersionById(1L).orElseThrow();
+
+        //then
+        assertEquals(3L, result.version());
+        verify(queryDelegate, never()).findVersionById(any());
+    }
+
+    @Test
+    void findVersionById_viewIsNotCached_versionIsLoadedWithoutFullView() {
+        //given
+        ProductVersion version = new ProductVersion(1L, 3L, Instant.parse("2025-06-01T10:00:00Z"));
+        when(queryDelegate.findVersionById(1L)).thenReturn(Optional.of(version));
+
+        //when
+        Optional<ProductVersion> result = repository.findVersionById(1L);
+
+        //then
+        assertEquals(version, result.orElseThrow());
+        verify(queryDelegate, never()).findViewById(any());
+    }
+
+    @Test
+    void findViewsByIds_someViewsCached_onlyUncachedIdsAreQueried() {
+        //given
+        ProductView cachedView = createProductView();
+        ProductView loadedView = new ProductView(2L, "PROD000002", "Other Product", BigDecimal.ONE, BigDecimal.ONE, true, 0L,
+                Instant.parse("2025-06-01T10:00:00Z"));
+        when(queryDelegate.findViewById(1L)).thenReturn(Optional.of(cachedView));
+        when(queryDelegate.findViewsByIds(List.of(2L, 3L))).thenReturn(List.of(loadedView));
+        repository.findViewById(1L);
+
+        //when
+        List<ProductView> result = repository.findViewsByIds(List.of(1L, 2L, 3L));
+
+        //then
+        assertEquals(2, result.size());
+        assertTrue(result.containsAll(List.of(cachedView, loadedView)));
+        assertSame(loadedView, repository.findViewByCode("PROD000002").orElseThrow());
+        verify(queryDelegate, never()).findViewByCode(any());
+    }
+
+    private ProductView createProductView() {
+        return new ProductView(1L, "PROD000001", "Test Product", BigDecimal.TEN, BigDecimal.valueOf(11), true, 3L,
+                Instant.parse("2025-06-01T10:00:00Z"));
+    }
+
+    private Product createProduct() {
+        return new Product(1L, "PROD000001", "Test Product", BigDecimal.TEN, BigDecimal.valueOf(11), true);
+    }
+}
@@ -0,0 +1,105 @@
+package com.ingemark.infrastructure.peristence;
+
+import com.ingemark.application.exchange.StoredExchangeRate;
+import com.ingemark.application.request.SupportedCurrency;
+import com.ingemark.infranstructure.persistence.entity.ExchangeRateEntity;
+import com.ingemark.infranstructure.persistence.repository.ExchangeRateDataJpaRepository;
+import com.ingemark.infranstructure.persistence.repository.impl.ExchangeRateHistoryJpaRepositoryImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(ExchangeRateHistoryJpaRepositoryImpl.class)
+class ExchangeRateHistoryJpaRepositoryImplTest {
+
+    @Autowired
+    private ExchangeRateHistoryJpaRepositoryImpl repository;
+
+    @Autowired
+    private ExchangeRateDataJpaRepository jpaRepository;
+
+    @Test
+    void save_sameCurrencyAndDateSavedTwice_rowIsOverwritten() {
+        //given
+        repository.save(rate(SupportedCurrency.USD, "2025-06-09", "1.14"));
+
+        //when
+        repository.save(rate(SupportedCurrency.USD, "2025-06-09", "1.15"));
+
+        //then
+        assertEquals(1, jpaRepository.count());
+        assertEquals(new BigDecimal("1.15"), repository.findLatest(SupportedCurrency.USD).orElseThrow().rate().stripTrailingZeros());
+    }
+
+    @Test
+    void findLatest_severalDatesStored_mostRecentRateDateIsReturned() {
+        //given
+        repository.save(rate(SupportedCurrency.USD, "2025-06-06", "1.12"));
+        repository.save(rate(SupportedCurrency.USD, "2025-06-09", "1.14"));
+        repository.save(rate(SupportedCurrency.GBP, "2025-06-10", "0.84"));
+
+        //when
+        StoredExchangeRate latest = repository.findLatest(SupportedCurrency.USD).orElseThrow();
+
+        //then
+        assertEquals(LocalDate.parse("2025-06-09"), latest.rateDate());
+        assertTrue(repository.findLatest(SupportedCurrency.EUR).isEmpty());
+    }
+
+    @Test
+    void compactOlderThan_dailyRowsBeforeCutoff_lastRowOfEachMonthIsKept() {
+        //given
+        seedHistory();
+
+        //when
+        int compacted = repository.compactOlderThan(LocalDate.parse("2025-03-01"));
+
+        //then
+        assertEquals(2, compacted);
+        assertEquals(List.of("2024-06-01", "2025-01-31", "2025-02-14", "2025-03-20"), storedDates());
+    }
+
+    @Test
+    void deleteOlderThan_rowsBeforeCutoff_latestRateOfEachCurrencyIsKept() {
+        //given
+        seedHistory();
+
+        //when
+        int deleted = repository.deleteOlderThan(LocalDate.parse("2025-02-20"));
+
+        //then
+        assertEquals(4, deleted);
+        assertEquals(List.of("2024-06-01", "2025-03-20"), storedDates());
+    }
+
+    private void seedHistory() {
+        repository.save(rate(SupportedCurrency.GBP, "2024-06-01", "0.85"));
+        repository.save(rate(SupportedCurrency.USD, "2025-01-03", "1.03"));
+        repository.save(rate(SupportedCurrency.USD, "2025-01-17", "1.02"));
+        repository.save(rate(SupportedCurrency.USD, "2025-01-31", "1.04"));
+        repository.save(rate(SupportedCurrency.USD, "2025-02-14", "1.05"));
+        repository.save(rate(SupportedCurrency.USD, "2025-03-20", "1.08"));
+    }
+
+    private List<String> storedDates() {
+        return jpaRepository.findAll()
+                .stream()
+                .map(entity -> entity.getId().getRateDate())
+                .sorted()
+                .map(LocalDate::toString)
+                .toList();
+    }
+
+    private static StoredExchangeRate rate(SupportedCurrency currency, String rateDate, String rate) {
+        return new StoredExchangeRate(currency, LocalDate.parse(rateDate), new BigDecimal(rate), Instant.parse(rateDate + "T10:00:00Z"));
+    }
+}
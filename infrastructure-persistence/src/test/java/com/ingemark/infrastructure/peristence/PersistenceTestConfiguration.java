@@ -0,0 +1,9 @@
+package com.ingemark.infrastructure.peristence;
+
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+
+@SpringBootConfiguration
+@AutoConfigurationPackage(basePackages = "com.ingemark.infranstructure.persistence")
+public class PersistenceTestConfiguration {
+}
@@ -0,0 +1,43 @@
+package com.ingemark.infrastructure.peristence;
+
+import com.ingemark.application.repository.ProductQueryRepository;
+import com.ingemark.application.repository.ProductRepository;
+import com.ingemark.domain.model.ProductView;
+import com.ingemark.infranstructure.persistence.cache.CachingProductRepository;
+import com.ingemark.infranstructure.persistence.config.ProductCacheProperties;
+import com.ingemark.infranstructure.persistence.metrics.ProductCacheMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ProductCacheMetricsTest {
+
+    @Test
+    void bindTo_viewLoadedAndServedFromCache_hitsMissesAndSizeArePublished() {
+        //given
+        ProductQueryRepository queryDelegate = mock(ProductQueryRepository.class);
+        CachingProductRepository repository = new CachingProductRepository(mock(ProductRepository.class), queryDelegate,
+                new ProductCacheProperties());
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        new ProductCacheMetrics(repository).bindTo(meterRegistry);
+
+        when(queryDelegate.findViewById(1L)).thenReturn(Optional.of(new ProductView(1L, "PROD000001", "Test Product",
+                BigDecimal.TEN, BigDecimal.valueOf(11), true, 3L, Instant.parse("2025-06-01T10:00:00Z"))));
+
+        //when
+        repository.findViewById(1L);
+        repository.findViewById(1L);
+
+        //then
+        assertEquals(1.0, meterRegistry.get("product.cache.requests").tags("key", "id", "result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("product.cache.requests").tags("key", "id", "result", "miss").functionCounter().count());
+        assertEquals(0.0, meterRegistry.get("product.cache.requests").tags("key", "code", "result", "hit").functionCounter().count());
+        assertEquals(2.0, meterRegistry.get("product.cache.size").gauge().value());
+    }
+}
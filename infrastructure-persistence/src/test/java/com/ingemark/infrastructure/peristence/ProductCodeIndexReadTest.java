@@ -0,0 +1,92 @@
+package com.ingemark.infrastructure.peristence;
+
+import com.ingemark.domain.model.ProductView;
+import com.ingemark.infranstructure.persistence.config.ProductCodeIndexProperties;
+import com.ingemark.infranstructure.persistence.config.ProductPaginationProperties;
+import com.ingemark.infranstructure.persistence.entity.ProductEntity;
+import com.ingemark.infranstructure.persistence.repository.ProductDataJpaRepository;
+import com.ingemark.infranstructure.persistence.repository.impl.ProductCodeIndex;
+import com.ingemark.infranstructure.persistence.repository.impl.ProductCountCache;
+import com.ingemark.infranstructure.persistence.repository.impl.ProductQueryJpaRepositoryImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "products.code-index.expected-codes=1000",
+        "products.code-index.serve-reads=true",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.ingemark.infrastructure.peristence.RecordingStatementInspector"})
+@Import({ProductQueryJpaRepositoryImpl.class, ProductCountCache.class, ProductPaginationProperties.class,
+        ProductCodeIndex.class, ProductCodeIndexProperties.class})
+class ProductCodeIndexReadTest {
+
+    @Autowired
+    private ProductQueryJpaRepositoryImpl repository;
+
+    @Autowired
+    private ProductDataJpaRepository jpaRepository;
+
+    @Autowired
+    private ProductCodeIndex productCodeIndex;
+
+    @BeforeEach
+    void seed() {
+        jpaRepository.saveAndFlush(createEntity("IDX0000001"));
+        productCodeIndex.add("IDX0000001");
+        productCodeIndex.markReady();
+        RecordingStatementInspector.clear();
+    }
+
+    @Test
+    void findViewByCode_unknownCode_databaseIsNotQueried() {
+        //when
+        Optional<ProductView> result = repository.findViewByCode("UNKNOWN001");
+
+        //then
+        assertTrue(result.isEmpty());
+        assertTrue(RecordingStatementInspector.statements().isEmpty());
+    }
+
+    @Test
+    void findViewByCode_knownCode_productIsReadFromDatabase() {
+        //when
+        Optional<ProductView> result = repository.findViewByCode("IDX0000001");
+
+        //then
+        assertEquals("IDX0000001", result.orElseThrow().code());
+        assertEquals(1, RecordingStatementInspector.statements().size());
+    }
+
+    @Test
+    void findViewsByCodes_onlyUnknownCodes_databaseIsNotQueried() {
+        //given
+        long absentLookups = productCodeIndex.getAbsentLookups();
+
+        //when
+        List<ProductView> result = repository.findViewsByCodes(List.of("UNKNOWN001", "UNKNOWN002"));
+
+        //then
+        assertTrue(result.isEmpty());
+        assertTrue(RecordingStatementInspector.statements().isEmpty());
+        assertEquals(absentLookups + 2, productCodeIndex.getAbsentLookups());
+    }
+
+    private static ProductEntity createEntity(String code) {
+        ProductEntity entity = new ProductEntity();
+        entity.setCode(code);
+        entity.setName("Product " + code);
+        entity.setPriceInEur(new BigDecimal("10"));
+        entity.setPriceInUsd(new BigDecimal("11"));
+        entity.setAvailable(true);
+        return entity;
+    }
+}
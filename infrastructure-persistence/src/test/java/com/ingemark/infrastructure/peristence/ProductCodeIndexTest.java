@@ -0,0 +1,130 @@
+package com.ingemark.infrastructure.peristence;
+
+import com.ingemark.infranstructure.persistence.config.ProductCodeIndexProperties;
+import com.ingemark.infranstructure.persistence.repository.impl.ProductCodeIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductCodeIndexTest {
+
+    @Test
+    void isDefinitelyAbsent_indexIsNotLoadedYet_everyCodeMayExist() {
+        //given
+        ProductCodeIndex index = createIndex(true);
+
+        //when
+        boolean absent = index.isDefinitelyAbsent("UNKNOWN001");
+
+        //then
+        assertFalse(absent);
+        assertEquals(0, index.getAbsentLookups());
+    }
+
+    @Test
+    void isDefinitelyAbsent_indexIsLoaded_onlyUnknownCodesAreAbsent() {
+        //given
+        ProductCodeIndex index = createIndex(true);
+        index.add("PROD000001");
+        index.markReady();
+
+        //when
+        boolean knownAbsent = index.isDefinitelyAbsent("PROD000001");
+        boolean unknownAbsent = index.isDefinitelyAbsent("UNKNOWN001");
+
+        //then
+        assertFalse(knownAbsent);
+        assertTrue(unknownAbsent);
+        assertEquals(1, index.getAbsentLookups());
+        assertEquals(1, index.getMaybePresentLookups());
+    }
+
+    @Test
+    void findAllByCodes_maybePresentCodeIsNotInDatabase_falsePositiveIsRecorded() {
+        //given
+        ProductCodeIndex index = createIndex(true);
+        index.add("PROD000001");
+        index.markReady();
+
+        //when
+        List<String> result = index.findAllByCodes(List.of("PROD000001"), codes -> List.of());
+
+        //then
+        assertTrue(result.isEmpty());
+        assertEquals(1, index.getFalsePositives());
+    }
+
+    @Test
+    void findAllByCodes_allCodesAreUnknown_queryIsSkipped() {
+        //given
+        ProductCodeIndex index = createIndex(true);
+        index.markReady();
+        List<List<String>> queriedCodes = new ArrayList<>();
+
+        //when
+        List<String> result = index.findAllByCodes(List.of("UNKNOWN001", "UNKNOWN002"), codes -> {
+            queriedCodes.add(codes);
+            return codes;
+        });
+
+        //then
+        assertTrue(result.isEmpty());
+        assertTrue(queriedCodes.isEmpty());
+    }
+
+    @Test
+    void markReady_indexIsDisabled_everyCodeMayExist() {
+        //given
+        ProductCodeIndex index = createIndex(false);
+        index.add("PROD000001");
+
+        //when
+        index.markReady();
+
+        //then
+        assertFalse(index.isReady());
+        assertFalse(index.isDefinitelyAbsent("UNKNOWN001"));
+        assertEquals(0, index.getSizeInBytes());
+    }
+
+    @Test
+    void isServingReads_flagNotSet_readsAreNotServedFromIndex() {
+        //given
+        ProductCodeIndexProperties properties = new ProductCodeIndexProperties();
+        properties.setExpectedCodes(1_000);
+        ProductCodeIndexProperties servingProperties = new ProductCodeIndexProperties();
+        servingProperties.setExpectedCodes(1_000);
+        servingProperties.setServeReads(true);
+
+        //when
+        boolean servingByDefault = new ProductCodeIndex(properties).isServingReads();
+        boolean servingWithFlag = new ProductCodeIndex(servingProperties).isServingReads();
+
+        //then
+        assertFalse(servingByDefault);
+        assertTrue(servingWithFlag);
+    }
+
+    @Test
+    void getSizeInBytes_sizedForTensOfMillionsOfCodes_staysWithinTensOfMegabytes() {
+        //given
+        ProductCodeIndexProperties properties = new ProductCodeIndexProperties();
+        properties.setExpectedCodes(50_000_000);
+
+        //when
+        long sizeInBytes = new ProductCodeIndex(properties).getSizeInBytes();
+
+        //then
+        assertTrue(sizeInBytes < 64L * 1024 * 1024, "Unexpected index size " + sizeInBytes);
+    }
+
+    private ProductCodeIndex createIndex(boolean enabled) {
+        ProductCodeIndexProperties properties = new ProductCodeIndexProperties();
+        properties.setEnabled(enabled);
+        properties.setExpectedCodes(1_000);
+        return new ProductCodeIndex(properties);
+    }
+}
@@ -0,0 +1,67 @@
+package com.ingemark.infrastructure.peristence;
+
+import com.ingemark.infranstructure.persistence.config.ProductPaginationProperties;
+import com.ingemark.infranstructure.persistence.repository.impl.ProductCountCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductCountCacheTest {
+
+    private ProductCountCache productCountCache;
+
+    @BeforeEach
+    void setUp() {
+        productCountCache = new ProductCountCache(new ProductPaginationProperties());
+        productCountCache.getTotal(() -> 10);
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void add_outsideTransaction_totalIsIncreasedImmediately() {
+        //when
+        productCountCache.add(2);
+
+        //then
+        assertEquals(12, productCountCache.getTotal(() -> 0));
+    }
+
+    @Test
+    void add_transactionCommits_totalIsIncreasedAfterCommit() {
+        //given
+        TransactionSynchronizationManager.initSynchronization();
+
+        //when
+        productCountCache.add(2);
+        long totalBeforeCommit = productCountCache.getTotal(() -> 0);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        //then
+        assertEquals(10, totalBeforeCommit);
+        assertEquals(12, productCountCache.getTotal(() -> 0));
+    }
+
+    @Test
+    void add_transactionRollsBack_totalIsUnchanged() {
+        //given
+        TransactionSynchronizationManager.initSynchronization();
+
+        //when
+        productCountCache.add(2);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        //then
+        assertEquals(10, productCountCache.getTotal(() -> 0));
+    }
+}
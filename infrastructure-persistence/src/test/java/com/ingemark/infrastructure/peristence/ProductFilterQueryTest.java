@@ -0,0 +1,93 @@
+package com.ingemark.infrastructure.peristence;
+
+import com.ingemark.domain.model.ProductView;
+import com.ingemark.domain.pagination.PaginatedResult;
+import com.ingemark.domain.pagination.PaginationRequest;
+import com.ingemark.domain.pagination.ProductFilter;
+import com.ingemark.infranstructure.persistence.config.ProductCodeIndexProperties;
+import com.ingemark.infranstructure.persistence.config.ProductPaginationProperties;
+import com.ingemark.infranstructure.persistence.entity.ProductEntity;
+import com.ingemark.infranstructure.persistence.repository.ProductDataJpaRepository;
+import com.ingemark.infranstructure.persistence.repository.impl.ProductCodeIndex;
+import com.ingemark.infranstructure.persistence.repository.impl.ProductCountCache;
+import com.ingemark.infranstructure.persistence.repository.impl.ProductQueryJpaRepositoryImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "products.code-index.expected-codes=1000")
+@Import({ProductQueryJpaRepositoryImpl.class, ProductCountCache.class, ProductPaginationProperties.class,
+        ProductCodeIndex.class, ProductCodeIndexProperties.class})
+class ProductFilterQueryTest {
+
+    @Autowired
+    private ProductQueryJpaRepositoryImpl repository;
+
+    @Autowired
+    private ProductDataJpaRepository jpaRepository;
+
+    @BeforeEach
+    void seed() {
+        jpaRepository.saveAll(List.of(
+                createEntity("FLT0000001", "5", true),
+                createEntity("FLT0000002", "15", true),
+                createEntity("FLT0000003", "20", false),
+                createEntity("FLT0000004", "25", true),
+                createEntity("FLT0000005", "30", true),
+                createEntity("FLT0000006", "45", true)));
+        jpaRepository.flush();
+    }
+
+    @Test
+    void findAllViews_availabilityAndEurRange_onlyMatchingProductsAreCounted() {
+        //given
+        ProductFilter filter = new ProductFilter(true, new BigDecimal("10"), new BigDecimal("30"), null, null);
+
+        //when
+        PaginatedResult<ProductView> result = repository.findAllViews(
+                new PaginationRequest(0, 2, "priceInEur", "ASC", null, true, filter));
+
+        //then
+        assertEquals(List.of("FLT0000002", "FLT0000004"), codes(result));
+        assertEquals(3L, result.getTotalElements());
+        assertTrue(result.isHasNext());
+    }
+
+    @Test
+    void findAllViews_filteredCursorPages_followingPageContinuesWithinFilter() {
+        //given
+        ProductFilter filter = new ProductFilter(true, null, null, null, null);
+        PaginatedResult<ProductView> firstPage = repository.findAllViews(
+                new PaginationRequest(0, 3, "priceInEur", "DESC", "", false, filter));
+
+        //when
+        PaginatedResult<ProductView> secondPage = repository.findAllViews(
+                new PaginationRequest(0, 3, "priceInEur", "DESC", firstPage.getNextCursor(), false, filter));
+
+        //then
+        assertEquals(List.of("FLT0000006", "FLT0000005", "FLT0000004"), codes(firstPage));
+        assertEquals(List.of("FLT0000002", "FLT0000001"), codes(secondPage));
+        assertFalse(secondPage.isHasNext());
+    }
+
+    private static List<String> codes(PaginatedResult<ProductView> result) {
+        return result.getItems().stream().map(ProductView::code).toList();
+    }
+
+    private static ProductEntity createEntity(String code, String priceInEur, boolean available) {
+        ProductEntity entity = new ProductEntity();
+        entity.setCode(code);
+        entity.setName("Product " + code);
+        entity.setPriceInEur(new BigDecimal(priceInEur));
+        entity.setPriceInUsd(new BigDecimal(priceInEur).multiply(BigDecimal.valueOf(1.1)));
+        entity.setAvailable(available);
+        return entity;
+    }
+}
@@ -0,0 +1,98 @@
+package com.ingemark.infrastructure.peristence;
+
+import com.ingemark.domain.model.Product;
+import com.ingemark.infranstructure.persistence.repository.ProductDataJpaRepository;
+import com.ingemark.infranstructure.persistence.repository.impl.ProductInsertWriter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import(ProductInsertWriter.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductInsertWriterTest {
+    private static final int CONCURRENT_INSERTS = 8;
+    private static final int ROUNDS = 25;
+
+    @Autowired
+    private ProductInsertWriter productInsertWriter;
+
+    @Autowired
+    private ProductDataJpaRepository jpaRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void insertIfCodeAbsent_codeIsAlreadyTaken_emptyIsReturned() {
+        //given
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.execute(status -> productInsertWriter.insertIfCodeAbsent(createProduct("TAKEN00001", "First")));
+
+        //when
+        Optional<Product> result = transactionTemplate.execute(status ->
+                productInsertWriter.insertIfCodeAbsent(createProduct("TAKEN00001", "Second")));
+
+        //then
+        assertTrue(result.isEmpty());
+        assertEquals("First", jpaRepository.findByCode("TAKEN00001").orElseThrow().getName());
+    }
+
+    @Test
+    void insertIfCodeAbsent_sameCodeInsertedConcurrently_exactlyOneInsertWins() throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_INSERTS);
+
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                //given
+                String code = "RACE%06d".formatted(round);
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<Optional<Product>>> futures = new ArrayList<>();
+
+                for (int i = 0; i < CONCURRENT_INSERTS; i++) {
+                    String name = "Racer " + i;
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        return transactionTemplate.execute(status ->
+                                productInsertWriter.insertIfCodeAbsent(createProduct(code, name)));
+                    }));
+                }
+
+                //when
+                start.countDown();
+                List<Product> insertedProducts = new ArrayList<>();
+                for (Future<Optional<Product>> future : futures) {
+                    future.get(30, TimeUnit.SECONDS).ifPresent(insertedProducts::add);
+                }
+
+                //then
+                assertEquals(1, insertedProducts.size(), "Exactly one insert should win for " + code);
+                assertEquals(insertedProducts.get(0).getId(), jpaRepository.findByCode(code).orElseThrow().getId());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Product createProduct(String code, String name) {
+        return new Product(null, code, name, BigDecimal.TEN, BigDecimal.valueOf(11), true);
+    }
+}
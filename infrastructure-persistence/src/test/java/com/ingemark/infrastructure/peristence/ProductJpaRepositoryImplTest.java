@@ -1,19 +1,24 @@
 package com.ingemark.infrastructure.peristence;
 
 import com.ingemark.domain.model.Product;
-import com.ingemark.domain.pagination.PaginatedResult;
-import com.ingemark.domain.pagination.PaginationRequest;
+import com.ingemark.infranstructure.persistence.config.ProductCodeIndexProperties;
+import com.ingemark.infranstructure.persistence.config.ProductPaginationProperties;
 import com.ingemark.infranstructure.persistence.entity.ProductEntity;
 import com.ingemark.infranstructure.persistence.mapper.ProductMapper;
 import com.ingemark.infranstructure.persistence.repository.ProductDataJpaRepository;
+import com.ingemark.infranstructure.persistence.repository.impl.ProductBulkWriter;
+import com.ingemark.infranstructure.persistence.repository.impl.ProductCodeIndex;
+import com.ingemark.infranstructure.persistence.repository.impl.ProductCountCache;
+import com.ingemark.infranstructure.persistence.repository.impl.ProductInsertWriter;
 import com.ingemark.infranstructure.persistence.repository.impl.ProductJpaRepositoryImpl;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
-import org.springframework.data.domain.*;
 
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -26,6 +31,21 @@ public class ProductJpaRepositoryImplTest {
     @Mock
     private ProductMapper productMapper;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ProductBulkWriter productBulkWriter;
+
+    @Mock
+    private ProductInsertWriter productInsertWriter;
+
+    @Spy
+    private ProductCodeIndex productCodeIndex = createCodeIndex();
+
+    @Spy
+    private ProductCountCache productCountCache = new ProductCountCache(new ProductPaginationProperties());
+
     @InjectMocks
     private ProductJpaRepositoryImpl repository;
 
@@ -48,31 +68,53 @@ public class ProductJpaRepositoryImplTest {
     }
 
     @Test
-    void findById_shouldReturnMappedDomain_flowIsCorrectly() {
+    void bulkInsert_shouldDelegateToBulkWriter() {
+        //when
+        repository.bulkInsert(List.of(domain));
+
+        //then
+        verify(productBulkWriter).insertAll(List.of(domain));
+        verify(productDataJpaRepository, never()).save(any());
+    }
+
+    @Test
+    void insertIfCodeAbsent_codeIsTaken_emptyIsReturnedWithoutJpaSave() {
         //given
-        when(productDataJpaRepository.findById(1L)).thenReturn(Optional.of(entity));
-        when(productMapper.mapToProductDomain(entity)).thenReturn(domain);
+        when(productInsertWriter.insertIfCodeAbsent(domain)).thenReturn(Optional.empty());
 
         //when
-        Optional<Product> result = repository.findById(1L);
+        Optional<Product> result = repository.insertIfCodeAbsent(domain);
 
         //then
-        assertTrue(result.isPresent());
-        assertEquals(domain, result.get());
+        assertTrue(result.isEmpty());
+        verify(productDataJpaRepository, never()).save(any());
+        verify(productCountCache, never()).add(anyLong());
     }
 
     @Test
-    void findByCode_shouldReturnMappedDomain_flowIsCorrectly() {
+    void findExistingCodes_indexIsLoaded_onlyMaybePresentCodesAreQueried() {
         //given
-        when(productDataJpaRepository.findByCode("P001736244")).thenReturn(Optional.of(entity));
-        when(productMapper.mapToProductDomain(entity)).thenReturn(domain);
+        productCodeIndex.add("P001736244");
+        productCodeIndex.markReady();
+        when(productDataJpaRepository.findExistingCodes(List.of("P001736244"))).thenReturn(List.of("P001736244"));
+
+        //when
+        Set<String> existingCodes = repository.findExistingCodes(List.of("P001736244", "UNKNOWN001"));
+
+        //then
+        assertEquals(Set.of("P001736244"), existingCodes);
+    }
+
+    @Test
+    void findExistingCodes_shouldQueryAllCodesAtOnce() {
+        //given
+        when(productDataJpaRepository.findExistingCodes(List.of("P001736244", "P001736245"))).thenReturn(List.of("P001736244"));
 
         //when
-        Optional<Product> result = repository.findByCode("P001736244");
+        Set<String> existingCodes = repository.findExistingCodes(List.of("P001736244", "P001736245"));
 
         //then
-        assertTrue(result.isPresent());
-        assertEquals(domain, result.get());
+        assertEquals(Set.of("P001736244"), existingCodes);
     }
 
     @Test
@@ -88,25 +130,18 @@ public class ProductJpaRepositoryImplTest {
     }
 
     @Test
-    void findAllProducts_shouldReturnPaginatedDomainObjects() {
+    void forEachProduct_streamsMappedProductsAndDetachesEntities() {
         //given
-        PaginationRequest paginationRequest = new PaginationRequest(0, 10, "code", "ASC");
-        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "code"));
-
-        List<ProductEntity> entityList = List.of(entity);
-        Page<ProductEntity> page = new PageImpl<>(entityList, pageable, 1);
-
-        when(productDataJpaRepository.findAll(any(Pageable.class))).thenReturn(page);
+        when(productDataJpaRepository.streamAllOrderedById()).thenReturn(Stream.of(entity));
         when(productMapper.mapToProductDomain(entity)).thenReturn(domain);
+        List<Product> exported = new ArrayList<>();
 
         //when
-        PaginatedResult<Product> result = repository.findAllProducts(paginationRequest);
+        repository.forEachProduct(exported::add);
 
         //then
-        assertEquals(1, result.getTotalElements());
-        assertEquals(1, result.getTotalPages());
-        assertEquals(1, result.getItems().size());
-        assertEquals(domain, result.getItems().getFirst());
+        assertEquals(List.of(domain), exported);
+        verify(entityManager).detach(entity);
     }
 
     private ProductEntity createEntity() {
@@ -130,4 +165,10 @@ public class ProductJpaRepositoryImplTest {
                 true
         );
     }
+
+    private static ProductCodeIndex createCodeIndex() {
+        ProductCodeIndexProperties properties = new ProductCodeIndexProperties();
+        properties.setExpectedCodes(1_000);
+        return new ProductCodeIndex(properties);
+    }
 }
@@ -0,0 +1,171 @@
+package com.ingemark.infrastructure.peristence;
+
+import com.ingemark.domain.model.ProductView;
+import com.ingemark.domain.pagination.PaginatedResult;
+import com.ingemark.domain.pagination.PaginationRequest;
+import com.ingemark.infranstructure.persistence.config.ProductCodeIndexProperties;
+import com.ingemark.infranstructure.persistence.config.ProductPaginationProperties;
+import com.ingemark.infranstructure.persistence.entity.ProductEntity;
+import com.ingemark.infranstructure.persistence.pagination.ProductCursor;
+import com.ingemark.infranstructure.persistence.repository.ProductDataJpaRepository;
+import com.ingemark.infranstructure.persistence.repository.impl.ProductCodeIndex;
+import com.ingemark.infranstructure.persistence.repository.impl.ProductCountCache;
+import com.ingemark.infranstructure.persistence.repository.impl.ProductQueryJpaRepositoryImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "products.code-index.expected-codes=1000")
+@Import({ProductQueryJpaRepositoryImpl.class, ProductCountCache.class, ProductPaginationProperties.class,
+        ProductCodeIndex.class, ProductCodeIndexProperties.class})
+class ProductQueryJpaRepositoryImplTest {
+
+    @Autowired
+    private ProductQueryJpaRepositoryImpl repository;
+
+    @Autowired
+    private ProductDataJpaRepository jpaRepository;
+
+    @BeforeEach
+    void seed() {
+        jpaRepository.saveAll(List.of(
+                createEntity("PAG0000001", "10"),
+                createEntity("PAG0000002", "20"),
+                createEntity("PAG0000003", "30")));
+        jpaRepository.flush();
+    }
+
+    @Test
+    void findAllViews_offsetPageWithTotal_pageAndTotalsAreReturned() {
+        //when
+        PaginatedResult<ProductView> result = repository.findAllViews(new PaginationRequest(0, 2, "code", "ASC"));
+
+        //then
+        assertEquals(List.of("PAG0000001", "PAG0000002"), codes(result));
+        assertEquals(3L, result.getTotalElements());
+        assertEquals(2, result.getTotalPages());
+        assertTrue(result.isHasNext());
+    }
+
+    @Test
+    void findAllViews_withoutTotal_totalIsUnknown() {
+        //when
+        PaginatedResult<ProductView> result = repository.findAllViews(new PaginationRequest(0, 2, "code", "ASC", null, false));
+
+        //then
+        assertTrue(result.isHasNext());
+        assertFalse(result.isTotalKnown());
+        assertNull(result.getTotalElements());
+    }
+
+    @Test
+    void findAllViews_totalRequestedTwice_countIsServedFromCache() {
+        //given
+        repository.findAllViews(new PaginationRequest(0, 2, "code", "ASC"));
+        jpaRepository.saveAndFlush(createEntity("PAG0000004", "40"));
+
+        //when
+        PaginatedResult<ProductView> result = repository.findAllViews(new PaginationRequest(0, 2, "code", "ASC"));
+
+        //then
+        assertEquals(3L, result.getTotalElements());
+    }
+
+    @Test
+    void findAllViews_cursorModeWithMoreRows_returnsPageAndNextCursor() {
+        //when
+        PaginatedResult<ProductView> result = repository.findAllViews(new PaginationRequest(0, 2, "code", "ASC", ""));
+
+        //then
+        assertEquals(List.of("PAG0000001", "PAG0000002"), codes(result));
+        ProductCursor nextCursor = ProductCursor.decode(result.getNextCursor(), "code", Sort.Direction.ASC).orElseThrow();
+        assertEquals(result.getItems().getLast().id(), nextCursor.id());
+        assertEquals("PAG0000002", nextCursor.value());
+    }
+
+    @Test
+    void findAllViews_cursorModeOnLastPage_returnsNoNextCursor() {
+        //given
+        PaginatedResult<ProductView> firstPage = repository.findAllViews(new PaginationRequest(0, 2, "code", "ASC", ""));
+
+        //when
+        PaginatedResult<ProductView> result = repository.findAllViews(
+                new PaginationRequest(0, 2, "code", "ASC", firstPage.getNextCursor()));
+
+        //then
+        assertEquals(List.of("PAG0000003"), codes(result));
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void findAllViews_cursorForDifferentSort_isRejected() {
+        //given
+        String cursor = new ProductCursor("name", Sort.Direction.ASC, 1L, "Test Product").encode();
+        PaginationRequest paginationRequest = new PaginationRequest(0, 10, "code", "ASC", cursor);
+
+        //when/then
+        assertThrows(IllegalArgumentException.class, () -> repository.findAllViews(paginationRequest));
+    }
+
+    @Test
+    void findAllViews_cursorModeOverNullPrices_everyRowIsReturnedOnce() {
+        //given
+        ProductEntity withoutPrice = createEntity("PAG0000004", "0");
+        withoutPrice.setPriceInEur(null);
+        ProductEntity secondWithoutPrice = createEntity("PAG0000005", "0");
+        secondWithoutPrice.setPriceInEur(null);
+        jpaRepository.saveAllAndFlush(List.of(withoutPrice, secondWithoutPrice));
+
+        for (String direction : List.of("ASC", "DESC")) {
+            //when
+            List<String> codes = new ArrayList<>();
+            String cursor = "";
+            while (cursor != null) {
+                PaginatedResult<ProductView> page = repository.findAllViews(
+                        new PaginationRequest(0, 2, "priceInEur", direction, cursor));
+                codes.addAll(codes(page));
+                cursor = page.getNextCursor();
+            }
+
+            //then
+            assertEquals(List.of("PAG0000001", "PAG0000002", "PAG0000003", "PAG0000004", "PAG0000005"),
+                    codes.stream().sorted().toList());
+        }
+    }
+
+    @Test
+    void findAllViews_cursorTakenOnNullValue_roundTripsWithoutValue() {
+        //given
+        String encoded = ProductCursor.of(7L, null, "priceInEur", Sort.Direction.ASC).encode();
+
+        //when
+        ProductCursor cursor = ProductCursor.decode(encoded, "priceInEur", Sort.Direction.ASC).orElseThrow();
+
+        //then
+        assertEquals(7L, cursor.id());
+        assertNull(cursor.value());
+    }
+
+    private static List<String> codes(PaginatedResult<ProductView> result) {
+        return result.getItems().stream().map(ProductView::code).toList();
+    }
+
+    private static ProductEntity createEntity(String code, String priceInEur) {
+        ProductEntity entity = new ProductEntity();
+        entity.setCode(code);
+        entity.setName("Product " + code);
+        entity.setPriceInEur(new BigDecimal(priceInEur));
+        entity.setPriceInUsd(new BigDecimal(priceInEur).multiply(BigDecimal.valueOf(1.1)));
+        entity.setAvailable(true);
+        return entity;
+    }
+}
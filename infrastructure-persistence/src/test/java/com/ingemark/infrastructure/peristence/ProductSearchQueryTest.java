@@ -0,0 +1,91 @@
+package com.ingemark.infrastructure.peristence;
+
+import com.ingemark.domain.model.ProductView;
+import com.ingemark.domain.pagination.PaginatedResult;
+import com.ingemark.domain.pagination.ProductSearchRequest;
+import com.ingemark.infranstructure.persistence.config.ProductCodeIndexProperties;
+import com.ingemark.infranstructure.persistence.config.ProductPaginationProperties;
+import com.ingemark.infranstructure.persistence.entity.ProductEntity;
+import com.ingemark.infranstructure.persistence.repository.ProductDataJpaRepository;
+import com.ingemark.infranstructure.persistence.repository.impl.ProductCodeIndex;
+import com.ingemark.infranstructure.persistence.repository.impl.ProductCountCache;
+import com.ingemark.infranstructure.persistence.repository.impl.ProductQueryJpaRepositoryImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "products.code-index.expected-codes=1000")
+@Import({ProductQueryJpaRepositoryImpl.class, ProductCountCache.class, ProductPaginationProperties.class,
+        ProductCodeIndex.class, ProductCodeIndexProperties.class})
+class ProductSearchQueryTest {
+
+    @Autowired
+    private ProductQueryJpaRepositoryImpl repository;
+
+    @Autowired
+    private ProductDataJpaRepository jpaRepository;
+
+    @BeforeEach
+    void seed() {
+        jpaRepository.saveAll(List.of(
+                createEntity("DEC0000001", "Decaf Espresso"),
+                createEntity("TEA0000001", "Green Tea"),
+                createEntity("BEA0000001", "Espresso Beans"),
+                createEntity("ESPRESSO01", "Grinder"),
+                createEntity("ESP0000002", "espresso"),
+                createEntity("MUG0000001", "50% Off Mug"),
+                createEntity("CUP0000001", "500 Paper Cups")));
+        jpaRepository.flush();
+    }
+
+    @Test
+    void searchViews_queryMatchesCodesAndNames_codePrefixFirstThenExactPrefixAndContainedNames() {
+        //when
+        PaginatedResult<ProductView> result = repository.searchViews(new ProductSearchRequest("Espresso", 0, 10));
+
+        //then
+        assertEquals(List.of("Grinder", "espresso", "Espresso Beans", "Decaf Espresso"), names(result));
+        assertFalse(result.isHasNext());
+        assertFalse(result.isTotalKnown());
+    }
+
+    @Test
+    void searchViews_moreMatchesThanPageSize_hasNextIsReported() {
+        //when
+        PaginatedResult<ProductView> result = repository.searchViews(new ProductSearchRequest("esp", 0, 2));
+
+        //then
+        assertEquals(2, result.getItems().size());
+        assertTrue(result.isHasNext());
+    }
+
+    @Test
+    void searchViews_queryContainsLikeWildcard_wildcardIsMatchedLiterally() {
+        //when
+        PaginatedResult<ProductView> result = repository.searchViews(new ProductSearchRequest("50%", 0, 10));
+
+        //then
+        assertEquals(List.of("50% Off Mug"), names(result));
+    }
+
+    private static List<String> names(PaginatedResult<ProductView> result) {
+        return result.getItems().stream().map(ProductView::name).toList();
+    }
+
+    private static ProductEntity createEntity(String code, String name) {
+        ProductEntity entity = new ProductEntity();
+        entity.setCode(code);
+        entity.setName(name);
+        entity.setPriceInEur(BigDecimal.TEN);
+        entity.setPriceInUsd(BigDecimal.valueOf(11));
+        entity.setAvailable(true);
+        return entity;
+    }
+}
@@ -0,0 +1,101 @@
+package com.ingemark.infrastructure.peristence;
+
+import com.ingemark.domain.pagination.ProductFilter;
+import com.ingemark.domain.pagination.ProductSortField;
+import com.ingemark.infranstructure.persistence.config.ProductCodeIndexProperties;
+import com.ingemark.infranstructure.persistence.config.ProductPaginationProperties;
+import com.ingemark.infranstructure.persistence.repository.impl.ProductCodeIndex;
+import com.ingemark.infranstructure.persistence.repository.impl.ProductCountCache;
+import com.ingemark.infranstructure.persistence.repository.impl.ProductQueryJpaRepositoryImpl;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs against a real database with ./gradlew :infrastructure-persistence:test -PplanPostgresUrl=jdbc:postgresql://...
+@DataJpaTest
+@Import({ProductQueryJpaRepositoryImpl.class, ProductCountCache.class, ProductPaginationProperties.class,
+        ProductCodeIndex.class, ProductCodeIndexProperties.class})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = "spring.datasource.url=${plan.postgres.url}")
+@EnabledIfSystemProperty(named = "plan.postgres.url", matches = ".+")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductSortQueryPlanPostgresTest extends ProductSortQueryPlanTestSupport {
+    private static final Pattern SORT_NODE = Pattern.compile("(?m)^\\s*(->\\s+)?(Incremental )?Sort\\s");
+
+    @ParameterizedTest
+    @MethodSource("sortCases")
+    void firstPage_sortableField_noSequentialScanOrSort(ProductSortField field, Sort.Direction direction) {
+        //when
+        String plan = explainFirstPage(field, direction);
+
+        //then
+        assertIndexOrderedPlan(plan);
+    }
+
+    @ParameterizedTest
+    @MethodSource("sortCases")
+    void seekPage_sortableField_noSequentialScanOrSort(ProductSortField field, Sort.Direction direction) {
+        //when
+        String plan = explainSeekPage(field, direction);
+
+        //then
+        assertIndexOrderedPlan(plan);
+    }
+
+    @ParameterizedTest
+    @MethodSource("filterCases")
+    void filteredPage_availabilityAndPriceRange_noSequentialScan(ProductFilter filter, ProductSortField field, Sort.Direction direction) {
+        //when
+        String plan = explainFilteredPage(filter, field, direction);
+
+        //then
+        assertFalse(plan.contains("Seq Scan"), plan);
+    }
+
+    @Override
+    protected String seriesSql(int rows) {
+        return "SELECT n FROM generate_series(1, " + rows + ") AS n";
+    }
+
+    @Override
+    protected void analyze(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("ANALYZE product");
+    }
+
+    private static void assertIndexOrderedPlan(String plan) {
+        assertFalse(plan.contains("Seq Scan"), plan);
+        assertFalse(SORT_NODE.matcher(plan).find(), plan);
+    }
+
+    private static Stream<Arguments> sortCases() {
+        return Arrays.stream(ProductSortField.values())
+                .flatMap(field -> Stream.of(Sort.Direction.values()).map(direction -> Arguments.of(field, direction)));
+    }
+
+    private static Stream<Arguments> filterCases() {
+        BigDecimal from = BigDecimal.valueOf(100);
+        BigDecimal to = BigDecimal.valueOf(110);
+
+        return Stream.of(Sort.Direction.values()).flatMap(direction -> Stream.of(
+                Arguments.of(new ProductFilter(true, null, null, null, null), ProductSortField.ID, direction),
+                Arguments.of(new ProductFilter(true, from, to, null, null), ProductSortField.ID, direction),
+                Arguments.of(new ProductFilter(true, from, to, null, null), ProductSortField.PRICE_IN_EUR, direction),
+                Arguments.of(new ProductFilter(null, null, null, from, to), ProductSortField.PRICE_IN_USD, direction)));
+    }
+}
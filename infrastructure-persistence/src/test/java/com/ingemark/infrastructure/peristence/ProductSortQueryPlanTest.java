@@ -0,0 +1,78 @@
+package com.ingemark.infrastructure.peristence;
+
+import com.ingemark.domain.pagination.ProductFilter;
+import com.ingemark.domain.pagination.ProductSortField;
+import com.ingemark.infranstructure.persistence.config.ProductCodeIndexProperties;
+import com.ingemark.infranstructure.persistence.config.ProductPaginationProperties;
+import com.ingemark.infranstructure.persistence.repository.impl.ProductCodeIndex;
+import com.ingemark.infranstructure.persistence.repository.impl.ProductCountCache;
+import com.ingemark.infranstructure.persistence.repository.impl.ProductQueryJpaRepositoryImpl;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// H2 reports "index sorted" when the ORDER BY is served by an index instead of sorting the rows afterwards.
+// H2 only reads indexes forwards, descending plans are covered by ProductSortQueryPlanPostgresTest
+@DataJpaTest
+@Import({ProductQueryJpaRepositoryImpl.class, ProductCountCache.class, ProductPaginationProperties.class,
+        ProductCodeIndex.class, ProductCodeIndexProperties.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductSortQueryPlanTest extends ProductSortQueryPlanTestSupport {
+
+    @ParameterizedTest
+    @EnumSource(ProductSortField.class)
+    void firstPage_sortableField_rowsAreReadInIndexOrder(ProductSortField field) {
+        //when
+        String plan = explainFirstPage(field, Sort.Direction.ASC);
+
+        //then
+        assertTrue(plan.contains("index sorted"), plan);
+    }
+
+    @ParameterizedTest
+    @EnumSource(ProductSortField.class)
+    void seekPage_sortableField_rowsAreReadInIndexOrder(ProductSortField field) {
+        //when
+        String plan = explainSeekPage(field, Sort.Direction.ASC);
+
+        //then
+        assertTrue(plan.contains("index sorted"), plan);
+    }
+
+    @ParameterizedTest
+    @MethodSource("filterCases")
+    void filteredPage_availabilityAndPriceRange_rowsAreReadThroughAnIndex(ProductFilter filter, ProductSortField field) {
+        //when
+        String plan = explainFilteredPage(filter, field, Sort.Direction.ASC);
+
+        //then
+        assertFalse(plan.contains("tableScan"), plan);
+    }
+
+    @Override
+    protected String seriesSql(int rows) {
+        return "SELECT X AS n FROM SYSTEM_RANGE(1, " + rows + ")";
+    }
+
+    private static Stream<Arguments> filterCases() {
+        BigDecimal from = BigDecimal.valueOf(100);
+        BigDecimal to = BigDecimal.valueOf(110);
+
+        return Stream.of(
+                Arguments.of(new ProductFilter(true, from, to, null, null), ProductSortField.ID),
+                Arguments.of(new ProductFilter(true, from, to, null, null), ProductSortField.PRICE_IN_EUR),
+                Arguments.of(new ProductFilter(null, from, to, null, null), ProductSortField.NAME),
+                Arguments.of(new ProductFilter(null, null, null, from, to), ProductSortField.PRICE_IN_USD));
+    }
+}
@@ -0,0 +1,106 @@
+package com.ingemark.infrastructure.peristence;
+
+import com.ingemark.domain.pagination.PaginationRequest;
+import com.ingemark.domain.pagination.ProductFilter;
+import com.ingemark.domain.pagination.ProductSortField;
+import com.ingemark.infranstructure.persistence.pagination.ProductCursor;
+import com.ingemark.infranstructure.persistence.repository.impl.ProductQueryJpaRepositoryImpl;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+// Seeds a large product table inside a transaction that is always rolled back, lets the repository load a first page,
+// a filtered page and a cursor page, and explains the statements Hibernate actually issued for them.
+// Criteria values are inlined so the recorded SQL carries them, only offset and limit stay bound
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.ingemark.infrastructure.peristence.RecordingStatementInspector",
+        "spring.jpa.properties.hibernate.criteria.value_handling_mode=inline"})
+abstract class ProductSortQueryPlanTestSupport {
+    protected static final int SEEDED_ROWS = 50_000;
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ProductQueryJpaRepositoryImpl repository;
+
+    protected abstract String seriesSql(int rows);
+
+    protected void analyze(JdbcTemplate jdbcTemplate) {
+    }
+
+    protected String explainFirstPage(ProductSortField field, Sort.Direction direction) {
+        return inSeededTransaction(jdbcTemplate -> () -> repository.findAllViews(
+                new PaginationRequest(0, PAGE_SIZE, field.getProperty(), direction.name(), null, false)));
+    }
+
+    protected String explainFilteredPage(ProductFilter filter, ProductSortField field, Sort.Direction direction) {
+        return inSeededTransaction(jdbcTemplate -> () -> repository.findAllViews(
+                new PaginationRequest(0, PAGE_SIZE, field.getProperty(), direction.name(), null, false, filter)));
+    }
+
+    protected String explainSeekPage(ProductSortField field, Sort.Direction direction) {
+        return inSeededTransaction(jdbcTemplate -> {
+            String orderBy = field.isUnique()
+                    ? field.getColumn() + " " + direction.name()
+                    : field.getColumn() + " " + direction.name() + ", id " + direction.name();
+            String cursor = jdbcTemplate.queryForObject(
+                    "SELECT " + field.getColumn() + ", id FROM product ORDER BY " + orderBy
+                            + " OFFSET " + SEEDED_ROWS / 2 + " ROWS FETCH NEXT 1 ROWS ONLY",
+                    (resultSet, rowNum) -> ProductCursor.of(resultSet.getLong(2), resultSet.getObject(1),
+                            field.getProperty(), direction).encode());
+
+            return () -> repository.findAllViews(
+                    new PaginationRequest(0, PAGE_SIZE, field.getProperty(), direction.name(), cursor, false));
+        });
+    }
+
+    private String inSeededTransaction(Function<JdbcTemplate, Supplier<?>> pageLoad) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            status.setRollbackOnly();
+            jdbcTemplate.update("INSERT INTO product (id, code, name, price_in_eur, price_in_usd, is_available) "
+                    + "SELECT 9000000000 + n, 'Q' || LPAD(CAST(n AS VARCHAR(9)), 9, '0'), "
+                    + "'Product ' || CAST(MOD(n * 7919, 10007) AS VARCHAR(9)), "
+                    + "CAST(MOD(n * 31, 100000) / 100.0 AS NUMERIC(10,2)), "
+                    + "CAST(MOD(n * 37, 110000) / 100.0 AS NUMERIC(10,2)), "
+                    + "MOD(n, 2) = 0 "
+                    + "FROM (" + seriesSql(SEEDED_ROWS) + ") series");
+            analyze(jdbcTemplate);
+
+            Supplier<?> load = pageLoad.apply(jdbcTemplate);
+            RecordingStatementInspector.clear();
+            load.get();
+
+            return explain(jdbcTemplate, RecordingStatementInspector.statements().getLast());
+        });
+    }
+
+    // The remaining placeholders are the offset (always 0 here) followed by the limit of one row past the page
+    private static String explain(JdbcTemplate jdbcTemplate, String sql) {
+        int placeholders = (int) sql.chars().filter(character -> character == '?').count();
+        Object[] arguments = IntStream.range(0, placeholders)
+                .mapToObj(index -> index == placeholders - 1 ? PAGE_SIZE + 1 : 0)
+                .toArray();
+
+        List<String> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, arguments);
+
+        return "-- " + sql + "\n" + plan.stream().collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,37 @@
+tasks.getByName<org.springframework.boot.gradle.tasks.bundling.BootJar>("bootJar") {
+    enabled = false
+}
+
+tasks.getByName<Jar>("jar") {
+    enabled = true
+}
+
+tasks.register<JavaExec>("loadTest") {
+    group = "verification"
+    description = "Runs the load test, pass options with -PloadTestArgs=\"--rate=200 --duration=60s\""
+    mainClass.set("com.ingemark.loadtest.LoadTestApplication")
+    classpath = sourceSets["main"].runtimeClasspath
+    workingDir = projectDir
+    args((project.findProperty("loadTestArgs") as String? ?: "").split(" ").filter { it.isNotBlank() })
+}
+
+// Platform vs virtual threads on the H2 profile with a slow HNB stub, extra options are appended
+tasks.register<JavaExec>("loadTestThreads") {
+    group = "verification"
+    description = "Compares platform and virtual threads under blocking HNB calls"
+    mainClass.set("com.ingemark.loadtest.LoadTestApplication")
+    classpath = sourceSets["main"].runtimeClasspath
+    workingDir = projectDir
+    args(listOf("--compare-threads=true", "--hnb-latency=300ms", "--rate=500", "--mix=create:60,get:40")
+            + (project.findProperty("loadTestArgs") as String? ?: "").split(" ").filter { it.isNotBlank() })
+}
+
+dependencies {
+    implementation(project(":productsmgmtapp"))
+
+    implementation("org.springframework.boot:spring-boot-starter")
+    implementation("com.fasterxml.jackson.core:jackson-databind")
+    implementation("org.hdrhistogram:HdrHistogram")
+
+    runtimeOnly("com.h2database:h2")
+}
@@ -0,0 +1,136 @@
+package com.ingemark.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+public class ConstantRateLoadGenerator {
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(60);
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final String authorization;
+
+    public ConstantRateLoadGenerator(HttpClient httpClient, String baseUrl, String authorization) {
+        this.httpClient = httpClient;
+        this.baseUrl = baseUrl;
+        this.authorization = authorization;
+    }
+
+    public Run run(Workload workload, int rate, Duration duration) {
+        Run run = new Run();
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long totalRequests = duration.toSeconds() * rate;
+        long startNanos = System.nanoTime();
+
+        for (long i = 0; i < totalRequests; i++) {
+            long intendedStart = startNanos + i * intervalNanos;
+            long delay = intendedStart - System.nanoTime();
+            if (delay > 0) {
+                LockSupport.parkNanos(delay);
+            }
+            send(workload.next(), intendedStart, run);
+        }
+
+        run.awaitCompletion(DRAIN_TIMEOUT);
+        run.elapsedNanos = System.nanoTime() - startNanos;
+        return run;
+    }
+
+    private void send(RequestSpec spec, long intendedStart, Run run) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + spec.path()))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", authorization);
+        if (spec.body() != null) {
+            builder.header("Content-Type", spec.contentType())
+                    .method(spec.method(), HttpRequest.BodyPublishers.ofString(spec.body()));
+        } else {
+            builder.method(spec.method(), HttpRequest.BodyPublishers.noBody());
+        }
+
+        run.inFlight.incrementAndGet();
+        long actualStart = System.nanoTime();
+        httpClient.sendAsync(builder.build(), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, throwable) -> {
+                    long end = System.nanoTime();
+                    int status = throwable == null ? response.statusCode() : -1;
+                    run.record(spec.name(), status, end - intendedStart, end - actualStart);
+                    run.inFlight.decrementAndGet();
+                });
+    }
+
+    public static class Run {
+        // Latency is measured from the intended send time, so a stalled server is charged for the requests queued behind it
+        private final Histogram corrected = newHistogram();
+        private final Histogram uncorrected = newHistogram();
+        private final Map<String, Histogram> byName = new ConcurrentHashMap<>();
+        private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        private final LongAdder errors = new LongAdder();
+        private final AtomicLong inFlight = new AtomicLong();
+        private long elapsedNanos;
+
+        private void record(String name, int status, long correctedNanos, long uncorrectedNanos) {
+            long correctedMicros = Math.min(TimeUnit.NANOSECONDS.toMicros(correctedNanos), HIGHEST_TRACKABLE_MICROS);
+            corrected.recordValue(correctedMicros);
+            uncorrected.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(uncorrectedNanos), HIGHEST_TRACKABLE_MICROS));
+            byName.computeIfAbsent(name, key -> newHistogram()).recordValue(correctedMicros);
+
+            statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+            if (status < 0 || status >= 500) {
+                errors.increment();
+            }
+        }
+
+        private void awaitCompletion(Duration timeout) {
+            long deadline = System.nanoTime() + timeout.toNanos();
+            while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+            }
+        }
+
+        public Histogram getCorrected() {
+            return corrected;
+        }
+
+        public Histogram getUncorrected() {
+            return uncorrected;
+        }
+
+        public Map<String, Histogram> getByName() {
+            return byName;
+        }
+
+        public Map<Integer, LongAdder> getStatuses() {
+            return statuses;
+        }
+
+        public long getErrors() {
+            return errors.sum();
+        }
+
+        public long getUnfinished() {
+            return inFlight.get();
+        }
+
+        public Duration getElapsed() {
+            return Duration.ofNanos(elapsedNanos);
+        }
+
+        private static Histogram newHistogram() {
+            return new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.ingemark.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+public class HnbStubServer implements AutoCloseable {
+    private static final String RATES_PATH = "/tecajn-eur/v3";
+
+    private final HttpServer server;
+    private final Duration latency;
+    private final Duration jitter;
+    private final double errorRate;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder injectedErrors = new LongAdder();
+
+    public HnbStubServer(int port, Duration latency, Duration jitter, double errorRate) throws IOException {
+        this.latency = latency;
+        this.jitter = jitter;
+        this.errorRate = errorRate;
+
+        server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext(RATES_PATH, this::handle);
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    public long getInjectedErrors() {
+        return injectedErrors.sum();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.increment();
+        try {
+            sleep();
+
+            if (ThreadLocalRandom.current().nextDouble() < errorRate) {
+                injectedErrors.increment();
+                exchange.sendResponseHeaders(503, -1);
+                return;
+            }
+
+            // One row per valuta parameter, like the real API does for bulk requests
+            String query = exchange.getRequestURI().getQuery();
+            List<String> currencies = query == null ? List.of("USD") : Arrays.stream(query.split("&"))
+                    .filter(parameter -> parameter.startsWith("valuta="))
+                    .map(parameter -> parameter.substring("valuta=".length()))
+                    .toList();
+            byte[] body = currencies.stream()
+                    .map(currency -> "{\"valuta\":\"" + currency + "\",\"kupovni_tecaj\":\"1,158400\","
+                            + "\"prodajni_tecaj\":\"1,172400\",\"srednji_tecaj\":\"1,165400\"}")
+                    .collect(Collectors.joining(",", "[", "]"))
+                    .getBytes(StandardCharsets.UTF_8);
+
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void sleep() {
+        long jitterMillis = jitter.toMillis() > 0 ? ThreadLocalRandom.current().nextLong(jitter.toMillis() + 1) : 0;
+        try {
+            Thread.sleep(latency.toMillis() + jitterMillis);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
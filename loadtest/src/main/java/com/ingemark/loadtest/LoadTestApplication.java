@@ -0,0 +1,235 @@
+package com.ingemark.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.ingemark.productsmgmtapp.ProductsmgmtApplication;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+public class LoadTestApplication {
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestApplication.class);
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+        boolean passed;
+        try (HnbStubServer hnbStub = new HnbStubServer(options.getHnbStubPort(), options.getHnbLatency(),
+                options.getHnbJitter(), options.getHnbErrorRate())) {
+            hnbStub.start();
+            logger.info("HNB stub listening on {}", hnbStub.getBaseUrl());
+
+            passed = options.isCompareThreads() ? compareThreads(options, objectMapper, hnbStub)
+                    : runOnce(options, objectMapper, hnbStub);
+        }
+
+        System.exit(passed ? 0 : 1);
+    }
+
+    private static boolean runOnce(LoadTestOptions options, ObjectMapper objectMapper, HnbStubServer hnbStub) throws Exception {
+        ConfigurableApplicationContext application = options.getTarget() == null ? startApplication(options, hnbStub) : null;
+        try {
+            String baseUrl = options.getTarget() != null ? options.getTarget()
+                    : "http://localhost:" + ((WebServerApplicationContext) application).getWebServer().getPort();
+            boolean passed = run(options, objectMapper, baseUrl);
+            logger.info("HNB stub served {} requests, {} with injected errors", hnbStub.getRequests(), hnbStub.getInjectedErrors());
+            return passed;
+        } finally {
+            if (application != null) {
+                application.close();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(LoadTestOptions options, HnbStubServer hnbStub,
+                                                                   String... properties) {
+        logger.info("Starting the application with profile '{}'", options.getProfile());
+
+        List<String> applicationProperties = new ArrayList<>(List.of(
+                "server.port=0",
+                "exchange.hnb.base-url=" + hnbStub.getBaseUrl()));
+        applicationProperties.addAll(List.of(properties));
+
+        return new SpringApplicationBuilder(ProductsmgmtApplication.class)
+                .profiles(options.getProfile())
+                .properties(applicationProperties.toArray(String[]::new))
+                .run();
+    }
+
+    // Runs the workload against a fresh app on platform threads, then on virtual threads. The rate cache is bypassed
+    // and stored rates are not served, so every create waits on the HNB stub and blocking I/O dominates the request
+    private static boolean compareThreads(LoadTestOptions options, ObjectMapper objectMapper, HnbStubServer hnbStub) throws Exception {
+        Map<String, LoadTestResult> results = new LinkedHashMap<>();
+        List<String> violations = new ArrayList<>();
+
+        for (boolean virtualThreads : List.of(false, true)) {
+            String mode = virtualThreads ? "virtual" : "platform";
+            ConfigurableApplicationContext application = startApplication(options, hnbStub,
+                    "spring.threads.virtual.enabled=" + virtualThreads,
+                    "exchange.cache.time-to-live=0s",
+                    "exchange.history.offline=false");
+            try {
+                String baseUrl = "http://localhost:" + ((WebServerApplicationContext) application).getWebServer().getPort();
+                LoadTestResult result = runWorkload(options, objectMapper, baseUrl, "-" + mode);
+                violations.addAll(checkThresholds(options, objectMapper, result));
+                results.put(mode, result);
+            } finally {
+                application.close();
+            }
+        }
+
+        printComparison("platform threads", results.get("platform"), "virtual threads", results.get("virtual"));
+        Files.createDirectories(options.getComparisonsDir());
+        Path comparisonFile = options.getComparisonsDir().resolve("threads-comparison-"
+                + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json");
+        objectMapper.writeValue(comparisonFile.toFile(), results);
+        logger.info("Comparison written to {}", comparisonFile);
+        logger.info("HNB stub served {} requests, {} with injected errors", hnbStub.getRequests(), hnbStub.getInjectedErrors());
+
+        violations.forEach(violation -> logger.error("Threshold violated: {}", violation));
+        return violations.isEmpty();
+    }
+
+    private static boolean run(LoadTestOptions options, ObjectMapper objectMapper, String baseUrl) throws Exception {
+        LoadTestResult result = runWorkload(options, objectMapper, baseUrl, "");
+        List<String> violations = checkThresholds(options, objectMapper, result);
+
+        // The same workload against a second deployment, e.g. the reactive app next to the MVC one
+        if (options.getCompareTarget() != null) {
+            LoadTestResult compared = runWorkload(options, objectMapper, options.getCompareTarget(), "-compare");
+            violations.addAll(checkThresholds(options, objectMapper, compared));
+            printComparison(baseUrl, result, options.getCompareTarget(), compared);
+        }
+
+        violations.forEach(violation -> logger.error("Threshold violated: {}", violation));
+        return violations.isEmpty();
+    }
+
+    private static LoadTestResult runWorkload(LoadTestOptions options, ObjectMapper objectMapper, String baseUrl,
+                                              String resultSuffix) throws Exception {
+        String authorization = "Basic " + Base64.getEncoder()
+                .encodeToString((options.getUsername() + ":" + options.getPassword()).getBytes(StandardCharsets.UTF_8));
+        HttpClient httpClient = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        ProductCodes productCodes = new ProductCodes();
+        List<Long> productIds = seedProducts(httpClient, baseUrl, authorization, objectMapper, productCodes, options.getSeedProducts());
+
+        Workload workload;
+        String workloadName;
+        if (options.getReplayFile() != null) {
+            workload = new ReplayWorkload(ReplayWorkload.read(options.getReplayFile(), objectMapper), productIds, productCodes);
+            workloadName = "replay:" + options.getReplayFile().getFileName();
+        } else {
+            workload = new SyntheticWorkload(options.getMix(), productIds, productCodes);
+            workloadName = "synthetic:" + options.getMix();
+        }
+
+        ConstantRateLoadGenerator generator = new ConstantRateLoadGenerator(httpClient, baseUrl, authorization);
+        if (!options.getWarmup().isZero()) {
+            logger.info("Warming up for {} at {} req/s", options.getWarmup(), options.getRate());
+            generator.run(workload, options.getRate(), options.getWarmup());
+        }
+
+        logger.info("Running {} for {} at {} req/s against {}", workloadName, options.getDuration(), options.getRate(), baseUrl);
+        ConstantRateLoadGenerator.Run run = generator.run(workload, options.getRate(), options.getDuration());
+        if (run.getUnfinished() > 0) {
+            logger.warn("{} requests were still in flight when the run ended", run.getUnfinished());
+        }
+
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        LoadTestResult result = LoadTestResult.of(timestamp, workloadName, options.getRate(), run);
+        Path resultFile = writeResult(options.getResultsDir(), result, resultSuffix, objectMapper);
+        printSummary(result, resultFile);
+
+        return result;
+    }
+
+    private static List<String> checkThresholds(LoadTestOptions options, ObjectMapper objectMapper,
+                                                LoadTestResult result) throws IOException {
+        LoadTestResult baseline = options.getBaseline() == null ? null
+                : objectMapper.readValue(options.getBaseline().toFile(), LoadTestResult.class);
+
+        return new ThresholdCheck(options.getMaxP99Millis(), options.getMaxP999Millis(),
+                options.getMaxErrorRate(), options.getMaxRegression()).violations(result, baseline);
+    }
+
+    private static List<Long> seedProducts(HttpClient httpClient, String baseUrl, String authorization, ObjectMapper objectMapper,
+                                           ProductCodes productCodes, int count) throws IOException, InterruptedException {
+        List<Long> productIds = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/products"))
+                    .header("Authorization", authorization)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(SyntheticWorkload.createBody(productCodes.next())))
+                    .build();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 201) {
+                throw new IllegalStateException("Seeding products failed with status " + response.statusCode() + ": " + response.body());
+            }
+
+            JsonNode product = objectMapper.readTree(response.body());
+            productIds.add(product.get("id").asLong());
+        }
+
+        logger.info("Seeded {} products", productIds.size());
+        return productIds;
+    }
+
+    private static Path writeResult(Path resultsDir, LoadTestResult result, String suffix, ObjectMapper objectMapper) throws IOException {
+        Files.createDirectories(resultsDir);
+        Path resultFile = resultsDir.resolve("loadtest-" + result.timestamp() + suffix + ".json");
+        objectMapper.writeValue(resultFile.toFile(), result);
+        return resultFile;
+    }
+
+    private static void printSummary(LoadTestResult result, Path resultFile) {
+        LoadTestResult.Latency latency = result.latency();
+        LoadTestResult.Latency uncorrected = result.uncorrectedLatency();
+
+        logger.info("Requests: {}, achieved {} req/s (target {}), errors: {} ({}), statuses: {}", result.requests(),
+                String.format("%.1f", result.achievedRate()), result.targetRate(), result.errors(),
+                String.format("%.4f", result.errorRate()), result.statuses());
+        logger.info("Latency (ms, corrected)   p50={} p90={} p99={} p99.9={} max={}",
+                latency.p50(), latency.p90(), latency.p99(), latency.p999(), latency.max());
+        logger.info("Latency (ms, uncorrected) p50={} p90={} p99={} p99.9={} max={}",
+                uncorrected.p50(), uncorrected.p90(), uncorrected.p99(), uncorrected.p999(), uncorrected.max());
+        result.latencyByRequest().forEach((name, byRequest) ->
+                logger.info("  {}: p50={} p99={} p99.9={}", name, byRequest.p50(), byRequest.p99(), byRequest.p999()));
+        logger.info("Result written to {}", resultFile);
+    }
+
+    private static void printComparison(String baseUrl, LoadTestResult result, String compareUrl, LoadTestResult compared) {
+        LoadTestResult.Latency latency = result.latency();
+        LoadTestResult.Latency comparedLatency = compared.latency();
+
+        logger.info("Comparison {} vs {}", baseUrl, compareUrl);
+        logger.info("  achieved req/s {} vs {}", String.format("%.1f", result.achievedRate()), String.format("%.1f", compared.achievedRate()));
+        logger.info("  error rate     {} vs {}", String.format("%.4f", result.errorRate()), String.format("%.4f", compared.errorRate()));
+        logger.info("  p50 ms         {} vs {}", latency.p50(), comparedLatency.p50());
+        logger.info("  p99 ms         {} vs {}", latency.p99(), comparedLatency.p99());
+        logger.info("  p99.9 ms       {} vs {}", latency.p999(), comparedLatency.p999());
+    }
+}
@@ -0,0 +1,132 @@
+package com.ingemark.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+public class LoadTestOptions {
+
+    private final Map<String, String> values;
+
+    private LoadTestOptions(Map<String, String> values) {
+        this.values = values;
+    }
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Options are expected as --name=value, got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return new LoadTestOptions(values);
+    }
+
+    public String getTarget() {
+        return values.get("target");
+    }
+
+    public String getCompareTarget() {
+        return values.get("compare-target");
+    }
+
+    public boolean isCompareThreads() {
+        return Boolean.parseBoolean(values.getOrDefault("compare-threads", "false"));
+    }
+
+    public String getProfile() {
+        return values.getOrDefault("profile", "dev");
+    }
+
+    public Path getReplayFile() {
+        return values.containsKey("replay") ? Path.of(values.get("replay")) : null;
+    }
+
+    public String getMix() {
+        return values.getOrDefault("mix", "get:70,list:20,create:10");
+    }
+
+    public int getRate() {
+        return Integer.parseInt(values.getOrDefault("rate", "200"));
+    }
+
+    public Duration getDuration() {
+        return parseDuration(values.getOrDefault("duration", "60s"));
+    }
+
+    public Duration getWarmup() {
+        return parseDuration(values.getOrDefault("warmup", "10s"));
+    }
+
+    public int getSeedProducts() {
+        return Integer.parseInt(values.getOrDefault("seed-products", "200"));
+    }
+
+    public String getUsername() {
+        return values.getOrDefault("username", "admin");
+    }
+
+    public String getPassword() {
+        return values.getOrDefault("password", "admin123");
+    }
+
+    public int getHnbStubPort() {
+        return Integer.parseInt(values.getOrDefault("hnb-stub-port", "0"));
+    }
+
+    public Duration getHnbLatency() {
+        return parseDuration(values.getOrDefault("hnb-latency", "50ms"));
+    }
+
+    public Duration getHnbJitter() {
+        return parseDuration(values.getOrDefault("hnb-jitter", "0ms"));
+    }
+
+    public double getHnbErrorRate() {
+        return Double.parseDouble(values.getOrDefault("hnb-error-rate", "0"));
+    }
+
+    public Double getMaxP99Millis() {
+        return values.containsKey("max-p99-ms") ? Double.parseDouble(values.get("max-p99-ms")) : null;
+    }
+
+    public Double getMaxP999Millis() {
+        return values.containsKey("max-p999-ms") ? Double.parseDouble(values.get("max-p999-ms")) : null;
+    }
+
+    public double getMaxErrorRate() {
+        return Double.parseDouble(values.getOrDefault("max-error-rate", "0.01"));
+    }
+
+    public Path getBaseline() {
+        return values.containsKey("baseline") ? Path.of(values.get("baseline")) : null;
+    }
+
+    public double getMaxRegression() {
+        return Double.parseDouble(values.getOrDefault("max-regression", "0.10"));
+    }
+
+    public Path getResultsDir() {
+        return Path.of(values.getOrDefault("results-dir", "results"));
+    }
+
+    public Path getComparisonsDir() {
+        return Path.of(values.getOrDefault("comparisons-dir", "comparisons"));
+    }
+
+    static Duration parseDuration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.parse(value);
+    }
+}
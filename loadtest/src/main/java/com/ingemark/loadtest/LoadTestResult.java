@@ -0,0 +1,37 @@
+package com.ingemark.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+public record LoadTestResult(String timestamp, String workload, int targetRate, double achievedRate, long requests,
+                             long errors, double errorRate, Map<String, Long> statuses, Latency latency,
+                             Latency uncorrectedLatency, Map<String, Latency> latencyByRequest) {
+
+    public record Latency(double p50, double p90, double p99, double p999, double max) {
+
+        static Latency of(Histogram histogram) {
+            return new Latency(millis(histogram, 50.0), millis(histogram, 90.0), millis(histogram, 99.0),
+                    millis(histogram, 99.9), histogram.getMaxValue() / 1000.0);
+        }
+
+        private static double millis(Histogram histogram, double percentile) {
+            return histogram.getValueAtPercentile(percentile) / 1000.0;
+        }
+    }
+
+    public static LoadTestResult of(String timestamp, String workload, int targetRate, ConstantRateLoadGenerator.Run run) {
+        long requests = run.getCorrected().getTotalCount();
+        double seconds = run.getElapsed().toNanos() / 1e9;
+
+        Map<String, Long> statuses = new TreeMap<>();
+        run.getStatuses().forEach((status, count) -> statuses.put(status < 0 ? "io-error" : String.valueOf(status), count.sum()));
+        Map<String, Latency> latencyByRequest = new TreeMap<>();
+        run.getByName().forEach((name, histogram) -> latencyByRequest.put(name, Latency.of(histogram)));
+
+        return new LoadTestResult(timestamp, workload, targetRate, requests / seconds, requests, run.getErrors(),
+                requests == 0 ? 0 : (double) run.getErrors() / requests, statuses, Latency.of(run.getCorrected()),
+                Latency.of(run.getUncorrected()), latencyByRequest);
+    }
+}
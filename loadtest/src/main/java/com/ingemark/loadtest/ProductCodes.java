@@ -0,0 +1,21 @@
+package com.ingemark.loadtest;
+
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ProductCodes {
+
+    private final String runTag;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public ProductCodes() {
+        // Product codes are exactly 10 characters: a per-run tag keeps reruns against the same database apart
+        String random = Long.toString(ThreadLocalRandom.current().nextLong(36L * 36L), 36).toUpperCase(Locale.ROOT);
+        runTag = "L" + "0".repeat(2 - random.length()) + random;
+    }
+
+    public String next() {
+        return runTag + String.format("%07d", sequence.incrementAndGet() % 10_000_000L);
+    }
+}
@@ -0,0 +1,73 @@
+package com.ingemark.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ReplayWorkload implements Workload {
+
+    private final List<RequestSpec> requests;
+    private final List<Long> productIds;
+    private final ProductCodes productCodes;
+    private final AtomicLong position = new AtomicLong();
+
+    public ReplayWorkload(List<RequestSpec> requests, List<Long> productIds, ProductCodes productCodes) {
+        if (requests.isEmpty()) {
+            throw new IllegalArgumentException("Request log is empty");
+        }
+        this.requests = requests;
+        this.productIds = productIds;
+        this.productCodes = productCodes;
+    }
+
+    public static List<RequestSpec> read(Path file, ObjectMapper objectMapper) throws IOException {
+        try (var lines = Files.lines(file)) {
+            return lines.filter(line -> !line.isBlank())
+                    .map(line -> parse(line, objectMapper))
+                    .toList();
+        }
+    }
+
+    @Override
+    public RequestSpec next() {
+        // The log is replayed in order and wraps around; placeholders keep replayed creates from conflicting
+        RequestSpec request = requests.get((int) (position.getAndIncrement() % requests.size()));
+        String path = resolve(request.path());
+        String body = request.body() == null ? null : resolve(request.body());
+
+        return new RequestSpec(request.name(), request.method(), path, body, request.contentType());
+    }
+
+    private String resolve(String value) {
+        if (value.contains("${code}")) {
+            value = value.replace("${code}", productCodes.next());
+        }
+        if (value.contains("${id}") && !productIds.isEmpty()) {
+            value = value.replace("${id}", String.valueOf(productIds.get(ThreadLocalRandom.current().nextInt(productIds.size()))));
+        }
+        return value;
+    }
+
+    private static RequestSpec parse(String line, ObjectMapper objectMapper) {
+        try {
+            JsonNode node = objectMapper.readTree(line);
+            String method = node.path("method").asText("GET");
+            String path = node.path("path").asText();
+            JsonNode body = node.get("body");
+
+            String bodyText = body == null || body.isNull() ? null : body.isTextual() ? body.asText() : body.toString();
+            String contentType = node.path("contentType").asText(bodyText == null ? null : "application/json");
+            String name = node.path("name").asText(method + " " + path.replaceAll("\\?.*", "").replaceAll("/\\d+", "/{id}"));
+
+            return new RequestSpec(name, method, path, bodyText, contentType);
+        } catch (IOException exception) {
+            throw new IllegalArgumentException("Invalid request log line: " + line, exception);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.ingemark.loadtest;
+
+public record RequestSpec(String name, String method, String path, String body, String contentType) {
+
+    public static RequestSpec get(String name, String path) {
+        return new RequestSpec(name, "GET", path, null, null);
+    }
+
+    public static RequestSpec post(String name, String path, String body) {
+        return new RequestSpec(name, "POST", path, body, "application/json");
+    }
+}
@@ -0,0 +1,42 @@
+package com.ingemark.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class SyntheticWorkload implements Workload {
+    private static final String PRODUCTS_PATH = "/api/v1/products";
+
+    private final List<String> operations = new ArrayList<>();
+    private final List<Long> productIds;
+    private final ProductCodes productCodes;
+
+    public SyntheticWorkload(String mix, List<Long> productIds, ProductCodes productCodes) {
+        this.productIds = productIds;
+        this.productCodes = productCodes;
+
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            for (int i = 0; i < Integer.parseInt(parts[1]); i++) {
+                operations.add(parts[0]);
+            }
+        }
+    }
+
+    @Override
+    public RequestSpec next() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String operation = operations.get(random.nextInt(operations.size()));
+
+        return switch (operation) {
+            case "get" -> RequestSpec.get("get", PRODUCTS_PATH + "/by-id/" + productIds.get(random.nextInt(productIds.size())));
+            case "list" -> RequestSpec.get("list", PRODUCTS_PATH + "?page=" + random.nextInt(5) + "&size=20&includeTotal=false");
+            case "create" -> RequestSpec.post("create", PRODUCTS_PATH, createBody(productCodes.next()));
+            default -> throw new IllegalArgumentException("Unknown operation in mix: " + operation);
+        };
+    }
+
+    static String createBody(String code) {
+        return "{\"code\":\"" + code + "\",\"name\":\"Load test product\",\"priceInEur\":19.99,\"available\":true}";
+    }
+}
@@ -0,0 +1,52 @@
+package com.ingemark.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ThresholdCheck {
+
+    private final Double maxP99Millis;
+    private final Double maxP999Millis;
+    private final double maxErrorRate;
+    private final double maxRegression;
+
+    public ThresholdCheck(Double maxP99Millis, Double maxP999Millis, double maxErrorRate, double maxRegression) {
+        this.maxP99Millis = maxP99Millis;
+        this.maxP999Millis = maxP999Millis;
+        this.maxErrorRate = maxErrorRate;
+        this.maxRegression = maxRegression;
+    }
+
+    public List<String> violations(LoadTestResult result, LoadTestResult baseline) {
+        List<String> violations = new ArrayList<>();
+        LoadTestResult.Latency latency = result.latency();
+
+        if (result.errorRate() > maxErrorRate) {
+            violations.add(String.format("error rate %.4f exceeds %.4f", result.errorRate(), maxErrorRate));
+        }
+        if (maxP99Millis != null && latency.p99() > maxP99Millis) {
+            violations.add(String.format("p99 %.2f ms exceeds %.2f ms", latency.p99(), maxP99Millis));
+        }
+        if (maxP999Millis != null && latency.p999() > maxP999Millis) {
+            violations.add(String.format("p99.9 %.2f ms exceeds %.2f ms", latency.p999(), maxP999Millis));
+        }
+
+        if (baseline != null) {
+            checkRegression(violations, "p50", latency.p50(), baseline.latency().p50());
+            checkRegression(violations, "p99", latency.p99(), baseline.latency().p99());
+            checkRegression(violations, "p99.9", latency.p999(), baseline.latency().p999());
+            if (result.achievedRate() < baseline.achievedRate() * (1 - maxRegression)) {
+                violations.add(String.format("throughput %.1f req/s is more than %.0f%% below baseline %.1f req/s",
+                        result.achievedRate(), maxRegression * 100, baseline.achievedRate()));
+            }
+        }
+        return violations;
+    }
+
+    private void checkRegression(List<String> violations, String percentile, double current, double baseline) {
+        if (current > baseline * (1 + maxRegression)) {
+            violations.add(String.format("%s %.2f ms is more than %.0f%% above baseline %.2f ms",
+                    percentile, current, maxRegression * 100, baseline));
+        }
+    }
+}
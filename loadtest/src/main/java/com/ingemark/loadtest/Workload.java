@@ -0,0 +1,5 @@
+package com.ingemark.loadtest;
+
+public interface Workload {
+    RequestSpec next();
+}
@@ -0,0 +1,59 @@
+package com.ingemark.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ThresholdCheckTest {
+
+    @Test
+    void violations_resultWithinLimitsAndBaseline_noViolationsAreReported() {
+        //given
+        ThresholdCheck thresholdCheck = new ThresholdCheck(50.0, 200.0, 0.01, 0.10);
+        LoadTestResult baseline = result(200.0, 0, new LoadTestResult.Latency(2.0, 5.0, 20.0, 80.0, 120.0));
+        LoadTestResult current = result(199.0, 0, new LoadTestResult.Latency(2.1, 5.0, 21.0, 85.0, 300.0));
+
+        //when
+        List<String> violations = thresholdCheck.violations(current, baseline);
+
+        //then
+        assertTrue(violations.isEmpty());
+    }
+
+    @Test
+    void violations_tailLatencyRegressedPastTolerance_regressionIsReported() {
+        //given
+        ThresholdCheck thresholdCheck = new ThresholdCheck(null, null, 0.01, 0.10);
+        LoadTestResult baseline = result(200.0, 0, new LoadTestResult.Latency(2.0, 5.0, 20.0, 80.0, 120.0));
+        LoadTestResult current = result(200.0, 0, new LoadTestResult.Latency(2.0, 5.0, 20.0, 95.0, 120.0));
+
+        //when
+        List<String> violations = thresholdCheck.violations(current, baseline);
+
+        //then
+        assertEquals(1, violations.size());
+        assertTrue(violations.getFirst().startsWith("p99.9"));
+    }
+
+    @Test
+    void violations_absoluteLimitsAndErrorRateExceeded_allViolationsAreReported() {
+        //given
+        ThresholdCheck thresholdCheck = new ThresholdCheck(50.0, 200.0, 0.01, 0.10);
+        LoadTestResult current = result(200.0, 50, new LoadTestResult.Latency(2.0, 5.0, 60.0, 250.0, 400.0));
+
+        //when
+        List<String> violations = thresholdCheck.violations(current, null);
+
+        //then
+        assertEquals(3, violations.size());
+    }
+
+    private static LoadTestResult result(double achievedRate, long errors, LoadTestResult.Latency latency) {
+        long requests = 1000;
+        return new LoadTestResult("20250601-120000", "synthetic", 200, achievedRate, requests, errors,
+                (double) errors / requests, Map.of(), latency, latency, Map.of());
+    }
+}
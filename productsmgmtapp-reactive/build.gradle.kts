@@ -0,0 +1,41 @@
+tasks.getByName<org.springframework.boot.gradle.tasks.bundling.BootJar>("bootJar") {
+    enabled = true
+}
+
+tasks.getByName<Jar>("jar") {
+    enabled = true
+}
+
+
+tasks.withType<org.springframework.boot.gradle.tasks.bundling.BootJar> {
+    mainClass.set("com.ingemark.productsmgmtapp.reactive.ProductsmgmtReactiveApplication")
+}
+
+// The shared modules pull in JPA and Spring MVC for the servlet app; keep them off the reactive runtime
+configurations.all {
+    exclude(group = "org.springframework.boot", module = "spring-boot-starter-data-jpa")
+    exclude(group = "org.springdoc", module = "springdoc-openapi-starter-webmvc-ui")
+}
+
+tasks.processResources {
+    from(project(":infrastructure-persistence").file("src/main/resources")) {
+        include("db/changelog/**")
+    }
+}
+
+dependencies {
+    implementation(project(":api-rest-reactive"))
+    implementation(project(":api-rest-implementation"))
+    implementation(project(":application"))
+    implementation(project(":infrastructure-exchange"))
+    implementation(project(":infrastructure-persistence-r2dbc"))
+
+    implementation("org.springframework.boot:spring-boot-starter-webflux")
+    implementation("org.springframework.boot:spring-boot-starter-data-r2dbc")
+    implementation("org.springframework.boot:spring-boot-starter-security")
+
+    implementation("org.liquibase:liquibase-core:4.24.0")
+    implementation("org.springframework:spring-jdbc")
+    runtimeOnly("org.postgresql:postgresql")
+    runtimeOnly("com.h2database:h2")
+}
@@ -0,0 +1,26 @@
+package com.ingemark.productsmgmtapp.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
+
+// JDBC is only on the classpath for Liquibase, which connects through spring.liquibase.url
+@SpringBootApplication(exclude = DataSourceAutoConfiguration.class, scanBasePackages = {
+		"com.ingemark.productsmgmtapp.reactive",
+		"com.ingemark.api.rest.reactive",
+		"com.ingemark.api.rest.impl.mapper",
+		"com.ingemark.application.reactive",
+		"com.ingemark.application.exchange.mapper",
+		"com.ingemark.infrastructure.exchange.config",
+		"com.ingemark.infrastructure.exchange.reactive",
+		"com.ingemark.infrastructure.persistence.r2dbc"
+})
+@EnableR2dbcRepositories(basePackages = "com.ingemark.infrastructure.persistence.r2dbc.repository")
+public class ProductsmgmtReactiveApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(ProductsmgmtReactiveApplication.class, args);
+	}
+
+}
@@ -11,6 +11,10 @@ tasks.withType<org.springframework.boot.gradle.tasks.bundling.BootJar> {
     mainClass.set("com.ingemark.productsmgmtapp.ProductsmgmtApplication")
 }
 
+tasks.named<org.springframework.boot.gradle.tasks.run.BootRun>("bootRun") {
+    jvmArgs("-Djdk.tracePinnedThreads=short")
+}
+
 dependencies {
     implementation(project(":api-rest-implementation"))
     implementation(project(":infrastructure-exchange"))
@@ -19,5 +23,10 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.boot:spring-boot-starter-security")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    implementation("org.springframework.boot:spring-boot-starter-aop")
     implementation("org.springframework.retry:spring-retry")
+    implementation("com.github.ben-manes.caffeine:caffeine")
+
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")
 }
\ No newline at end of file
@@ -3,15 +3,15 @@ package com.ingemark.productsmgmtapp;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
-import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.retry.annotation.EnableRetry;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication(scanBasePackages = "com.ingemark")
 @EnableJpaRepositories(basePackages = "com.ingemark.infranstructure.persistence.repository")
 @EntityScan(basePackages = "com.ingemark.infranstructure.persistence.entity")
-@EnableCaching
 @EnableRetry
+@EnableScheduling
 public class ProductsmgmtApplication {
 
 	public static void main(String[] args) {
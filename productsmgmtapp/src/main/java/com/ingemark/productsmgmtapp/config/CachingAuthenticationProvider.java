@@ -0,0 +1,85 @@
+package com.ingemark.productsmgmtapp.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+public class CachingAuthenticationProvider implements AuthenticationProvider {
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final AuthenticationProvider delegate;
+    private final Cache<String, Authentication> verifiedCredentials;
+    private final SecretKeySpec credentialsKey;
+
+    public CachingAuthenticationProvider(AuthenticationProvider delegate, CredentialsCacheProperties properties) {
+        this.delegate = delegate;
+        this.verifiedCredentials = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTimeToLive())
+                .recordStats()
+                .build();
+
+        // Credentials are cached as an HMAC with a per-process key, so no password is kept in memory
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        this.credentialsKey = new SecretKeySpec(secret, HMAC_ALGORITHM);
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        if (authentication.getCredentials() == null) {
+            return delegate.authenticate(authentication);
+        }
+
+        String cacheKey = cacheKey(authentication.getName(), authentication.getCredentials().toString());
+        Authentication verified = verifiedCredentials.getIfPresent(cacheKey);
+
+        if (verified == null) {
+            verified = delegate.authenticate(authentication);
+            if (verified == null || !verified.isAuthenticated()) {
+                return verified;
+            }
+            verifiedCredentials.put(cacheKey, verified);
+        }
+
+        UsernamePasswordAuthenticationToken result = UsernamePasswordAuthenticationToken.authenticated(
+                verified.getPrincipal(), null, verified.getAuthorities());
+        result.setDetails(authentication.getDetails());
+
+        return result;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return delegate.supports(authentication);
+    }
+
+    public CacheStats getStats() {
+        return verifiedCredentials.stats();
+    }
+
+    private String cacheKey(String username, String password) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(credentialsKey);
+            mac.update(username.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            mac.update(password.getBytes(StandardCharsets.UTF_8));
+
+            return Base64.getEncoder().encodeToString(mac.doFinal());
+        } catch (GeneralSecurityException exception) {
+            throw new IllegalStateException("HMAC is not available", exception);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.ingemark.productsmgmtapp.config;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToLongFunction;
+
+@Component
+public class CredentialsCacheMetrics implements MeterBinder {
+
+    private final AuthenticationProvider authenticationProvider;
+
+    public CredentialsCacheMetrics(AuthenticationProvider authenticationProvider) {
+        this.authenticationProvider = authenticationProvider;
+    }
+
+    // Nothing is published when the cache is disabled and the plain DAO provider is in use
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!(authenticationProvider instanceof CachingAuthenticationProvider cachingProvider)) {
+            return;
+        }
+
+        registerRequests(registry, cachingProvider, "hit", CacheStats::hitCount);
+        registerRequests(registry, cachingProvider, "miss", CacheStats::missCount);
+        FunctionCounter.builder("credentials.cache.evictions", cachingProvider, provider -> provider.getStats().evictionCount())
+                .description("Verified credentials evicted by size or expiry")
+                .register(registry);
+    }
+
+    private static void registerRequests(MeterRegistry registry, CachingAuthenticationProvider cachingProvider, String result,
+                                         ToLongFunction<CacheStats> count) {
+        FunctionCounter.builder("credentials.cache.requests", cachingProvider,
+                        provider -> count.applyAsLong(provider.getStats()))
+                .description("Basic auth checks served from verified credentials, by result")
+                .tag("result", result)
+                .register(registry);
+    }
+}
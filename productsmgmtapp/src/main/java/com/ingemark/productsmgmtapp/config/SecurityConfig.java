@@ -3,6 +3,8 @@ package com.ingemark.productsmgmtapp.config;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -29,7 +31,8 @@ public class SecurityConfig {
                                 "/v3/api-docs/**",
                                 "/v3/api-docs.yaml",
                                 "/swagger-resources/**",
-                                "/webjars/**"
+                                "/webjars/**",
+                                "/actuator/health"
                         ).permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/v1/products/").hasRole("ADMIN")
                         .anyRequest().authenticated()
@@ -43,6 +46,19 @@ public class SecurityConfig {
 
 
 
+    @Bean
+    public AuthenticationProvider authenticationProvider(UserDetailsService users, PasswordEncoder passwordEncoder,
+                                                         CredentialsCacheProperties credentialsCacheProperties) {
+        DaoAuthenticationProvider daoAuthenticationProvider = new DaoAuthenticationProvider(passwordEncoder);
+        daoAuthenticationProvider.setUserDetailsService(users);
+
+        // BCrypt is deliberately slow, so a verified username/password pair is remembered for a short time
+        if (!credentialsCacheProperties.isEnabled()) {
+            return daoAuthenticationProvider;
+        }
+        return new CachingAuthenticationProvider(daoAuthenticationProvider, credentialsCacheProperties);
+    }
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
@@ -0,0 +1,20 @@
+package com.ingemark.productsmgmtapp.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "products.virtual-threads")
+public class VirtualThreadProperties {
+    private Duration pinningThreshold = Duration.ofMillis(20);
+
+    public Duration getPinningThreshold() {
+        return pinningThreshold;
+    }
+
+    public void setPinningThreshold(Duration pinningThreshold) {
+        this.pinningThreshold = pinningThreshold;
+    }
+}
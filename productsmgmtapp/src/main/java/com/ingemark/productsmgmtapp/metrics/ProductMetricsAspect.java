@@ -0,0 +1,51 @@
+package com.ingemark.productsmgmtapp.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+public class ProductMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    public ProductMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * com.ingemark.application.service.ProductService.*(..))"
+            + " || execution(public * com.ingemark.application.service.ProductQueryService.*(..))")
+    public Object timeServiceOperation(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("products.service", "Latency of product service operations", joinPoint);
+    }
+
+    @Around("execution(public * com.ingemark.infranstructure.persistence.repository.impl.ProductJpaRepositoryImpl.*(..))"
+            + " || execution(public * com.ingemark.infranstructure.persistence.repository.impl.ProductQueryJpaRepositoryImpl.*(..))")
+    public Object timeRepositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time("products.repository", "Latency of product repository calls", joinPoint);
+    }
+
+    private Object time(String name, String description, ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable throwable) {
+            exception = throwable.getClass().getSimpleName();
+            throw throwable;
+        } finally {
+            // Tags are limited to the method name and exception class so the series count stays bounded
+            sample.stop(Timer.builder(name)
+                    .description(description)
+                    .tag("operation", joinPoint.getSignature().getName())
+                    .tag("outcome", "none".equals(exception) ? "success" : "error")
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.ingemark.productsmgmtapp.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CachingAuthenticationProviderTest {
+
+    private PasswordEncoder passwordEncoder;
+    private CachingAuthenticationProvider authenticationProvider;
+
+    @BeforeEach
+    void setUp() {
+        passwordEncoder = spy(new BCryptPasswordEncoder(4));
+        UserDetailsService users = new InMemoryUserDetailsManager(User.builder()
+                .username("admin")
+                .password(passwordEncoder.encode("admin123"))
+                .roles("ADMIN")
+                .build());
+
+        DaoAuthenticationProvider daoAuthenticationProvider = new DaoAuthenticationProvider(passwordEncoder);
+        daoAuthenticationProvider.setUserDetailsService(users);
+
+        authenticationProvider = new CachingAuthenticationProvider(daoAuthenticationProvider, new CredentialsCacheProperties());
+    }
+
+    @Test
+    void authenticate_sameCredentialsTwice_passwordIsVerifiedOnceAndRolesAreKept() {
+        //when
+        authenticationProvider.authenticate(credentials("admin", "admin123"));
+        Authentication result = authenticationProvider.authenticate(credentials("admin", "admin123"));
+
+        //then
+        assertTrue(result.isAuthenticated());
+        assertEquals("admin", result.getName());
+        assertTrue(result.getAuthorities().stream().map(GrantedAuthority::getAuthority).anyMatch("ROLE_ADMIN"::equals));
+        verify(passwordEncoder, times(1)).matches(any(), any());
+        assertEquals(1, authenticationProvider.getStats().hitCount());
+    }
+
+    @Test
+    void bindTo_sameCredentialsTwice_hitAndMissArePublished() {
+        //given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        new CredentialsCacheMetrics(authenticationProvider).bindTo(meterRegistry);
+
+        //when
+        authenticationProvider.authenticate(credentials("admin", "admin123"));
+        authenticationProvider.authenticate(credentials("admin", "admin123"));
+
+        //then
+        assertEquals(1.0, meterRegistry.get("credentials.cache.requests").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("credentials.cache.requests").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void authenticate_wrongPasswordAfterSuccessfulLogin_isRejected() {
+        //given
+        authenticationProvider.authenticate(credentials("admin", "admin123"));
+
+        //when/then
+        assertThrows(BadCredentialsException.class,
+                () -> authenticationProvider.authenticate(credentials("admin", "wrong")));
+    }
+
+    @Test
+    void authenticate_wrongPasswordRepeated_failuresAreNotCached() {
+        //when
+        assertThrows(BadCredentialsException.class, () -> authenticationProvider.authenticate(credentials("admin", "wrong")));
+        assertThrows(BadCredentialsException.class, () -> authenticationProvider.authenticate(credentials("admin", "wrong")));
+
+        //then
+        verify(passwordEncoder, times(2)).matches(any(), any());
+    }
+
+    private UsernamePasswordAuthenticationToken credentials(String username, String password) {
+        return UsernamePasswordAuthenticationToken.unauthenticated(username, password);
+    }
+}
@@ -5,4 +5,9 @@ include("domain")
 include("application")
 include("infrastructure-persistence")
 include("infrastructure-exchange")
-include("api-rest-implementation")
\ No newline at end of file
+include("api-rest-implementation")
+include("productsmgmtapp-reactive")
+include("infrastructure-persistence-r2dbc")
+include("api-rest-reactive")
+include("benchmarks")
+include("loadtest")